@@ -0,0 +1,88 @@
+package benchmarks;
+
+import config.ApiConfig;
+import io.restassured.response.Response;
+import models.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import server.EmbeddedApiServer;
+import server.InMemoryBookstore;
+import utils.ApiRequestHelper;
+import utils.JsonArrayStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a large GET /Books payload through JsonPath and through {@link JsonArrayStream}, plus the
+ * full request round trip against the embedded server so framework overhead can be separated from server latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class BookListDeserializationBenchmark {
+
+    @Param({"200", "5000"})
+    public int bookCount;
+
+    private EmbeddedApiServer server;
+    private String booksUrl;
+    private Response booksResponse;
+    private byte[] booksBody;
+
+    @Setup(Level.Trial)
+    public void startStub() throws IOException {
+        server = new EmbeddedApiServer(0, InMemoryBookstore.seeded(bookCount, 1));
+        server.start();
+        booksUrl = server.getBaseUrl() + ApiConfig.BOOKS_ENDPOINT;
+        booksResponse = ApiRequestHelper.getRequest(booksUrl);
+        booksBody = booksResponse.asByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub() {
+        server.stop();
+    }
+
+    @Benchmark
+    public List<Book> deserializeBookList() {
+        return booksResponse.jsonPath().getList("", Book.class);
+    }
+
+    @Benchmark
+    public int streamBookList() {
+        int count = 0;
+        try (JsonArrayStream<Book> books = JsonArrayStream.of(new ByteArrayInputStream(booksBody), Book.class)) {
+            for (Book book : books) {
+                count += book.getId() > 0 ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Optional<Book> getFirstBookStreaming() {
+        Response response = ApiRequestHelper.getStreamingRequest(booksUrl);
+        try (JsonArrayStream<Book> books = JsonArrayStream.of(response, Book.class)) {
+            return books.findFirst();
+        }
+    }
+
+    @Benchmark
+    public Response getBooksRoundTrip() {
+        return ApiRequestHelper.getRequest(booksUrl);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import models.Author;
+import models.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import utils.JsonCodec;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the POST/PUT bodies the tests send: model to String with a plain mapper, and model to
+ * bytes through {@link JsonCodec}'s cached writers and pooled buffers as {@code ApiRequestHelper} does it. Run
+ * with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ModelSerializationBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Book book = Book.builder()
+            .title("Automated Testing Guide")
+            .description("A comprehensive guide to API automation testing")
+            .pageCount(350)
+            .excerpt("Learn the best practices for API testing")
+            .publishDate("2024-02-08T00:00:00")
+            .build();
+
+    private final Author author = Author.builder()
+            .firstName("John")
+            .lastName("Doe")
+            .idBook(1)
+            .build();
+
+    @Benchmark
+    public String serializeBook() throws JsonProcessingException {
+        return mapper.writeValueAsString(book);
+    }
+
+    @Benchmark
+    public String serializeAuthor() throws JsonProcessingException {
+        return mapper.writeValueAsString(author);
+    }
+
+    @Benchmark
+    public byte[] serializeBookPooled() {
+        return JsonCodec.toBytes(book);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthorPooled() {
+        return JsonCodec.toBytes(author);
+    }
+}
@@ -0,0 +1,25 @@
+package benchmarks;
+
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import utils.ApiRequestHelper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the per-request specification every helper call starts from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class RequestSpecBenchmark {
+
+    @Benchmark
+    public RequestSpecification buildRequestSpec() {
+        return ApiRequestHelper.getRequestSpec();
+    }
+}
@@ -1,50 +1,141 @@
 package base;
 
+import config.ApiConfig;
+import config.FixtureConfig;
+import config.LoggingConfig;
+import fixtures.FixtureRegistry;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+import server.EmbeddedApiServer;
+import utils.ApiRequestHelper;
+
+import java.lang.reflect.Method;
 
 public class BaseTest {
 
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
+    private static final String CLASS_RULE = "═══════════════════════════════════════════════════════════";
+    private static final String SECTION_RULE = "─────────────────────────────────────────────────────────────";
+
+    // Name of the test method running on the current thread, used to tag log lines in parallel runs
+    private static final ThreadLocal<String> currentTest = ThreadLocal.withInitial(() -> "-");
+
+    @BeforeSuite(alwaysRun = true)
+    public void startEmbeddedServer() {
+        if (ApiConfig.EMBEDDED_SERVER) {
+            ApiConfig.setBaseUrl(EmbeddedApiServer.startShared().getBaseUrl());
+        }
+        logger.info("Target API: {}", ApiConfig.getBaseUrl());
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void stopEmbeddedServer() {
+        if (FixtureConfig.CLEANUP) {
+            FixtureRegistry.getInstance().cleanUp();
+        }
+        logger.info("HTTP connection pool: {}", ApiRequestHelper.getConnectionPoolStats());
+        if (ApiRequestHelper.getResilience().isEnabled()) {
+            logger.info("Request resilience: {}", ApiRequestHelper.getResilience().getStats());
+        }
+        if (ApiRequestHelper.getResponseCache() != null) {
+            logger.info("GET response cache: {}", ApiRequestHelper.getResponseCache());
+        }
+        if (ApiRequestHelper.getCassette() != null) {
+            ApiRequestHelper.getCassette().close();
+        }
+        if (ApiConfig.EMBEDDED_SERVER) {
+            EmbeddedApiServer.stopShared();
+        }
+    }
+
     @BeforeClass
     public void setUp() {
-        logger.info("═══════════════════════════════════════════════════════════");
-        logger.info("Starting Test Class: {}", this.getClass().getSimpleName());
-        logger.info("═══════════════════════════════════════════════════════════");
-        logger.info("Test execution timestamp: {}", System.currentTimeMillis());
+        logger.info("\n{}\nStarting Test Class: {}\n{}\nTest execution timestamp: {}",
+                CLASS_RULE, this.getClass().getSimpleName(), CLASS_RULE, System.currentTimeMillis());
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void bindTestName(Method method) {
+        currentTest.set(method.getName());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void unbindTestName() {
+        currentTest.remove();
     }
 
     @AfterClass
     public void tearDown() {
-        logger.info("═══════════════════════════════════════════════════════════");
-        logger.info("Completed Test Class: {}", this.getClass().getSimpleName());
-        logger.info("═══════════════════════════════════════════════════════════");
+        logger.info("\n{}\nCompleted Test Class: {}\n{}", CLASS_RULE, this.getClass().getSimpleName(), CLASS_RULE);
     }
 
+    // Each helper emits a single log call so lines from concurrently running tests never interleave. The
+    // format/args overloads use SLF4J {} placeholders and only build the message when it will be written.
     protected void logSection(String sectionName) {
-        logger.info("\n");
-        logger.info("─────────────────────────────────────────────────────────────");
-        logger.info("TEST: {}", sectionName);
-        logger.info("─────────────────────────────────────────────────────────────");
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}]\n{}\nTEST: {}\n{}", currentTest.get(), SECTION_RULE, sectionName, SECTION_RULE);
+        }
     }
 
     protected void logStep(int stepNumber, String stepDescription) {
-        logger.info("Step {}: {}", stepNumber, stepDescription);
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] Step {}: {}", currentTest.get(), stepNumber, stepDescription);
+        }
+    }
+
+    protected void logStep(int stepNumber, String format, Object... args) {
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] Step {}: {}", currentTest.get(), stepNumber, format(format, args));
+        }
     }
 
     protected void logSuccess(String message) {
-        logger.info("✓ SUCCESS: {}", message);
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] ✓ SUCCESS: {}", currentTest.get(), message);
+        }
+    }
+
+    protected void logSuccess(String format, Object... args) {
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] ✓ SUCCESS: {}", currentTest.get(), format(format, args));
+        }
     }
 
     protected void logFailure(String message) {
-        logger.error("✗ FAILURE: {}", message);
+        logger.error("[{}] ✗ FAILURE: {}", currentTest.get(), message);
+    }
+
+    protected void logFailure(String format, Object... args) {
+        if (logger.isErrorEnabled()) {
+            logger.error("[{}] ✗ FAILURE: {}", currentTest.get(), format(format, args));
+        }
     }
 
     protected void logInfo(String message) {
-        logger.info("ℹ INFO: {}", message);
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] ℹ INFO: {}", currentTest.get(), message);
+        }
     }
-}
 
+    protected void logInfo(String format, Object... args) {
+        if (isStepLoggingEnabled()) {
+            logger.info("[{}] ℹ INFO: {}", currentTest.get(), format(format, args));
+        }
+    }
+
+    private static boolean isStepLoggingEnabled() {
+        return !LoggingConfig.QUIET && logger.isInfoEnabled();
+    }
+
+    private static String format(String format, Object[] args) {
+        return MessageFormatter.basicArrayFormat(format, args);
+    }
+}
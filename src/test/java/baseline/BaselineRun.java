@@ -0,0 +1,23 @@
+package baseline;
+
+import lombok.Value;
+import metrics.LatencyHistogram;
+
+import java.util.Map;
+
+/**
+ * Per-endpoint latency histograms of one measured run and how long the run took, from which the per-endpoint
+ * throughput follows.
+ */
+@Value
+public class BaselineRun {
+
+    long timestampMillis;
+    double elapsedSeconds;
+    Map<String, LatencyHistogram> histograms;
+
+    public double getThroughput(String endpoint) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram == null || elapsedSeconds <= 0 ? 0 : histogram.getTotalCount() / elapsedSeconds;
+    }
+}
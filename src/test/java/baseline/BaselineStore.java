@@ -0,0 +1,111 @@
+package baseline;
+
+import metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Directory of {@link BaselineRun}s, one {@code run-<timestamp>.hlog} file each, of which only the newest are kept.
+ *
+ * Each file starts with {@code #} header lines for the timestamp and elapsed time, followed by the histograms in the
+ * {@code histograms.hlog} format of {@code LatencyRecorder}: an endpoint and its encoded histogram per line.
+ */
+public class BaselineStore {
+
+    private static final String PREFIX = "run-";
+    private static final String SUFFIX = ".hlog";
+    private static final String TIMESTAMP_HEADER = "# timestamp=";
+    private static final String ELAPSED_HEADER = "# elapsedSeconds=";
+
+    private final Path directory;
+    private final int keep;
+
+    public BaselineStore(Path directory, int keep) {
+        if (keep < 1) {
+            throw new IllegalArgumentException("At least one baseline run must be kept, got " + keep);
+        }
+        this.directory = directory;
+        this.keep = keep;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The stored runs, oldest first.
+     */
+    public List<BaselineRun> load() throws IOException {
+        List<Path> files = runFiles();
+        List<BaselineRun> runs = new ArrayList<>();
+        for (Path file : files.subList(Math.max(0, files.size() - keep), files.size())) {
+            runs.add(read(file));
+        }
+        return runs;
+    }
+
+    /**
+     * Stores the run and drops the oldest runs beyond the number to keep.
+     */
+    public void save(BaselineRun run) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("%s%013d%s", PREFIX, run.getTimestampMillis(), SUFFIX));
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(temporary, StandardCharsets.UTF_8))) {
+            out.println(TIMESTAMP_HEADER + run.getTimestampMillis());
+            out.println(ELAPSED_HEADER + run.getElapsedSeconds());
+            run.getHistograms().forEach((endpoint, histogram) -> out.println(endpoint + "\t" + histogram.encode()));
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        List<Path> files = runFiles();
+        for (Path old : files.subList(0, Math.max(0, files.size() - keep))) {
+            Files.delete(old);
+        }
+    }
+
+    // Zero-padded timestamps make the name order the age order
+    private List<Path> runFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static BaselineRun read(Path file) throws IOException {
+        long timestamp = 0;
+        double elapsedSeconds = 0;
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.startsWith(TIMESTAMP_HEADER)) {
+                timestamp = Long.parseLong(line.substring(TIMESTAMP_HEADER.length()));
+            } else if (line.startsWith(ELAPSED_HEADER)) {
+                elapsedSeconds = Double.parseDouble(line.substring(ELAPSED_HEADER.length()));
+            } else {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    histograms.put(line.substring(0, tab), LatencyHistogram.decode(line.substring(tab + 1)));
+                }
+            }
+        }
+        return new BaselineRun(timestamp, elapsedSeconds, histograms);
+    }
+}
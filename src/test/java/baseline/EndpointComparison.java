@@ -0,0 +1,46 @@
+package baseline;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Latency of one endpoint in the current run against its pooled baseline, with the verdict of the
+ * {@link RegressionComparator}.
+ */
+@Value
+@Builder
+public class EndpointComparison {
+
+    public static final String REGRESSION = "regression";
+    public static final String UNCHANGED = "unchanged";
+    public static final String IMPROVEMENT = "improvement";
+    public static final String INSUFFICIENT_DATA = "insufficient data";
+
+    String endpoint;
+    String verdict;
+    long baselineCount;
+    long currentCount;
+    double baselineP50Ms;
+    double currentP50Ms;
+    double baselineP95Ms;
+    double currentP95Ms;
+    // Relative change of the median, in percent
+    double medianShiftPercent;
+    // One-sided Mann-Whitney p-value for the current run being slower than every baseline run: the largest of the
+    // p-values against each run
+    double slowerPValue;
+    // Probability that a current request is slower than a pooled baseline request (0.5 when both are alike)
+    double probabilitySlower;
+    double baselineThroughput;
+    double currentThroughput;
+
+    public boolean isRegression() {
+        return REGRESSION.equals(verdict);
+    }
+
+    public String describe() {
+        return String.format("%s: p50 %.2f -> %.2f ms (%+.1f%%), p95 %.2f -> %.2f ms, p=%.2g, P(slower)=%.2f, "
+                        + "%d vs %d samples", endpoint, baselineP50Ms, currentP50Ms, medianShiftPercent,
+                baselineP95Ms, currentP95Ms, slowerPValue, probabilitySlower, currentCount, baselineCount);
+    }
+}
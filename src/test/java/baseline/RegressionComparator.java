@@ -0,0 +1,121 @@
+package baseline;
+
+import metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decides whether an endpoint got slower with one-sided Mann-Whitney U tests computed directly from latency
+ * histograms: requests in the same bucket count as ties, and the normal approximation uses the tie correction.
+ *
+ * The current run is tested against each baseline run separately and only counts as slower when it is slower than
+ * all of them, so ordinary run-to-run variation, which pooling the baseline runs would hide, does not fail the
+ * gate. A significant result alone is not a regression either, since large samples make negligible shifts
+ * significant; the median must also have moved by a minimum percentage from the pooled baseline.
+ */
+public class RegressionComparator {
+
+    private final double alpha;
+    private final double minShiftPercent;
+    private final int minSamples;
+
+    public RegressionComparator(double alpha, double minShiftPercent, int minSamples) {
+        this.alpha = alpha;
+        this.minShiftPercent = minShiftPercent;
+        this.minSamples = minSamples;
+    }
+
+    public EndpointComparison compare(String endpoint, LatencyHistogram baseline, LatencyHistogram current) {
+        return compare(endpoint, List.of(baseline), current, 0, 0);
+    }
+
+    /**
+     * Compares the current histogram with the endpoint's histogram of each baseline run; the throughputs are carried
+     * into the result for reporting and do not affect the verdict.
+     */
+    public EndpointComparison compare(String endpoint, List<LatencyHistogram> baselineRuns, LatencyHistogram current,
+                                      double baselineThroughput, double currentThroughput) {
+        LatencyHistogram pooled = new LatencyHistogram();
+        baselineRuns.forEach(pooled::add);
+        double baselineP50 = pooled.getValueAtPercentileMillis(50);
+        double currentP50 = current.getValueAtPercentileMillis(50);
+        double shiftPercent = baselineP50 > 0 ? (currentP50 / baselineP50 - 1) * 100 : 0;
+        EndpointComparison.EndpointComparisonBuilder comparison = EndpointComparison.builder()
+                .endpoint(endpoint)
+                .baselineCount(pooled.getTotalCount())
+                .currentCount(current.getTotalCount())
+                .baselineP50Ms(baselineP50)
+                .currentP50Ms(currentP50)
+                .baselineP95Ms(pooled.getValueAtPercentileMillis(95))
+                .currentP95Ms(current.getValueAtPercentileMillis(95))
+                .medianShiftPercent(shiftPercent)
+                .baselineThroughput(baselineThroughput)
+                .currentThroughput(currentThroughput);
+
+        List<LatencyHistogram> judged = baselineRuns.stream()
+                .filter(run -> run.getTotalCount() >= minSamples)
+                .toList();
+        if (judged.isEmpty() || current.getTotalCount() < minSamples) {
+            return comparison.verdict(EndpointComparison.INSUFFICIENT_DATA)
+                    .slowerPValue(1)
+                    .probabilitySlower(0.5)
+                    .build();
+        }
+        double slowerPValue = 0;
+        double fasterPValue = 0;
+        for (LatencyHistogram run : judged) {
+            double[] test = mannWhitney(run, current);
+            slowerPValue = Math.max(slowerPValue, test[0]);
+            fasterPValue = Math.max(fasterPValue, test[1]);
+        }
+        comparison.slowerPValue(slowerPValue).probabilitySlower(mannWhitney(pooled, current)[2]);
+
+        if (slowerPValue < alpha && shiftPercent >= minShiftPercent) {
+            return comparison.verdict(EndpointComparison.REGRESSION).build();
+        }
+        if (fasterPValue < alpha && shiftPercent <= -minShiftPercent) {
+            return comparison.verdict(EndpointComparison.IMPROVEMENT).build();
+        }
+        return comparison.verdict(EndpointComparison.UNCHANGED).build();
+    }
+
+    // One-sided p-values for current being slower and faster, and the probability that it is slower
+    private static double[] mannWhitney(LatencyHistogram baseline, LatencyHistogram current) {
+        // Rank the pooled values bucket by bucket; every value in a bucket gets the bucket's average rank
+        Map<Long, long[]> buckets = new TreeMap<>();
+        baseline.forEachBucket((value, count) -> buckets.computeIfAbsent(value, key -> new long[2])[0] += count);
+        current.forEachBucket((value, count) -> buckets.computeIfAbsent(value, key -> new long[2])[1] += count);
+        double n1 = baseline.getTotalCount();
+        double n2 = current.getTotalCount();
+        double n = n1 + n2;
+        double rankSum = 0;
+        double tieCorrection = 0;
+        long ranked = 0;
+        for (long[] counts : buckets.values()) {
+            double ties = counts[0] + counts[1];
+            rankSum += counts[1] * (ranked + (ties + 1) / 2);
+            tieCorrection += ties * ties * ties - ties;
+            ranked += counts[0] + counts[1];
+        }
+        double u = rankSum - n2 * (n2 + 1) / 2;
+        double mean = n1 * n2 / 2;
+        double deviation = Math.sqrt(n1 * n2 / 12 * ((n + 1) - tieCorrection / (n * (n - 1))));
+        if (deviation == 0) {
+            return new double[] {1, 1, 0.5};
+        }
+        return new double[] {upperTail((u - mean - 0.5) / deviation), upperTail((mean - u - 0.5) / deviation),
+                u / (n1 * n2)};
+    }
+
+    // P(Z > z) for a standard normal Z, via the complementary error function (fractional error below 1.2e-7)
+    private static double upperTail(double z) {
+        double x = z / Math.sqrt(2);
+        double t = 1 / (1 + 0.5 * Math.abs(x));
+        double erfc = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587 + t * (-0.82215223
+                + t * 0.17087277)))))))));
+        return 0.5 * (x >= 0 ? erfc : 2 - erfc);
+    }
+}
@@ -0,0 +1,52 @@
+package baseline;
+
+import metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compares a measured run with each of the runs in a {@link BaselineStore} and records passing runs as new
+ * baselines. Endpoints without a baseline yet are reported as having insufficient data, so the first run
+ * against a new environment passes and becomes its baseline.
+ */
+public class RegressionGate {
+
+    private final String name;
+    private final BaselineStore store;
+    private final RegressionComparator comparator;
+
+    public RegressionGate(String name, BaselineStore store, RegressionComparator comparator) {
+        this.name = name;
+        this.store = store;
+        this.comparator = comparator;
+    }
+
+    public RegressionReport evaluate(BaselineRun current) throws IOException {
+        List<BaselineRun> runs = store.load();
+        List<EndpointComparison> comparisons = new ArrayList<>();
+        current.getHistograms().forEach((endpoint, histogram) -> {
+            List<LatencyHistogram> baselines = runs.stream()
+                    .map(run -> run.getHistograms().get(endpoint))
+                    .filter(Objects::nonNull)
+                    .toList();
+            comparisons.add(comparator.compare(endpoint, baselines, histogram, meanThroughput(runs, endpoint),
+                    current.getThroughput(endpoint)));
+        });
+        return new RegressionReport(name, runs.size(), comparisons);
+    }
+
+    public void record(BaselineRun run) throws IOException {
+        store.save(run);
+    }
+
+    private static double meanThroughput(List<BaselineRun> runs, String endpoint) {
+        return runs.stream()
+                .filter(run -> run.getHistograms().containsKey(endpoint))
+                .mapToDouble(run -> run.getThroughput(endpoint))
+                .average()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,49 @@
+package baseline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of a {@link RegressionGate} evaluation: one comparison per endpoint of the current run.
+ */
+@Value
+public class RegressionReport {
+
+    String baselineName;
+    int baselineRuns;
+    List<EndpointComparison> comparisons;
+
+    public List<EndpointComparison> getRegressions() {
+        return comparisons.stream().filter(EndpointComparison::isRegression).toList();
+    }
+
+    public boolean isPassed() {
+        return getRegressions().isEmpty();
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%nBaseline '%s' pooled from %d runs%n", baselineName, baselineRuns));
+        table.append(String.format("%-36s %8s %8s %9s %9s %8s %9s %9s %10s %9s%n", "Endpoint", "Base n", "Run n",
+                "Base p50", "Run p50", "Shift %", "Base p95", "Run p95", "p-value", "Req/s"));
+        for (EndpointComparison comparison : comparisons) {
+            table.append(String.format("%-36s %8d %8d %9.2f %9.2f %+8.1f %9.2f %9.2f %10.2g %9.1f  %s%n",
+                    comparison.getEndpoint(), comparison.getBaselineCount(), comparison.getCurrentCount(),
+                    comparison.getBaselineP50Ms(), comparison.getCurrentP50Ms(), comparison.getMedianShiftPercent(),
+                    comparison.getBaselineP95Ms(), comparison.getCurrentP95Ms(), comparison.getSlowerPValue(),
+                    comparison.getCurrentThroughput(), comparison.getVerdict()));
+        }
+        return table.toString();
+    }
+}
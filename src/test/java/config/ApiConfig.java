@@ -5,6 +5,15 @@ public class ApiConfig {
     // Base URL for FakeRestAPI
     public static final String BASE_URL = "https://fakerestapi.azurewebsites.net";
 
+    // Target selection: -Dapi.baseUrl=<url> points the suite at another host,
+    // -Dapi.embedded=true starts the in-process stand-in (server.EmbeddedApiServer) from BaseTest
+    public static final boolean EMBEDDED_SERVER = Boolean.getBoolean("api.embedded");
+    public static final int EMBEDDED_PORT = Integer.getInteger("api.embedded.port", 0);
+    public static final int EMBEDDED_BOOK_COUNT = Integer.getInteger("api.embedded.books", 200);
+    public static final int EMBEDDED_AUTHORS_PER_BOOK = Integer.getInteger("api.embedded.authorsPerBook", 3);
+
+    private static volatile String baseUrl = System.getProperty("api.baseUrl", BASE_URL);
+
     // API Versions
     public static final String API_V1 = "/api/v1";
 
@@ -20,15 +29,70 @@ public class ApiConfig {
     public static final int HTTP_404_NOT_FOUND = 404;
     public static final int HTTP_500_INTERNAL_SERVER_ERROR = 500;
 
-    // Timeouts (in milliseconds)
-    public static final long REQUEST_TIMEOUT = 5000;
+    // Timeouts (in milliseconds); the request timeout bounds each attempt, retries included
+    public static final long REQUEST_TIMEOUT = Long.getLong("api.timeoutMs", 5000);
     public static final long CONNECTION_TIMEOUT = 5000;
 
+    // Connection pool (shared keep-alive client used by ApiRequestHelper)
+    public static final int MAX_CONNECTIONS_PER_ROUTE = Integer.getInteger("api.pool.maxPerRoute", 50);
+    public static final int MAX_CONNECTIONS_TOTAL = Integer.getInteger("api.pool.maxTotal", 200);
+    public static final long IDLE_CONNECTION_TIMEOUT = Long.getLong("api.pool.idleTimeoutMs", 30000);
+    public static final long CONNECTION_TIME_TO_LIVE = Long.getLong("api.pool.timeToLiveMs", 300000);
+
+    // Upper bound on in-flight requests issued by utils.ConcurrentRequestExecutor
+    public static final int MAX_CONCURRENT_REQUESTS = Integer.getInteger("api.concurrency.max", MAX_CONNECTIONS_PER_ROUTE);
+
+    // Opt-in GET response cache (utils.ResponseCache): -Dapi.cache.enabled=true
+    public static final boolean RESPONSE_CACHE_ENABLED = Boolean.getBoolean("api.cache.enabled");
+    public static final long RESPONSE_CACHE_TTL = Long.getLong("api.cache.ttlMs", 30000);
+    public static final int RESPONSE_CACHE_MAX_ENTRIES = Integer.getInteger("api.cache.maxEntries", 256);
+
+    // Request resilience (utils.RequestResilience), all off by default. Idempotent requests (GET, PUT, DELETE) that
+    // failed with a transport error, 429 or 5xx are retried up to api.retry.maxAttempts attempts in total, after
+    // exponential backoff with full jitter
+    public static final int RETRY_MAX_ATTEMPTS = Integer.getInteger("api.retry.maxAttempts", 1);
+    public static final long RETRY_BASE_DELAY = Long.getLong("api.retry.baseDelayMs", 100);
+    public static final long RETRY_MAX_DELAY = Long.getLong("api.retry.maxDelayMs", 2000);
+    // A GET still unanswered past this latency percentile of its endpoint is sent a second time and the first
+    // usable response wins; 0 disables hedging. At most api.hedge.budget of an endpoint's requests are hedged.
+    public static final double HEDGE_PERCENTILE = Double.parseDouble(System.getProperty("api.hedge.percentile", "0"));
+    public static final int HEDGE_MIN_SAMPLES = Integer.getInteger("api.hedge.minSamples", 50);
+    public static final long HEDGE_MIN_DELAY = Long.getLong("api.hedge.minDelayMs", 10);
+    public static final double HEDGE_BUDGET = Double.parseDouble(System.getProperty("api.hedge.budget", "0.1"));
+    // Per-endpoint circuit breaker: opens after this many consecutive failures (0 disables it) and lets one trial
+    // request through after api.breaker.openMs
+    public static final int BREAKER_FAILURES = Integer.getInteger("api.breaker.failures", 0);
+    public static final long BREAKER_OPEN_TIME = Long.getLong("api.breaker.openMs", 5000);
+
+    // Record/replay (replay.Cassette): -Dapi.cassette.mode=record saves every exchange under api.cassette.dir,
+    // -Dapi.cassette.mode=replay answers from it without touching the network
+    public static final String CASSETTE_MODE = System.getProperty("api.cassette.mode", "off");
+    public static final String CASSETTE_DIR = System.getProperty("api.cassette.dir", "src/test/resources/cassettes");
+
+    // JSON serialization (utils.JsonCodec): bytecode-generating Jackson module to register when on the classpath,
+    // one of auto (Blackbird, else Afterburner), blackbird, afterburner or none
+    public static final String JSON_MODULE = System.getProperty("api.json.module", "auto");
+    // Reusable serialization buffers; larger buffers are dropped instead of pooled
+    public static final int JSON_BUFFER_POOL_SIZE = Integer.getInteger("api.json.bufferPoolSize", 64);
+    public static final int JSON_BUFFER_MAX_POOLED_BYTES = Integer.getInteger("api.json.bufferMaxPooledBytes", 65536);
+
+    // OpenAPI document the contract cases (contract.ContractCaseGenerator) are generated from: a file path or a
+    // test classpath resource
+    public static final String OPENAPI_SPEC = System.getProperty("api.openapi.spec", "openapi/fakerestapi.json");
+
     // Content Type
     public static final String CONTENT_TYPE_JSON = "application/json";
 
+    public static String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public static void setBaseUrl(String url) {
+        baseUrl = url;
+    }
+
     public static String getEndpointURL(String endpoint) {
-        return BASE_URL + endpoint;
+        return getBaseUrl() + endpoint;
     }
 
     public static String getBooksEndpointURL() {
@@ -0,0 +1,24 @@
+package config;
+
+public class BaselineConfig {
+
+    // Performance regression gate (testng-perf-gate.xml / -Pperf-gate): per-endpoint latency of a fixed workload is
+    // compared with the runs stored under perf.baseline.dir/<name>; the name defaults to the target host so
+    // baselines of different environments never mix
+    public static final String DIR = System.getProperty("perf.baseline.dir", ".perf/baselines");
+    public static final String NAME = System.getProperty("perf.baseline.name", "");
+    // Passing runs are stored as new baselines; only the most recent ones are kept and pooled for the comparison
+    public static final boolean UPDATE = Boolean.parseBoolean(System.getProperty("perf.baseline.update", "true"));
+    public static final int RUNS = Integer.getInteger("perf.baseline.runs", 5);
+
+    // Requests per endpoint, sent round-robin across the endpoints after the warm-up requests
+    public static final int SAMPLES = Integer.getInteger("perf.gate.samples", 200);
+    public static final int WARMUP = Integer.getInteger("perf.gate.warmup", 20);
+    // An endpoint regresses when it is slower with one-sided Mann-Whitney p below alpha and its median moved by at
+    // least the minimum shift; endpoints with fewer samples on either side are not judged
+    public static final double ALPHA = Double.parseDouble(System.getProperty("perf.gate.alpha", "0.01"));
+    public static final double MIN_SHIFT_PERCENT =
+            Double.parseDouble(System.getProperty("perf.gate.minShiftPercent", "10"));
+    public static final int MIN_SAMPLES = Integer.getInteger("perf.gate.minSamples", 30);
+    public static final String REPORT_DIR = System.getProperty("perf.gate.reportDir", "target/perf-gate");
+}
@@ -0,0 +1,53 @@
+package config;
+
+public class ExecutionConfig {
+
+    // Parallel execution: -Dtest.parallel=none|methods|classes|tests|instances, -Dtest.threadCount=<n>
+    public static final String PARALLEL_MODE = System.getProperty("test.parallel", "");
+    public static final int THREAD_COUNT = Integer.getInteger("test.threadCount",
+            Runtime.getRuntime().availableProcessors() * 2);
+
+    // Latency histograms and the OpenMetrics export written at the end of each suite
+    public static final String METRICS_DIR = System.getProperty("metrics.dir", "target/latency");
+    // Live OpenMetrics scrape endpoint while the suite runs: -Dmetrics.http.port=<port> (0 picks a free port)
+    public static final int METRICS_HTTP_PORT = Integer.getInteger("metrics.http.port", -1);
+
+    // Historical per-test durations, used to balance shards and order parallel runs; updated at the end of every
+    // suite unless -Dperf.durations.update=false (shard workers report theirs to the coordinator instead)
+    public static final String DURATIONS_FILE = System.getProperty("perf.durations.file", ".perf/durations.properties");
+    public static final boolean UPDATE_DURATIONS =
+            Boolean.parseBoolean(System.getProperty("perf.durations.update", "true"));
+    // Shards plan from the durations, so a sharded run needs the file named explicitly and identical on every host
+    public static final boolean DURATIONS_FILE_GIVEN = System.getProperty("perf.durations.file") != null;
+
+    // Parallel runs start independent tests longest first by their historical duration
+    // (listeners.DurationOrderInterceptor); -Dtest.durationOrder=false keeps the suite's own order
+    public static final boolean DURATION_ORDER =
+            Boolean.parseBoolean(System.getProperty("test.durationOrder", "true"));
+
+    // Sharded execution: -Dshard.count=<n> -Dshard.index=<i> runs only shard i of the suite
+    // (listeners.ShardInterceptor); the coordinator (-Pshard) starts shard.workers local worker JVMs for
+    // shard.suite and merges their results
+    public static final int SHARD_COUNT = Integer.getInteger("shard.count", 1);
+    public static final int SHARD_INDEX = Integer.getInteger("shard.index", 0);
+    public static final int SHARD_WORKERS = Integer.getInteger("shard.workers",
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
+    public static final String SHARD_SUITE = System.getProperty("shard.suite", "src/test/resources/testng.xml");
+    public static final String SHARD_DIR = System.getProperty("shard.dir", "target/shards");
+    // Comma-separated result directories of workers that ran on other hosts; merged instead of starting workers
+    public static final String SHARD_MERGE_DIRS = System.getProperty("shard.mergeDirs", "");
+    public static final String ALLURE_RESULTS_DIR = System.getProperty("allure.results.directory", "allure-results");
+
+    // Binary result journal (listeners.ResultJournalListener): results and requests are appended to one file in
+    // journal.dir during the run, and exported as a summary plus, unless -Djournal.allure=false, Allure results
+    public static final String JOURNAL_DIR = System.getProperty("journal.dir", "target/journal");
+    public static final boolean JOURNAL_ALLURE = Boolean.parseBoolean(System.getProperty("journal.allure", "true"));
+
+    public static boolean isSharded() {
+        return SHARD_COUNT > 1;
+    }
+
+    public static boolean isParallelModeOverridden() {
+        return !PARALLEL_MODE.isBlank();
+    }
+}
@@ -0,0 +1,10 @@
+package config;
+
+public class FixtureConfig {
+
+    // Records created through ApiRequestHelper are deleted at the end of the suite unless -Dfixtures.cleanup=false
+    public static final boolean CLEANUP = Boolean.parseBoolean(System.getProperty("fixtures.cleanup", "true"));
+    // Bulk provisioning and teardown: records per batch and in-flight requests per batch
+    public static final int BATCH_SIZE = Integer.getInteger("fixtures.batchSize", 200);
+    public static final int CONCURRENCY = Integer.getInteger("fixtures.concurrency", ApiConfig.MAX_CONCURRENT_REQUESTS);
+}
@@ -0,0 +1,33 @@
+package config;
+
+public class LoadConfig {
+
+    // Load mode (testng-load.xml / -Pload)
+    public static final int VIRTUAL_USERS = Integer.getInteger("load.users", 10);
+    public static final long DURATION_SECONDS = Long.getLong("load.durationSeconds", 30);
+    // Total scenario iterations across all users; 0 runs for the configured duration instead
+    public static final long ITERATIONS = Long.getLong("load.iterations", 0);
+    public static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+    // Comma-separated Class.method references into the tests package
+    public static final String SCENARIOS = System.getProperty("load.scenarios",
+            "books.BooksHappyPathTest.testGetAllBooks,"
+                    + "books.BooksHappyPathTest.testGetBookById,"
+                    + "books.BooksHappyPathTest.testCreateNewBook,"
+                    + "books.BooksHappyPathTest.testUpdateBook,"
+                    + "authors.AuthorsHappyPathTest.testCreateNewAuthor,"
+                    + "authors.AuthorsHappyPathTest.testUpdateAuthor");
+    // Open-model runs: arrivals per second ramp linearly from start to end over the duration, whatever the latency
+    public static final double ARRIVAL_START_RATE =
+            Double.parseDouble(System.getProperty("load.rate.start", "50"));
+    public static final double ARRIVAL_END_RATE =
+            Double.parseDouble(System.getProperty("load.rate.end", String.valueOf(ARRIVAL_START_RATE)));
+    public static final long ARRIVAL_DURATION_SECONDS = Long.getLong("load.rate.durationSeconds", 30);
+    public static final int ARRIVAL_MAX_CONCURRENCY = Integer.getInteger("load.rate.maxConcurrency", 64);
+    public static final long ARRIVAL_SEED = Long.getLong("load.rate.seed", 42);
+    // Comma-separated Class.method:weight references into the tests package
+    public static final String ARRIVAL_MIX = System.getProperty("load.rate.mix",
+            "books.BooksHappyPathTest.testGetAllBooks:80,"
+                    + "books.BooksHappyPathTest.testCreateNewBook:15,"
+                    + "authors.AuthorsHappyPathTest.testDeleteAuthor:5");
+    public static final String REPORT_DIR = System.getProperty("load.reportDir", "target/load");
+}
@@ -0,0 +1,11 @@
+package config;
+
+public class LoggingConfig {
+
+    // Quiet/perf mode (-Pquiet, -Pload): skips per-step and per-request log decoration entirely. Read once into a
+    // static final so the JIT drops the disabled branches from the request path.
+    public static final boolean QUIET = Boolean.getBoolean("log.quiet");
+    // Response body logging in ApiRequestHelper.logResponse: every Nth call (0 disables), at most N bytes each
+    public static final int BODY_SAMPLE_EVERY = Integer.getInteger("log.body.sampleEvery", 1);
+    public static final int BODY_MAX_BYTES = Integer.getInteger("log.body.maxBytes", 2048);
+}
@@ -0,0 +1,40 @@
+package config;
+
+public class SoakConfig {
+
+    // Soak mode (testng-soak.xml / -Psoak): CRUD scenarios looped for hours at a fixed request rate
+    public static final long DURATION_SECONDS = Long.getLong("soak.durationSeconds", 7200);
+    public static final int VIRTUAL_USERS = Integer.getInteger("soak.users", 4);
+    public static final double REQUESTS_PER_SECOND =
+            Double.parseDouble(System.getProperty("soak.requestsPerSecond", "20"));
+    // Latency is sampled per interval and compared over a sliding window of intervals against the baseline window,
+    // which starts after the warm-up intervals
+    public static final long INTERVAL_SECONDS = Long.getLong("soak.intervalSeconds", 10);
+    public static final int WINDOW_INTERVALS = Integer.getInteger("soak.windowIntervals", 6);
+    public static final int WARMUP_INTERVALS = Integer.getInteger("soak.warmupIntervals", 1);
+    public static final double MAX_P99_DRIFT_PERCENT =
+            Double.parseDouble(System.getProperty("soak.maxP99DriftPercent", "50"));
+    // Endpoints with fewer samples in a window are not checked for drift
+    public static final int MIN_WINDOW_SAMPLES = Integer.getInteger("soak.minWindowSamples", 50);
+    // Client resource growth from the baseline window to the last window that counts as a leak
+    public static final double MAX_HEAP_GROWTH_PERCENT =
+            Double.parseDouble(System.getProperty("soak.maxHeapGrowthPercent", "50"));
+    // Heap growth below this is startup ramp-up on a small heap rather than a leak
+    public static final int MIN_HEAP_GROWTH_MB = Integer.getInteger("soak.minHeapGrowthMb", 64);
+    public static final int MAX_THREAD_GROWTH = Integer.getInteger("soak.maxThreadGrowth", 10);
+    public static final int MAX_SOCKET_GROWTH = Integer.getInteger("soak.maxSocketGrowth", 10);
+    public static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("soak.maxErrorRate", "0.01"));
+    // Comma-separated Class.method references into the tests package
+    public static final String SCENARIOS = System.getProperty("soak.scenarios",
+            "books.BooksHappyPathTest.testGetAllBooks,"
+                    + "books.BooksHappyPathTest.testGetBookById,"
+                    + "books.BooksHappyPathTest.testCreateNewBook,"
+                    + "books.BooksHappyPathTest.testUpdateBook,"
+                    + "books.BooksHappyPathTest.testDeleteBook,"
+                    + "authors.AuthorsHappyPathTest.testGetAllAuthors,"
+                    + "authors.AuthorsHappyPathTest.testGetAuthorById,"
+                    + "authors.AuthorsHappyPathTest.testCreateNewAuthor,"
+                    + "authors.AuthorsHappyPathTest.testUpdateAuthor,"
+                    + "authors.AuthorsHappyPathTest.testDeleteAuthor");
+    public static final String REPORT_DIR = System.getProperty("soak.reportDir", "target/soak");
+}
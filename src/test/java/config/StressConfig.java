@@ -0,0 +1,20 @@
+package config;
+
+public class StressConfig {
+
+    // Large-payload stress mode (testng-stress.xml / -Pstress): comma-separated sizes in bytes of each large text
+    // field of a single Book or Author (description and excerpt, first and last name)
+    public static final String FIELD_SIZES = System.getProperty("stress.fieldSizes", "1048576,4194304,16777216");
+    // Comma-separated element counts of the Book and Author arrays, and the text size of each element's fields
+    public static final String ARRAY_COUNTS = System.getProperty("stress.arrayCounts", "1000,10000");
+    public static final int ARRAY_FIELD_SIZE = Integer.getInteger("stress.arrayFieldSize", 256);
+    // Measured requests per payload, after one warm-up request
+    public static final int REPETITIONS = Integer.getInteger("stress.repetitions", 3);
+    public static final long SEED = Long.getLong("stress.seed", 42);
+    // Per request; a 32 MB body travels both ways on a slow link
+    public static final long TIMEOUT_MS = Long.getLong("stress.timeoutMs", 120_000);
+    // Client heap allocated per request, in bytes per payload byte; streaming both bodies costs about 2
+    public static final double MAX_ALLOCATION_PER_BYTE =
+            Double.parseDouble(System.getProperty("stress.maxAllocationPerByte", "4.0"));
+    public static final String REPORT_DIR = System.getProperty("stress.reportDir", "target/stress");
+}
@@ -0,0 +1,56 @@
+package contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * One operation of an {@link OpenApiSpec}: a method on a path template, its path parameters and the request and
+ * response schemas it documents. Schemas are kept as they appear in the spec, {@code $ref}s included.
+ */
+@Value
+@Builder
+public class ApiOperation {
+
+    String method;
+    String path;
+    String tag;
+    // Path parameter name to its resolved schema, in declaration order
+    Map<String, JsonNode> pathParameters;
+    JsonNode requestSchema;
+    boolean requestBodyRequired;
+    // Documented status code to its response body schema (null for responses without a JSON body)
+    Map<Integer, JsonNode> responses;
+
+    public String getName() {
+        return method + " " + path;
+    }
+
+    public boolean hasRequestBody() {
+        return requestSchema != null;
+    }
+
+    public boolean documents(int statusCode) {
+        return responses.containsKey(statusCode);
+    }
+
+    public Set<Integer> getSuccessStatuses() {
+        return responses.keySet().stream()
+                .filter(status -> status >= 200 && status < 300)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * The path of the collection an item path such as {@code /Books/{id}} belongs to, or {@code null} when the
+     * path does not end with a parameter.
+     */
+    public String getCollectionPath() {
+        int separator = path.lastIndexOf('/');
+        return separator > 0 && path.endsWith("}") ? path.substring(0, separator) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package contract;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One generated request against an {@link ApiOperation} and the status codes the contract allows for it.
+ *
+ * Cases that change or remove a record get a fixture: a record is first created through the collection's POST
+ * and its {@code id} fills {@link #getFixtureParameter()}, so shared data is never modified.
+ */
+@Value
+@Builder
+public class ContractCase {
+
+    public static final String HAPPY = "happy";
+    public static final String BOUNDARY = "boundary";
+    public static final String NEGATIVE = "negative";
+
+    String name;
+    String kind;
+    ApiOperation operation;
+    Map<String, String> pathValues;
+    // Raw JSON request body, sent as-is; null sends no body
+    String body;
+    Set<Integer> expectedStatuses;
+    String fixturePath;
+    String fixtureBody;
+    String fixtureParameter;
+
+    public boolean needsFixture() {
+        return fixturePath != null;
+    }
+
+    // Data provider rows are labelled with this in TestNG and Allure reports
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,304 @@
+package contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives {@link ContractCase}s from every operation of an {@link OpenApiSpec}, so coverage grows with the spec
+ * rather than with hand-written tests:
+ * <ul>
+ *   <li>happy: schema-valid path parameters and body built from the spec's examples, expecting a documented
+ *   2xx response;</li>
+ *   <li>boundary: one body property at a time set to an edge the schema still allows (int32 limits, zero, -1,
+ *   empty, null and very long strings, the first and last representable date-time), also expecting 2xx;</li>
+ *   <li>negative: a non-numeric path ID, an ID that does not exist, a string in a numeric property, a missing
+ *   body and values just past declared bounds, each generated only when the operation documents the 4xx
+ *   response that should come back.</li>
+ * </ul>
+ */
+public class ContractCaseGenerator {
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private static final int LONG_STRING_LENGTH = 1000;
+    private static final String MIN_DATE_TIME = "0001-01-01T00:00:00";
+    private static final String MAX_DATE_TIME = "9999-12-31T23:59:59";
+    private static final String DEFAULT_DATE_TIME = "2024-02-08T00:00:00";
+    private static final String INVALID_ID = "abc";
+    private static final String NOT_A_NUMBER = "not-a-number";
+
+    private final OpenApiSpec spec;
+    private final Map<String, ApiOperation> creators = new LinkedHashMap<>();
+
+    public ContractCaseGenerator(OpenApiSpec spec) {
+        this.spec = spec;
+        for (ApiOperation operation : spec.getOperations()) {
+            if ("POST".equals(operation.getMethod()) && operation.hasRequestBody()
+                    && operation.getPathParameters().isEmpty()) {
+                creators.put(operation.getPath(), operation);
+            }
+        }
+    }
+
+    public List<ContractCase> generate() {
+        List<ContractCase> cases = new ArrayList<>();
+        spec.getOperations().forEach(operation -> cases.addAll(generate(operation)));
+        return cases;
+    }
+
+    public List<ContractCase> generate(ApiOperation operation) {
+        List<ContractCase> cases = new ArrayList<>();
+        Set<Integer> success = operation.getSuccessStatuses();
+        if (success.isEmpty()) {
+            return cases;
+        }
+        Map<String, String> pathValues = samplePathValues(operation);
+        ObjectNode body = operation.hasRequestBody() ? sampleBody(operation.getRequestSchema()) : null;
+        ApiOperation creator = fixtureCreator(operation);
+
+        ContractCase.ContractCaseBuilder happy = ContractCase.builder()
+                .name(operation.getName())
+                .kind(ContractCase.HAPPY)
+                .operation(operation)
+                .pathValues(pathValues)
+                .body(body == null ? null : body.toString())
+                .expectedStatuses(success);
+        if (creator != null) {
+            happy.fixturePath(creator.getPath())
+                    .fixtureBody(sampleBody(creator.getRequestSchema()).toString())
+                    .fixtureParameter(lastPathParameter(operation));
+        }
+        cases.add(happy.build());
+
+        if (body != null && operation.getPathParameters().isEmpty()) {
+            cases.addAll(bodyCases(operation, pathValues, body, success));
+        }
+        if (operation.documents(400)) {
+            cases.addAll(badRequestCases(operation, pathValues, body));
+        }
+        if (operation.documents(404) && !operation.getPathParameters().isEmpty() && creator == null) {
+            Map<String, String> unknown = new LinkedHashMap<>(pathValues);
+            unknown.put(lastPathParameter(operation), String.valueOf(Integer.MAX_VALUE));
+            cases.add(negative(operation, "unknown " + lastPathParameter(operation) + "=" + Integer.MAX_VALUE,
+                    unknown, body == null ? null : body.toString(), 404));
+        }
+        return cases;
+    }
+
+    // Boundary values the schema allows, and values past declared bounds, one property at a time
+    private List<ContractCase> bodyCases(ApiOperation operation, Map<String, String> pathValues, ObjectNode body,
+                                         Set<Integer> success) {
+        List<ContractCase> cases = new ArrayList<>();
+        JsonNode schema = spec.resolve(operation.getRequestSchema());
+        Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            JsonNode propertySchema = spec.resolve(property.getValue());
+            if (propertySchema.path("readOnly").asBoolean(false)) {
+                continue;
+            }
+            for (JsonNode value : allowedEdges(propertySchema)) {
+                cases.add(ContractCase.builder()
+                        .name(operation.getName() + " " + property.getKey() + "=" + label(value))
+                        .kind(ContractCase.BOUNDARY)
+                        .operation(operation)
+                        .pathValues(pathValues)
+                        .body(body.deepCopy().set(property.getKey(), value).toString())
+                        .expectedStatuses(success)
+                        .build());
+            }
+            if (operation.documents(400)) {
+                for (JsonNode value : violatingEdges(propertySchema)) {
+                    cases.add(negative(operation, property.getKey() + "=" + label(value), pathValues,
+                            body.deepCopy().set(property.getKey(), value).toString(), 400));
+                }
+            }
+        }
+        return cases;
+    }
+
+    private List<ContractCase> badRequestCases(ApiOperation operation, Map<String, String> pathValues,
+                                               ObjectNode body) {
+        List<ContractCase> cases = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> parameter : operation.getPathParameters().entrySet()) {
+            if (isNumeric(parameter.getValue())) {
+                Map<String, String> invalid = new LinkedHashMap<>(pathValues);
+                invalid.put(parameter.getKey(), INVALID_ID);
+                cases.add(negative(operation, parameter.getKey() + "=" + INVALID_ID, invalid,
+                        body == null ? null : body.toString(), 400));
+            }
+        }
+        if (body == null) {
+            return cases;
+        }
+        if (operation.isRequestBodyRequired()) {
+            cases.add(negative(operation, "without body", pathValues, "", 400));
+        }
+        Iterator<Map.Entry<String, JsonNode>> properties =
+                spec.resolve(operation.getRequestSchema()).path("properties").fields();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            JsonNode propertySchema = spec.resolve(property.getValue());
+            if (isNumeric(propertySchema) && !propertySchema.path("readOnly").asBoolean(false)) {
+                cases.add(negative(operation, property.getKey() + " as string", pathValues,
+                        body.deepCopy().put(property.getKey(), NOT_A_NUMBER).toString(), 400));
+                // One type mismatch per operation is enough to show the body is validated
+                break;
+            }
+        }
+        return cases;
+    }
+
+    private ContractCase negative(ApiOperation operation, String variation, Map<String, String> pathValues,
+                                  String body, int expectedStatus) {
+        return ContractCase.builder()
+                .name(operation.getName() + " " + variation)
+                .kind(ContractCase.NEGATIVE)
+                .operation(operation)
+                .pathValues(pathValues)
+                .body(body)
+                .expectedStatuses(Set.of(expectedStatus))
+                .build();
+    }
+
+    private List<JsonNode> allowedEdges(JsonNode schema) {
+        List<JsonNode> edges = new ArrayList<>();
+        switch (schema.path("type").asText()) {
+            case "integer" -> {
+                long min = schema.has("minimum") ? schema.get("minimum").asLong() : Integer.MIN_VALUE;
+                long max = schema.has("maximum") ? schema.get("maximum").asLong() : Integer.MAX_VALUE;
+                Set<Long> values = new LinkedHashSet<>(List.of(min, -1L, 0L, max));
+                values.stream().filter(value -> value >= min && value <= max).forEach(value -> edges.add(
+                        "int32".equals(schema.path("format").asText())
+                                ? JSON.numberNode(value.intValue()) : JSON.numberNode(value)));
+            }
+            case "string" -> {
+                if (schema.has("enum")) {
+                    schema.get("enum").forEach(edges::add);
+                } else if ("date-time".equals(schema.path("format").asText())) {
+                    edges.add(JSON.textNode(MIN_DATE_TIME));
+                    edges.add(JSON.textNode(MAX_DATE_TIME));
+                } else {
+                    int minLength = schema.path("minLength").asInt(0);
+                    int maxLength = schema.path("maxLength").asInt(LONG_STRING_LENGTH);
+                    edges.add(JSON.textNode("a".repeat(minLength)));
+                    edges.add(JSON.textNode("a".repeat(maxLength)));
+                }
+                if (schema.path("nullable").asBoolean(false)) {
+                    edges.add(JSON.nullNode());
+                }
+            }
+            default -> {
+                // Other types have no edges worth a request of their own
+            }
+        }
+        return edges;
+    }
+
+    private List<JsonNode> violatingEdges(JsonNode schema) {
+        List<JsonNode> edges = new ArrayList<>();
+        switch (schema.path("type").asText()) {
+            case "integer", "number" -> {
+                if (schema.has("minimum")) {
+                    edges.add(JSON.numberNode(schema.get("minimum").asLong() - 1));
+                }
+                if (schema.has("maximum")) {
+                    edges.add(JSON.numberNode(schema.get("maximum").asLong() + 1));
+                }
+            }
+            case "string" -> {
+                if (schema.path("minLength").asInt(0) > 0) {
+                    edges.add(JSON.textNode("a".repeat(schema.get("minLength").asInt() - 1)));
+                }
+                if (schema.has("maxLength")) {
+                    edges.add(JSON.textNode("a".repeat(schema.get("maxLength").asInt() + 1)));
+                }
+            }
+            default -> {
+                // Bounds are only declared on numbers and strings
+            }
+        }
+        return edges;
+    }
+
+    private Map<String, String> samplePathValues(ApiOperation operation) {
+        Map<String, String> values = new LinkedHashMap<>();
+        operation.getPathParameters().forEach((name, schema) -> values.put(name, sampleValue(name, schema).asText()));
+        return values;
+    }
+
+    /**
+     * A request body with a sample for every writable property, taken from the schema's examples where given.
+     */
+    public ObjectNode sampleBody(JsonNode rawSchema) {
+        JsonNode schema = spec.resolve(rawSchema);
+        ObjectNode body = JSON.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            JsonNode propertySchema = spec.resolve(property.getValue());
+            if (!propertySchema.path("readOnly").asBoolean(false)) {
+                body.set(property.getKey(), sampleValue(property.getKey(), propertySchema));
+            }
+        }
+        return body;
+    }
+
+    private JsonNode sampleValue(String name, JsonNode rawSchema) {
+        JsonNode schema = spec.resolve(rawSchema);
+        if (schema.has("example")) {
+            return schema.get("example");
+        }
+        if (schema.has("enum")) {
+            return schema.get("enum").get(0);
+        }
+        return switch (schema.path("type").asText(schema.has("properties") ? "object" : "string")) {
+            case "integer" -> JSON.numberNode(schema.path("minimum").asLong(1));
+            case "number" -> JSON.numberNode(schema.path("minimum").asDouble(1));
+            case "boolean" -> JSON.booleanNode(true);
+            case "array" -> {
+                ArrayNode items = JSON.arrayNode();
+                yield items.add(sampleValue(name, schema.path("items")));
+            }
+            case "object" -> sampleBody(schema);
+            default -> JSON.textNode("date-time".equals(schema.path("format").asText())
+                    ? DEFAULT_DATE_TIME : "Sample " + name);
+        };
+    }
+
+    // PUT, PATCH and DELETE on an item get a record of their own when the spec documents how to create one
+    private ApiOperation fixtureCreator(ApiOperation operation) {
+        if ("GET".equals(operation.getMethod()) || "POST".equals(operation.getMethod())
+                || operation.getCollectionPath() == null) {
+            return null;
+        }
+        return creators.get(operation.getCollectionPath());
+    }
+
+    private static String lastPathParameter(ApiOperation operation) {
+        String path = operation.getPath();
+        return path.substring(path.lastIndexOf('{') + 1, path.length() - 1);
+    }
+
+    private static boolean isNumeric(JsonNode schema) {
+        String type = schema.path("type").asText();
+        return "integer".equals(type) || "number".equals(type);
+    }
+
+    private static String label(JsonNode value) {
+        if (value.isTextual() && value.asText().length() > 20) {
+            return "<" + value.asText().length() + " chars>";
+        }
+        return value.isTextual() ? "'" + value.asText() + "'" : value.toString();
+    }
+}
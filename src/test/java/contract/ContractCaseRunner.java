@@ -0,0 +1,93 @@
+package contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import config.ApiConfig;
+import io.restassured.response.Response;
+import perf.LoadScenario;
+import utils.ApiRequestHelper;
+import utils.JsonCodec;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends {@link ContractCase}s through {@link ApiRequestHelper}, so they share the pooled client, metrics and
+ * fixture cleanup of the hand-written tests, and checks each response against the spec.
+ */
+public class ContractCaseRunner {
+
+    private final SchemaValidator validator;
+
+    public ContractCaseRunner(OpenApiSpec spec) {
+        this.validator = new SchemaValidator(spec);
+    }
+
+    public ContractResult run(ContractCase contractCase) {
+        Map<String, String> pathValues = new LinkedHashMap<>(contractCase.getPathValues());
+        if (contractCase.needsFixture()) {
+            pathValues.put(contractCase.getFixtureParameter(), createFixture(contractCase));
+        }
+        ApiOperation operation = contractCase.getOperation();
+        String url = ApiConfig.getEndpointURL(expand(operation.getPath(), pathValues));
+        Response response = send(operation.getMethod(), url, contractCase.getBody());
+
+        int statusCode = response.getStatusCode();
+        JsonNode schema = operation.getResponses().get(statusCode);
+        byte[] body = response.asByteArray();
+        if (schema == null || body.length == 0) {
+            return new ContractResult(contractCase, statusCode, List.of());
+        }
+        try {
+            return new ContractResult(contractCase, statusCode,
+                    validator.validate(JsonCodec.mapper().readTree(body), schema));
+        } catch (IOException e) {
+            return new ContractResult(contractCase, statusCode, List.of("/: response is not JSON: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * A load scenario that runs the case and fails when the response breaks the contract.
+     */
+    public LoadScenario toLoadScenario(ContractCase contractCase) {
+        return LoadScenario.of(contractCase.getName(), () -> {
+            ContractResult result = run(contractCase);
+            if (!result.isSuccessful()) {
+                throw new AssertionError(result.describe());
+            }
+        });
+    }
+
+    private String createFixture(ContractCase contractCase) {
+        String url = ApiConfig.getEndpointURL(contractCase.getFixturePath());
+        Response response = ApiRequestHelper.postRequest(url, contractCase.getFixtureBody());
+        if (response.getStatusCode() >= 300) {
+            throw new IllegalStateException("Could not create a fixture for " + contractCase.getName() + ": POST "
+                    + url + " returned " + response.getStatusCode());
+        }
+        return response.jsonPath().getString("id");
+    }
+
+    private static Response send(String method, String url, String body) {
+        return switch (method) {
+            case "GET" -> ApiRequestHelper.getRequest(url);
+            case "POST" -> ApiRequestHelper.postRequest(url, body);
+            case "PUT" -> ApiRequestHelper.putRequest(url, body);
+            case "PATCH" -> ApiRequestHelper.patchRequest(url, body);
+            case "DELETE" -> ApiRequestHelper.deleteRequest(url);
+            default -> throw new IllegalArgumentException("Unsupported method " + method);
+        };
+    }
+
+    private static String expand(String pathTemplate, Map<String, String> values) {
+        String path = pathTemplate;
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            path = path.replace("{" + value.getKey() + "}",
+                    URLEncoder.encode(value.getValue(), StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return path;
+    }
+}
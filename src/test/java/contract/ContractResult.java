@@ -0,0 +1,34 @@
+package contract;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Outcome of running a {@link ContractCase}: the status code received and any response schema violations.
+ */
+@Value
+public class ContractResult {
+
+    ContractCase contractCase;
+    int statusCode;
+    List<String> schemaViolations;
+
+    public boolean isStatusExpected() {
+        return contractCase.getExpectedStatuses().contains(statusCode);
+    }
+
+    public boolean isSuccessful() {
+        return isStatusExpected() && schemaViolations.isEmpty();
+    }
+
+    public String describe() {
+        StringBuilder description = new StringBuilder(contractCase.getName()).append(": status ").append(statusCode);
+        if (!isStatusExpected()) {
+            description.append(", expected one of ").append(contractCase.getExpectedStatuses());
+        }
+        schemaViolations.forEach(violation -> description.append(System.lineSeparator()).append("  ")
+                .append(violation));
+        return description.toString();
+    }
+}
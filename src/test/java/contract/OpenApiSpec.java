@@ -0,0 +1,160 @@
+package contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import utils.JsonCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An OpenAPI 3 document read with Jackson: the operations under {@code paths} and the schemas under
+ * {@code components}, with local {@code $ref}s resolved on demand.
+ */
+public class OpenApiSpec {
+
+    private static final List<String> METHODS = List.of("get", "post", "put", "patch", "delete");
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final JsonNode root;
+
+    private OpenApiSpec(JsonNode root) {
+        if (!root.path("openapi").asText().startsWith("3.")) {
+            throw new IllegalArgumentException("Only OpenAPI 3 documents are supported, got openapi="
+                    + root.path("openapi").asText("<missing>"));
+        }
+        this.root = root;
+    }
+
+    /**
+     * Reads the spec from a file if {@code location} names one, otherwise from the test classpath.
+     */
+    public static OpenApiSpec load(String location) {
+        try {
+            Path file = Path.of(location);
+            if (Files.isRegularFile(file)) {
+                return new OpenApiSpec(JsonCodec.mapper().readTree(file.toFile()));
+            }
+            try (InputStream resource = OpenApiSpec.class.getClassLoader().getResourceAsStream(location)) {
+                if (resource == null) {
+                    throw new IllegalArgumentException("OpenAPI spec not found as file or resource: " + location);
+                }
+                return new OpenApiSpec(JsonCodec.mapper().readTree(resource));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read OpenAPI spec " + location, e);
+        }
+    }
+
+    public String getTitle() {
+        return root.path("info").path("title").asText() + " " + root.path("info").path("version").asText();
+    }
+
+    /**
+     * Every operation, ordered by path and then by method.
+     */
+    public List<ApiOperation> getOperations() {
+        List<ApiOperation> operations = new ArrayList<>();
+        Map<String, JsonNode> paths = new TreeMap<>();
+        root.path("paths").fields().forEachRemaining(entry -> paths.put(entry.getKey(), entry.getValue()));
+        for (Map.Entry<String, JsonNode> path : paths.entrySet()) {
+            for (String method : METHODS) {
+                JsonNode operation = path.getValue().get(method);
+                if (operation != null) {
+                    operations.add(toOperation(path.getKey(), method, path.getValue(), operation));
+                }
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Follows {@code $ref}s until a schema without one is reached; other nodes are returned as they are.
+     */
+    public JsonNode resolve(JsonNode schema) {
+        JsonNode current = schema;
+        for (int depth = 0; current != null && current.has("$ref"); depth++) {
+            String ref = current.get("$ref").asText();
+            if (!ref.startsWith(SCHEMA_REF_PREFIX) || depth > 32) {
+                throw new IllegalArgumentException("Unsupported or circular schema reference: " + ref);
+            }
+            current = root.path("components").path("schemas").get(ref.substring(SCHEMA_REF_PREFIX.length()));
+            if (current == null) {
+                throw new IllegalArgumentException("Unknown schema reference: " + ref);
+            }
+        }
+        return current;
+    }
+
+    private ApiOperation toOperation(String path, String method, JsonNode pathItem, JsonNode operation) {
+        Map<String, JsonNode> pathParameters = new LinkedHashMap<>();
+        for (JsonNode parameters : List.of(pathItem.path("parameters"), operation.path("parameters"))) {
+            for (JsonNode parameter : parameters) {
+                JsonNode resolved = resolveParameter(parameter);
+                if ("path".equals(resolved.path("in").asText())) {
+                    pathParameters.put(resolved.path("name").asText(), withExample(resolved));
+                }
+            }
+        }
+
+        Map<Integer, JsonNode> responses = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> documented = operation.path("responses").fields();
+        while (documented.hasNext()) {
+            Map.Entry<String, JsonNode> response = documented.next();
+            if (response.getKey().chars().allMatch(Character::isDigit)) {
+                responses.put(Integer.parseInt(response.getKey()), firstSchema(response.getValue()));
+            }
+        }
+
+        JsonNode requestBody = operation.path("requestBody");
+        return ApiOperation.builder()
+                .method(method.toUpperCase(Locale.ROOT))
+                .path(path)
+                .tag(operation.path("tags").path(0).asText(""))
+                .pathParameters(pathParameters)
+                .requestSchema(firstSchema(requestBody))
+                .requestBodyRequired(requestBody.path("required").asBoolean(false))
+                .responses(responses)
+                .build();
+    }
+
+    private JsonNode resolveParameter(JsonNode parameter) {
+        if (!parameter.has("$ref")) {
+            return parameter;
+        }
+        String ref = parameter.get("$ref").asText();
+        return root.path("components").path("parameters").path(ref.substring(ref.lastIndexOf('/') + 1));
+    }
+
+    // A parameter's example may sit on the parameter or on its schema; the schema is returned with it in place
+    private JsonNode withExample(JsonNode parameter) {
+        JsonNode schema = resolve(parameter.path("schema"));
+        if (parameter.has("example") && !schema.has("example") && schema.isObject()) {
+            ObjectNode copy = schema.deepCopy();
+            return copy.set("example", parameter.get("example"));
+        }
+        return schema;
+    }
+
+    // Schema of the first JSON media type of a request body or response, or null without one
+    private JsonNode firstSchema(JsonNode bodyOrResponse) {
+        Iterator<Map.Entry<String, JsonNode>> media = bodyOrResponse.path("content").fields();
+        while (media.hasNext()) {
+            Map.Entry<String, JsonNode> entry = media.next();
+            if (entry.getKey().contains("json") && entry.getValue().has("schema")) {
+                return entry.getValue().get("schema");
+            }
+        }
+        return null;
+    }
+}
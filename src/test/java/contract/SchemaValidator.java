@@ -0,0 +1,160 @@
+package contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Checks JSON against the subset of OpenAPI 3 schema keywords that API contracts commonly use: {@code type},
+ * {@code format} (int32, int64, date-time), {@code nullable}, {@code enum}, {@code required},
+ * {@code properties}, {@code additionalProperties}, {@code items}, the numeric and length bounds, and
+ * {@code $ref}. Every violation is reported with the JSON pointer of the offending value.
+ */
+public class SchemaValidator {
+
+    private final OpenApiSpec spec;
+
+    public SchemaValidator(OpenApiSpec spec) {
+        this.spec = spec;
+    }
+
+    public List<String> validate(JsonNode value, JsonNode schema) {
+        List<String> violations = new ArrayList<>();
+        validate(value, schema, "", violations);
+        return violations;
+    }
+
+    private void validate(JsonNode value, JsonNode rawSchema, String pointer, List<String> violations) {
+        JsonNode schema = spec.resolve(rawSchema);
+        if (schema == null || schema.isEmpty()) {
+            return;
+        }
+        String at = pointer.isEmpty() ? "/" : pointer;
+        if (value == null || value.isNull()) {
+            if (!schema.path("nullable").asBoolean(false)) {
+                violations.add(at + ": null is not allowed");
+            }
+            return;
+        }
+        if (schema.has("enum") && !contains(schema.get("enum"), value)) {
+            violations.add(at + ": " + value + " is not one of " + schema.get("enum"));
+        }
+
+        String type = schema.path("type").asText(schema.has("properties") ? "object" : "");
+        switch (type) {
+            case "object" -> validateObject(value, schema, pointer, violations);
+            case "array" -> {
+                if (!value.isArray()) {
+                    violations.add(at + ": expected an array but got " + describe(value));
+                    return;
+                }
+                for (int i = 0; i < value.size(); i++) {
+                    validate(value.get(i), schema.path("items"), pointer + "/" + i, violations);
+                }
+            }
+            case "integer" -> {
+                if (!value.isIntegralNumber()) {
+                    violations.add(at + ": expected an integer but got " + describe(value));
+                    return;
+                }
+                if ("int32".equals(schema.path("format").asText()) && !value.canConvertToInt()) {
+                    violations.add(at + ": " + value + " is outside the int32 range");
+                }
+                checkBounds(value, schema, at, violations);
+            }
+            case "number" -> {
+                if (!value.isNumber()) {
+                    violations.add(at + ": expected a number but got " + describe(value));
+                    return;
+                }
+                checkBounds(value, schema, at, violations);
+            }
+            case "boolean" -> {
+                if (!value.isBoolean()) {
+                    violations.add(at + ": expected a boolean but got " + describe(value));
+                }
+            }
+            case "string" -> validateString(value, schema, at, violations);
+            default -> {
+                // No type constraint
+            }
+        }
+    }
+
+    private void validateObject(JsonNode value, JsonNode schema, String pointer, List<String> violations) {
+        String at = pointer.isEmpty() ? "/" : pointer;
+        if (!value.isObject()) {
+            violations.add(at + ": expected an object but got " + describe(value));
+            return;
+        }
+        for (JsonNode required : schema.path("required")) {
+            if (!value.has(required.asText())) {
+                violations.add(at + ": required property '" + required.asText() + "' is missing");
+            }
+        }
+        JsonNode properties = schema.path("properties");
+        JsonNode additional = schema.path("additionalProperties");
+        Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String child = pointer + "/" + field.getKey();
+            if (properties.has(field.getKey())) {
+                validate(field.getValue(), properties.get(field.getKey()), child, violations);
+            } else if (additional.isBoolean() && !additional.asBoolean()) {
+                violations.add(child + ": property is not declared in the schema");
+            } else if (additional.isObject()) {
+                validate(field.getValue(), additional, child, violations);
+            }
+        }
+    }
+
+    private void validateString(JsonNode value, JsonNode schema, String at, List<String> violations) {
+        if (!value.isTextual()) {
+            violations.add(at + ": expected a string but got " + describe(value));
+            return;
+        }
+        String text = value.asText();
+        if (schema.has("minLength") && text.length() < schema.get("minLength").asInt()) {
+            violations.add(at + ": shorter than minLength " + schema.get("minLength").asInt());
+        }
+        if (schema.has("maxLength") && text.length() > schema.get("maxLength").asInt()) {
+            violations.add(at + ": longer than maxLength " + schema.get("maxLength").asInt());
+        }
+        if ("date-time".equals(schema.path("format").asText())) {
+            try {
+                // ISO_DATE_TIME also accepts the offset-less timestamps the API returns
+                DateTimeFormatter.ISO_DATE_TIME.parse(text);
+            } catch (DateTimeParseException e) {
+                violations.add(at + ": '" + text + "' is not a date-time");
+            }
+        }
+    }
+
+    private static void checkBounds(JsonNode value, JsonNode schema, String at, List<String> violations) {
+        if (schema.has("minimum") && value.decimalValue().compareTo(schema.get("minimum").decimalValue()) < 0) {
+            violations.add(at + ": " + value + " is below the minimum " + schema.get("minimum"));
+        }
+        if (schema.has("maximum") && value.decimalValue().compareTo(schema.get("maximum").decimalValue()) > 0) {
+            violations.add(at + ": " + value + " is above the maximum " + schema.get("maximum"));
+        }
+    }
+
+    private static boolean contains(JsonNode values, JsonNode value) {
+        for (JsonNode candidate : values) {
+            if (candidate.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(JsonNode value) {
+        return value.getNodeType().name().toLowerCase(Locale.ROOT) + " " + value;
+    }
+}
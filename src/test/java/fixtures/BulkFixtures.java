@@ -0,0 +1,128 @@
+package fixtures;
+
+import config.ApiConfig;
+import config.FixtureConfig;
+import models.Author;
+import models.Book;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.BatchResult;
+import utils.ConcurrentRequestExecutor;
+import utils.RequestOutcome;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Provisions Books and Authors in bulk for a suite or class and deletes exactly those records afterwards.
+ *
+ * Records are POSTed {@link FixtureConfig#BATCH_SIZE} at a time, {@link FixtureConfig#CONCURRENCY} in flight.
+ * Every created ID is also in the {@link FixtureRegistry}, so records are still removed at the end of the suite
+ * when {@link #tearDown()} is never reached.
+ *
+ * <pre>
+ * &#64;BeforeClass  fixtures = new BulkFixtures(); books = fixtures.provisionBooks(500);
+ * &#64;AfterClass(alwaysRun = true)  fixtures.tearDown();
+ * </pre>
+ */
+public class BulkFixtures implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkFixtures.class);
+
+    private final String prefix;
+    private final List<Book> books = Collections.synchronizedList(new ArrayList<>());
+    private final List<Author> authors = Collections.synchronizedList(new ArrayList<>());
+
+    public BulkFixtures() {
+        this("Fixture");
+    }
+
+    /**
+     * @param prefix prepended to generated titles and names so fixture records are recognisable
+     */
+    public BulkFixtures(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<Book> provisionBooks(int count) {
+        List<Book> drafts = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> Book.builder()
+                        .title(prefix + " Book " + i)
+                        .description("Bulk-provisioned test fixture")
+                        .pageCount(100 + i % 400)
+                        .excerpt(prefix)
+                        .publishDate("2024-02-08T00:00:00")
+                        .build())
+                .collect(Collectors.toList());
+        return provision(ApiConfig.getBooksEndpointURL(), drafts, Book.class, books);
+    }
+
+    public List<Author> provisionAuthors(int count, int idBook) {
+        List<Author> drafts = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> Author.builder()
+                        .idBook(idBook)
+                        .firstName(prefix)
+                        .lastName("Author " + i)
+                        .build())
+                .collect(Collectors.toList());
+        return provision(ApiConfig.getAuthorsEndpointURL(), drafts, Author.class, authors);
+    }
+
+    public List<Book> getBooks() {
+        return List.copyOf(books);
+    }
+
+    public List<Author> getAuthors() {
+        return List.copyOf(authors);
+    }
+
+    /**
+     * Deletes every record this instance provisioned, in batches.
+     */
+    public void tearDown() {
+        FixtureRegistry.deleteInBatches(ApiConfig.getBooksEndpointURL(),
+                books.stream().map(Book::getId).collect(Collectors.toList()));
+        FixtureRegistry.deleteInBatches(ApiConfig.getAuthorsEndpointURL(),
+                authors.stream().map(Author::getId).collect(Collectors.toList()));
+        books.clear();
+        authors.clear();
+    }
+
+    @Override
+    public void close() {
+        tearDown();
+    }
+
+    // Created records are tracked as each batch completes, so a failing batch still leaves them to tearDown()
+    private <T> List<T> provision(String collectionUrl, List<T> drafts, Class<T> type, List<T> tracked) {
+        long startTime = System.nanoTime();
+        List<T> created = new ArrayList<>(drafts.size());
+        List<RequestOutcome<T>> failures = new ArrayList<>();
+        try (ConcurrentRequestExecutor executor = new ConcurrentRequestExecutor(FixtureConfig.CONCURRENCY)) {
+            for (int from = 0; from < drafts.size(); from += FixtureConfig.BATCH_SIZE) {
+                List<T> batch = drafts.subList(from, Math.min(drafts.size(), from + FixtureConfig.BATCH_SIZE));
+                BatchResult<T> result = executor.postAll(collectionUrl, batch);
+                for (RequestOutcome<T> outcome : result.getOutcomes()) {
+                    if (outcome.isSuccessful()) {
+                        T record = outcome.getResponse().as(type);
+                        created.add(record);
+                        tracked.add(record);
+                    } else {
+                        failures.add(outcome);
+                    }
+                }
+            }
+        }
+        logger.info("Provisioned {} of {} records at {} in {} ms", created.size(), drafts.size(), collectionUrl,
+                (System.nanoTime() - startTime) / 1_000_000);
+        if (!failures.isEmpty()) {
+            RequestOutcome<T> first = failures.get(0);
+            throw new IllegalStateException(failures.size() + " of " + drafts.size() + " fixtures could not be created"
+                    + " at " + collectionUrl + ", first failure: status " + first.getStatusCode(), first.getFailure());
+        }
+        return created;
+    }
+}
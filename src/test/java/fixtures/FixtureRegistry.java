@@ -0,0 +1,132 @@
+package fixtures;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import config.FixtureConfig;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.BatchResult;
+import utils.ConcurrentRequestExecutor;
+import utils.JsonCodec;
+import utils.RequestListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of every record created through {@code ApiRequestHelper}, keyed by collection URL.
+ *
+ * A successful POST registers the returned ID and a successful (or 404) DELETE of {@code collection/{id}}
+ * unregisters it, so whatever is still registered when the suite ends was left behind, typically by a failed
+ * test, and is deleted in batches by {@link #cleanUp()}.
+ */
+public class FixtureRegistry implements RequestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureRegistry.class);
+
+    private static final FixtureRegistry INSTANCE = new FixtureRegistry();
+
+    private static final Pattern ITEM_URL = Pattern.compile("^(.*)/(\\d+)/?$");
+
+    private final Map<String, Set<Integer>> createdIds = new ConcurrentHashMap<>();
+
+    public static FixtureRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the ID of a record created by a POST to {@code collectionUrl}; ignores error responses and bodies
+     * without a positive {@code id}.
+     */
+    public void recordCreated(String collectionUrl, Response response) {
+        int statusCode = response.getStatusCode();
+        if (statusCode != 200 && statusCode != 201) {
+            return;
+        }
+        try {
+            JsonNode id = JsonCodec.mapper().readTree(response.asByteArray()).path("id");
+            if (id.canConvertToInt() && id.asInt() > 0) {
+                register(collectionUrl, id.asInt());
+            }
+        } catch (IOException e) {
+            logger.debug("POST {} returned no JSON record to register", collectionUrl);
+        }
+    }
+
+    public void register(String collectionUrl, int id) {
+        createdIds.computeIfAbsent(stripTrailingSlash(collectionUrl), url -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public void unregister(String collectionUrl, int id) {
+        Set<Integer> ids = createdIds.get(stripTrailingSlash(collectionUrl));
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+
+    public Set<Integer> getRegisteredIds(String collectionUrl) {
+        Set<Integer> ids = createdIds.get(stripTrailingSlash(collectionUrl));
+        return ids == null ? Set.of() : Set.copyOf(ids);
+    }
+
+    public int size() {
+        return createdIds.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+        if (!"DELETE".equals(method) || (statusCode >= 300 && statusCode != 404) || statusCode < 200) {
+            return;
+        }
+        Matcher item = ITEM_URL.matcher(url);
+        if (item.matches()) {
+            unregister(item.group(1), Integer.parseInt(item.group(2)));
+        }
+    }
+
+    /**
+     * Deletes every registered record, {@link FixtureConfig#BATCH_SIZE} at a time with bounded concurrency.
+     * Returns the number of records that could not be deleted.
+     */
+    public int cleanUp() {
+        Map<String, Set<Integer>> leftovers = new TreeMap<>(createdIds);
+        for (Map.Entry<String, Set<Integer>> collection : leftovers.entrySet()) {
+            deleteInBatches(collection.getKey(), new ArrayList<>(collection.getValue()));
+        }
+        int remaining = size();
+        if (remaining > 0) {
+            logger.warn("{} test records could not be deleted: {}", remaining, createdIds);
+        }
+        return remaining;
+    }
+
+    static void deleteInBatches(String collectionUrl, List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        logger.info("Deleting {} test records from {}", ids.size(), collectionUrl);
+        try (ConcurrentRequestExecutor executor = new ConcurrentRequestExecutor(FixtureConfig.CONCURRENCY)) {
+            for (int from = 0; from < ids.size(); from += FixtureConfig.BATCH_SIZE) {
+                List<Integer> batch = ids.subList(from, Math.min(ids.size(), from + FixtureConfig.BATCH_SIZE));
+                BatchResult<Integer> result = executor.deleteAll(collectionUrl, batch);
+                long deleted = result.getOutcomes().stream()
+                        .filter(outcome -> outcome.isSuccessful() || outcome.getStatusCode() == 404)
+                        .count();
+                if (deleted < batch.size()) {
+                    logger.warn("Cleanup batch for {}: {}", collectionUrl, result);
+                }
+            }
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,197 @@
+package journal;
+
+import metrics.LatencyHistogram;
+import perf.EndpointSummary;
+import utils.JsonCodec;
+import utils.RequestListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Turns a {@link ResultJournal} into an aggregated {@link JournalSummary} or into Allure results after the run.
+ *
+ * The journal is streamed once; requests are folded into per-endpoint histograms and per-test tallies as they are
+ * read, so only the test entries are kept. Each test becomes one {@code <uuid>-result.json} in the Allure results
+ * directory with its requests summarized in the description, however many requests the run made.
+ */
+public class JournalExporter implements JournalVisitor {
+
+    private final List<TestEntry> tests = new ArrayList<>();
+    private final Map<String, EndpointTally> endpoints = new TreeMap<>();
+    private final Map<String, RequestTally> testRequests = new HashMap<>();
+    private long firstStartMillis = Long.MAX_VALUE;
+    private long lastEndMillis;
+    private long requestBytes;
+    private long responseBytes;
+
+    private JournalExporter() {
+    }
+
+    public static JournalExporter read(Path journal) {
+        JournalExporter exporter = new JournalExporter();
+        JournalReader.read(journal, exporter);
+        return exporter;
+    }
+
+    @Override
+    public void onTest(TestEntry test) {
+        tests.add(test);
+    }
+
+    @Override
+    public void onRequest(RequestEntry request) {
+        boolean error = request.getStatusCode() == RequestListener.TRANSPORT_ERROR || request.getStatusCode() >= 500;
+        EndpointTally endpoint = endpoints.computeIfAbsent(request.getEndpoint(), key -> new EndpointTally());
+        endpoint.histogram.recordNanos(request.getDurationNanos());
+        if (error) {
+            endpoint.errors++;
+        }
+        if (request.getTest() != null) {
+            testRequests.computeIfAbsent(request.getTest(), key -> new RequestTally()).record(request, error);
+        }
+        firstStartMillis = Math.min(firstStartMillis, request.getStartMillis());
+        lastEndMillis = Math.max(lastEndMillis, request.getStartMillis() + request.getDurationNanos() / 1_000_000);
+        requestBytes += request.getRequestBytes();
+        responseBytes += Math.max(0, request.getResponseBytes());
+    }
+
+    public List<TestEntry> getTests() {
+        return tests;
+    }
+
+    public JournalSummary getSummary() {
+        double elapsedSeconds = lastEndMillis > firstStartMillis ? (lastEndMillis - firstStartMillis) / 1000.0 : 0;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        endpoints.forEach((endpoint, tally) -> summaries.add(tally.summarize(endpoint, elapsedSeconds)));
+        return JournalSummary.builder()
+                .passed(count(TestEntry.PASSED))
+                .failed(count(TestEntry.FAILED))
+                .broken(count(TestEntry.BROKEN))
+                .skipped(count(TestEntry.SKIPPED))
+                .elapsedSeconds(elapsedSeconds)
+                .requestBytes(requestBytes)
+                .responseBytes(responseBytes)
+                .endpoints(summaries)
+                .build();
+    }
+
+    /**
+     * Writes one Allure result file per journaled test and returns the number written.
+     */
+    public int writeAllureResults(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (TestEntry test : tests) {
+            String uuid = UUID.randomUUID().toString();
+            Path file = directory.resolve(uuid + "-result.json");
+            JsonCodec.mapper().writeValue(file.toFile(), toAllureResult(uuid, test));
+        }
+        return tests.size();
+    }
+
+    private Map<String, Object> toAllureResult(String uuid, TestEntry test) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        String identity = test.getName() + (test.getParameters() == null ? "" : test.getParameters());
+        result.put("uuid", uuid);
+        result.put("historyId", UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)).toString()
+                .replace("-", ""));
+        result.put("fullName", test.getName());
+        result.put("name", test.getDescription() == null ? test.getMethodName() : test.getDescription());
+        result.put("status", test.getStatus());
+        if (test.getMessage() != null || test.getTrace() != null) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("message", test.getMessage());
+            details.put("trace", test.getTrace());
+            result.put("statusDetails", details);
+        }
+        result.put("stage", "finished");
+        RequestTally requests = testRequests.get(test.getName());
+        if (requests != null) {
+            result.put("description", requests.describe());
+        }
+        result.put("start", test.getStartMillis());
+        result.put("stop", test.getStopMillis());
+
+        List<Map<String, String>> labels = new ArrayList<>();
+        if (test.getSuite() != null) {
+            labels.add(label("suite", test.getSuite()));
+        }
+        String className = test.getClassName();
+        labels.add(label("testClass", className));
+        labels.add(label("testMethod", test.getMethodName()));
+        labels.add(label("package", className.contains(".") ? className.substring(0, className.lastIndexOf('.'))
+                : className));
+        if (test.getThread() != null) {
+            labels.add(label("thread", test.getThread()));
+        }
+        labels.add(label("framework", "testng"));
+        labels.add(label("language", "java"));
+        result.put("labels", labels);
+        result.put("parameters", test.getParameters() == null ? List.of()
+                : List.of(Map.of("name", "arguments", "value", test.getParameters())));
+        result.put("steps", List.of());
+        result.put("attachments", List.of());
+        return result;
+    }
+
+    private long count(String status) {
+        return tests.stream().filter(test -> status.equals(test.getStatus())).count();
+    }
+
+    private static Map<String, String> label(String name, String value) {
+        return Map.of("name", name, "value", value);
+    }
+
+    private static class EndpointTally {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long errors;
+
+        EndpointSummary summarize(String endpoint, double elapsedSeconds) {
+            long requests = histogram.getTotalCount();
+            return EndpointSummary.builder()
+                    .endpoint(endpoint)
+                    .requests(requests)
+                    .errors(errors)
+                    .throughput(elapsedSeconds > 0 ? requests / elapsedSeconds : 0)
+                    .p50Ms(histogram.getValueAtPercentileMillis(50))
+                    .p95Ms(histogram.getValueAtPercentileMillis(95))
+                    .p99Ms(histogram.getValueAtPercentileMillis(99))
+                    .p999Ms(histogram.getValueAtPercentileMillis(99.9))
+                    .maxMs(histogram.getMaxMicros() / 1000.0)
+                    .build();
+        }
+    }
+
+    // Requests made while one test was running; a histogram per test would not scale with the test count
+    private static class RequestTally {
+
+        private long requests;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+
+        void record(RequestEntry request, boolean error) {
+            requests++;
+            if (error) {
+                errors++;
+            }
+            totalNanos += request.getDurationNanos();
+            maxNanos = Math.max(maxNanos, request.getDurationNanos());
+        }
+
+        String describe() {
+            return String.format("%d requests, %d errors, mean %.2f ms, max %.2f ms", requests, errors,
+                    totalNanos / 1e6 / requests, maxNanos / 1e6);
+        }
+    }
+}
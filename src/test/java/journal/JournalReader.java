@@ -0,0 +1,145 @@
+package journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the records of a {@link ResultJournal} to a {@link JournalVisitor} through a sliding memory-mapped
+ * window, so journals of any size are read without loading them. Journals that were never closed are read up to
+ * their last complete record.
+ */
+public class JournalReader {
+
+    private static final long WINDOW_BYTES = 64L << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long limit;
+    private final List<String> strings = new ArrayList<>();
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int cursor;
+
+    private JournalReader(Path file, FileChannel channel, long limit) {
+        this.file = file;
+        this.channel = channel;
+        this.limit = limit;
+    }
+
+    /**
+     * Reads the whole journal and returns the number of test and request records visited.
+     */
+    public static long read(Path file, JournalVisitor visitor) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < ResultJournal.HEADER_BYTES) {
+                throw new IllegalStateException("Not a result journal: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ResultJournal.HEADER_BYTES);
+            if (header.getInt(0) != ResultJournal.MAGIC) {
+                throw new IllegalStateException("Not a result journal: " + file);
+            }
+            if (header.getInt(4) != ResultJournal.VERSION) {
+                throw new IllegalStateException("Unsupported journal version " + header.getInt(4) + ": " + file);
+            }
+            long committed = header.getLong(ResultJournal.COMMITTED_LENGTH_OFFSET);
+            return new JournalReader(file, channel, committed > 0 ? Math.min(committed, size) : size).visit(visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read journal " + file, e);
+        }
+    }
+
+    private long visit(JournalVisitor visitor) throws IOException {
+        long records = 0;
+        long position = ResultJournal.HEADER_BYTES;
+        while (position < limit) {
+            int at = slide(position);
+            byte type = window.get(at);
+            int length = switch (type) {
+                case ResultJournal.STRING_RECORD -> readString(at);
+                case ResultJournal.REQUEST_RECORD -> {
+                    visitor.onRequest(readRequest(at));
+                    records++;
+                    yield ResultJournal.REQUEST_RECORD_BYTES;
+                }
+                case ResultJournal.TEST_RECORD -> {
+                    visitor.onTest(readTest(at));
+                    records++;
+                    yield cursor - at;
+                }
+                // Zero-filled tail of an unclosed journal, or a record the writer never finished
+                default -> -1;
+            };
+            if (length < 0) {
+                break;
+            }
+            position += length;
+        }
+        return records;
+    }
+
+    private int readString(int at) {
+        int id = window.getInt(at + 1);
+        if (id != strings.size()) {
+            throw new IllegalStateException("Corrupt journal " + file + ": string " + id + " out of order");
+        }
+        int length = Short.toUnsignedInt(window.getShort(at + 5));
+        strings.add(decode(at + 7, length));
+        return 1 + 4 + 2 + length;
+    }
+
+    private RequestEntry readRequest(int at) {
+        int testId = window.getInt(at + 5);
+        return new RequestEntry(strings.get(window.getInt(at + 1)),
+                testId == ResultJournal.NO_TEST ? null : strings.get(testId),
+                window.getInt(at + 9), window.getLong(at + 13), window.getLong(at + 21),
+                window.getLong(at + 29), window.getLong(at + 37));
+    }
+
+    // Leaves the cursor after the record's inline strings
+    private TestEntry readTest(int at) {
+        cursor = at + 22;
+        return TestEntry.builder()
+                .name(strings.get(window.getInt(at + 1)))
+                .status(ResultJournal.STATUSES.get(window.get(at + 5)))
+                .startMillis(window.getLong(at + 6))
+                .stopMillis(window.getLong(at + 14))
+                .suite(nextString())
+                .description(nextString())
+                .parameters(nextString())
+                .thread(nextString())
+                .message(nextString())
+                .trace(nextString())
+                .build();
+    }
+
+    private String nextString() {
+        int length = Short.toUnsignedInt(window.getShort(cursor));
+        String value = length == 0 ? null : decode(cursor + 2, length);
+        cursor += 2 + length;
+        return value;
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        window.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Maps a window that holds the largest possible record at position and returns its offset in the window
+    private int slide(long position) throws IOException {
+        long windowEnd = window == null ? 0 : windowStart + window.capacity();
+        if (window == null || position + ResultJournal.MAX_RECORD_BYTES > windowEnd && windowEnd < limit) {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, limit - position));
+            windowStart = position;
+        }
+        return (int) (position - windowStart);
+    }
+}
@@ -0,0 +1,64 @@
+package journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Builder;
+import lombok.Value;
+import perf.EndpointSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Aggregated figures of a {@link ResultJournal}: test outcomes and per-endpoint request latency.
+ */
+@Value
+@Builder
+public class JournalSummary {
+
+    long passed;
+    long failed;
+    long broken;
+    long skipped;
+    // From the first request start to the last request end
+    double elapsedSeconds;
+    long requestBytes;
+    long responseBytes;
+    List<EndpointSummary> endpoints;
+
+    public long getTests() {
+        return passed + failed + broken + skipped;
+    }
+
+    public long getTotalRequests() {
+        return endpoints.stream().mapToLong(EndpointSummary::getRequests).sum();
+    }
+
+    public double getErrorRate() {
+        long requests = getTotalRequests();
+        long errors = endpoints.stream().mapToLong(EndpointSummary::getErrors).sum();
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%d tests (%d passed, %d failed, %d broken, %d skipped), %d requests in %.1f s, "
+                        + "error rate %.2f%%%n", getTests(), passed, failed, broken, skipped, getTotalRequests(),
+                elapsedSeconds, getErrorRate() * 100));
+        table.append(String.format("%-36s %9s %8s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (EndpointSummary endpoint : endpoints) {
+            table.append(String.format("%-36s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(), endpoint.getThroughput(),
+                    endpoint.getP50Ms(), endpoint.getP95Ms(), endpoint.getP99Ms(), endpoint.getMaxMs()));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package journal;
+
+/**
+ * Receives the records of a journal in the order they were written.
+ */
+public interface JournalVisitor {
+
+    default void onTest(TestEntry test) {
+    }
+
+    default void onRequest(RequestEntry request) {
+    }
+}
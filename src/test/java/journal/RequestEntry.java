@@ -0,0 +1,21 @@
+package journal;
+
+import lombok.Value;
+
+/**
+ * One HTTP request in a {@link ResultJournal}, keyed by its normalized endpoint.
+ */
+@Value
+public class RequestEntry {
+
+    String endpoint;
+    // Name of the test that made the request, null for requests made outside of a test
+    String test;
+    // utils.RequestListener.TRANSPORT_ERROR when no response was received
+    int statusCode;
+    long startMillis;
+    long durationNanos;
+    long requestBytes;
+    // -1 when the response body was left unread
+    long responseBytes;
+}
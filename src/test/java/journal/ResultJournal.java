@@ -0,0 +1,250 @@
+package journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only binary journal of test results and HTTP requests, written through memory-mapped regions of a
+ * single file so recording a request costs a few buffer writes instead of a file per result.
+ *
+ * The file starts with a 16-byte header (magic, version, committed length, filled in on {@link #close()}) followed
+ * by records that each start with a type byte. Strings that repeat across records, such as endpoints and test
+ * names, are written once as string records and referenced by id. The type byte of a record is written last, so a
+ * journal left behind by a crashed JVM reads up to its last complete record. {@link JournalReader} streams it back.
+ */
+public class ResultJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultJournal.class);
+
+    static final int MAGIC = 0x524a4e31;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int COMMITTED_LENGTH_OFFSET = 8;
+
+    static final byte STRING_RECORD = 1;
+    static final byte REQUEST_RECORD = 2;
+    static final byte TEST_RECORD = 3;
+    // type, endpoint id, test id, status, start millis, duration nanos, request bytes, response bytes
+    static final int REQUEST_RECORD_BYTES = 1 + 4 + 4 + 4 + 8 + 8 + 8 + 8;
+    static final int MAX_STRING_BYTES = 0xFFFF;
+    // Largest record: a test record with six inline strings of the maximum length
+    static final int MAX_RECORD_BYTES = 1 + 4 + 1 + 8 + 8 + 6 * (2 + MAX_STRING_BYTES);
+    // Id of the test a request was made outside of
+    public static final int NO_TEST = -1;
+
+    static final List<String> STATUSES =
+            List.of(TestEntry.PASSED, TestEntry.FAILED, TestEntry.BROKEN, TestEntry.SKIPPED);
+
+    private static final long REGION_BYTES = 16L << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, Integer> stringIds = new ConcurrentHashMap<>();
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+    private long requestCount;
+    private long testCount;
+    private boolean closed;
+
+    private ResultJournal(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Starts a new journal, replacing any previous one at the same path.
+     */
+    public static ResultJournal create(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ResultJournal journal = new ResultJournal(file, channel);
+            journal.map(0);
+            journal.region.putInt(0, MAGIC);
+            journal.region.putInt(4, VERSION);
+            journal.region.putLong(COMMITTED_LENGTH_OFFSET, 0);
+            journal.position = HEADER_BYTES;
+            logger.info("Journaling results to {}", file);
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal " + file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Id of the string in this journal, writing it on first use.
+     */
+    public int intern(String value) {
+        Integer id = stringIds.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = stringIds.get(value);
+            if (id == null) {
+                id = stringIds.size();
+                byte[] bytes = truncate(value);
+                int at = reserve(1 + 4 + 2 + bytes.length);
+                region.putInt(at + 1, id);
+                putBytes(at + 5, bytes);
+                region.put(at, STRING_RECORD);
+                stringIds.put(value, id);
+            }
+            return id;
+        }
+    }
+
+    public void recordRequest(String endpoint, int testId, int statusCode, long startMillis, long durationNanos,
+                              long requestBytes, long responseBytes) {
+        int endpointId = intern(endpoint);
+        synchronized (this) {
+            int at = reserve(REQUEST_RECORD_BYTES);
+            region.putInt(at + 1, endpointId);
+            region.putInt(at + 5, testId);
+            region.putInt(at + 9, statusCode);
+            region.putLong(at + 13, startMillis);
+            region.putLong(at + 21, durationNanos);
+            region.putLong(at + 29, requestBytes);
+            region.putLong(at + 37, responseBytes);
+            region.put(at, REQUEST_RECORD);
+            requestCount++;
+        }
+    }
+
+    /**
+     * Records a finished test; {@code nameId} is the interned {@link TestEntry#getName()} that the test's requests
+     * were recorded with.
+     */
+    public void recordTest(int nameId, TestEntry test) {
+        int status = STATUSES.indexOf(test.getStatus());
+        if (status < 0) {
+            throw new IllegalArgumentException("Unknown test status " + test.getStatus());
+        }
+        byte[][] strings = {truncate(test.getSuite()), truncate(test.getDescription()),
+                truncate(test.getParameters()), truncate(test.getThread()), truncate(test.getMessage()),
+                truncate(test.getTrace())};
+        int size = 1 + 4 + 1 + 8 + 8;
+        for (byte[] string : strings) {
+            size += 2 + string.length;
+        }
+        synchronized (this) {
+            int at = reserve(size);
+            region.putInt(at + 1, nameId);
+            region.put(at + 5, (byte) status);
+            region.putLong(at + 6, test.getStartMillis());
+            region.putLong(at + 14, test.getStopMillis());
+            int offset = at + 22;
+            for (byte[] string : strings) {
+                offset = putBytes(offset, string);
+            }
+            region.put(at, TEST_RECORD);
+            testCount++;
+        }
+    }
+
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    public synchronized long getTestCount() {
+        return testCount;
+    }
+
+    /**
+     * Bytes written so far, header included.
+     */
+    public synchronized long getLength() {
+        return position;
+    }
+
+    /**
+     * Commits the length to the header and trims the file to it.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        region = null;
+        try {
+            channel.write(ByteBuffer.allocate(8).putLong(0, position), COMMITTED_LENGTH_OFFSET);
+            try {
+                channel.truncate(position);
+            } catch (IOException e) {
+                // Platforms that refuse to truncate a mapped file keep the zero-filled tail; readers stop at the
+                // committed length
+                logger.debug("Could not trim journal {}", file, e);
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close journal " + file, e);
+        }
+        logger.info("Journaled {} tests and {} requests ({} KB) to {}", testCount, requestCount, position / 1024, file);
+    }
+
+    // Returns the offset of the record in the current region, mapping the next region when it does not fit
+    private int reserve(int size) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed: " + file);
+        }
+        if (position + size > regionStart + region.capacity()) {
+            map(position);
+        }
+        int at = (int) (position - regionStart);
+        position += size;
+        return at;
+    }
+
+    private void map(long start) {
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, start, REGION_BYTES);
+            regionStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map journal " + file + " at " + start, e);
+        }
+    }
+
+    private int putBytes(int offset, byte[] bytes) {
+        region.putShort(offset, (short) bytes.length);
+        region.put(offset + 2, bytes);
+        return offset + 2 + bytes.length;
+    }
+
+    private static byte[] truncate(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_STRING_BYTES) {
+            return bytes;
+        }
+        // Cut on a character boundary so the tail does not decode as a replacement character
+        int length = MAX_STRING_BYTES;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] cut = new byte[length];
+        System.arraycopy(bytes, 0, cut, 0, length);
+        return cut;
+    }
+}
@@ -0,0 +1,45 @@
+package journal;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One finished test invocation in a {@link ResultJournal}. Statuses use the Allure names, so a failed assertion
+ * is {@link #FAILED} and any other exception {@link #BROKEN}.
+ */
+@Value
+@Builder
+public class TestEntry {
+
+    public static final String PASSED = "passed";
+    public static final String FAILED = "failed";
+    public static final String BROKEN = "broken";
+    public static final String SKIPPED = "skipped";
+
+    // Fully qualified class name and method name, joined with a dot
+    String name;
+    String status;
+    long startMillis;
+    long stopMillis;
+    // TestNG <test> the invocation ran in
+    String suite;
+    String description;
+    // Data provider arguments, null for tests without any
+    String parameters;
+    String thread;
+    String message;
+    String trace;
+
+    public String getClassName() {
+        int separator = name.lastIndexOf('.');
+        return separator < 0 ? "" : name.substring(0, separator);
+    }
+
+    public String getMethodName() {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    public long getDurationMillis() {
+        return stopMillis - startMillis;
+    }
+}
@@ -0,0 +1,74 @@
+package listeners;
+
+import config.ExecutionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import shard.ShardPlanner;
+import shard.TestDurations;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Starts the longest tests first in parallel runs, so a slow test picked up last does not stretch the wall clock
+ * while the other threads sit idle. Durations come from the history file written by
+ * {@link TestDurationListener}; tests that have never run are estimated at the median.
+ *
+ * Tests are moved in the units of {@link ShardPlanner#unitOf}: a class with its own class fixtures or method
+ * dependencies moves as a whole and keeps its internal order. Sequential runs are left in suite order.
+ */
+public class DurationOrderInterceptor implements IMethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationOrderInterceptor.class);
+
+    private final Map<String, TestDurations> durationsBySuite = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ExecutionConfig.DURATION_ORDER || methods.size() < 2
+                || !context.getCurrentXmlTest().getParallel().isParallel()) {
+            return methods;
+        }
+        TestDurations durations = durationsBySuite.computeIfAbsent(context.getSuite().getName(), name -> load());
+        if (durations.size() == 0) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = longestFirst(methods, durations);
+        logger.info("Test '{}': {} methods ordered longest first from {} recorded durations, starting with {}",
+                context.getName(), ordered.size(), durations.size(), ShardPlanner.unitOf(ordered.get(0).getMethod()));
+        return ordered;
+    }
+
+    public static List<IMethodInstance> longestFirst(List<IMethodInstance> methods, TestDurations durations) {
+        Map<String, List<IMethodInstance>> units = new LinkedHashMap<>();
+        Map<String, Long> unitMillis = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            String unit = ShardPlanner.unitOf(instance.getMethod());
+            units.computeIfAbsent(unit, key -> new ArrayList<>()).add(instance);
+            unitMillis.merge(unit, durations.estimate(TestDurations.keyOf(instance.getMethod())), Long::sum);
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        ShardPlanner.longestFirst(unitMillis).forEach(unit -> ordered.addAll(units.get(unit)));
+        return ordered;
+    }
+
+    private static TestDurations load() {
+        Path file = Path.of(ExecutionConfig.DURATIONS_FILE);
+        try {
+            return TestDurations.load(file);
+        } catch (IOException | RuntimeException e) {
+            // Ordering is only an optimization; an unreadable history leaves the suite order as it is
+            logger.warn("Could not read test durations from {}: {}", file, e.toString());
+            return new TestDurations();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package listeners;
+
+import config.ExecutionConfig;
+import metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Logs the per-endpoint latency percentiles recorded during the suite and writes the histograms to
+ * {@code metrics.dir} ({@code target/latency} by default) when the suite finishes.
+ */
+public class LatencyReportListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyReportListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LatencyRecorder recorder = LatencyRecorder.getInstance();
+        if (recorder.getHistograms().isEmpty()) {
+            return;
+        }
+        Path directory = Path.of(ExecutionConfig.METRICS_DIR);
+        logger.info("Request latency for suite '{}':\n{}", suite.getName(), recorder.formatSummary());
+        try {
+            recorder.dump(directory);
+            logger.info("Latency histograms written to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write latency histograms to {}", directory, e);
+        }
+    }
+}
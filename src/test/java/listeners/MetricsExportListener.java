@@ -0,0 +1,45 @@
+package listeners;
+
+import config.ExecutionConfig;
+import metrics.MetricsHttpServer;
+import metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Serves the request metrics on a local scrape endpoint while the suite runs when {@code metrics.http.port} is
+ * set, and writes them as an OpenMetrics file to {@code metrics.dir} when the suite finishes.
+ */
+public class MetricsExportListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsExportListener.class);
+
+    private MetricsHttpServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ExecutionConfig.METRICS_HTTP_PORT >= 0 && server == null) {
+            server = MetricsHttpServer.start(ExecutionConfig.METRICS_HTTP_PORT);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path directory = Path.of(ExecutionConfig.METRICS_DIR);
+        try {
+            Path file = MetricsRegistry.getInstance().dump(directory);
+            logger.info("OpenMetrics for suite '{}' written to {}", suite.getName(), file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write OpenMetrics to {}", directory, e);
+        }
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+    }
+}
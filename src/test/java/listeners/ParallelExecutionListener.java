@@ -0,0 +1,44 @@
+package listeners;
+
+import config.ExecutionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * Applies the {@code test.parallel}/{@code test.threadCount} properties to every suite before it runs,
+ * so the same suite file can be executed sequentially or in parallel without editing the XML.
+ *
+ * Ordering is only relaxed for parallel runs: {@code preserve-order} is switched off so TestNG
+ * may schedule independent methods concurrently, while {@code priority} still applies within a class.
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ExecutionConfig.isParallelModeOverridden()) {
+            return;
+        }
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(ExecutionConfig.PARALLEL_MODE);
+        int threadCount = ExecutionConfig.THREAD_COUNT;
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+            for (XmlTest test : suite.getTests()) {
+                test.setParallel(mode);
+                test.setThreadCount(threadCount);
+                if (mode != XmlSuite.ParallelMode.NONE) {
+                    test.setPreserveOrder(false);
+                }
+            }
+            logger.info("Suite '{}' will run with parallel={} thread-count={}", suite.getName(), mode, threadCount);
+        }
+    }
+}
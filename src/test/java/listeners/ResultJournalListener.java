@@ -0,0 +1,174 @@
+package listeners;
+
+import config.ExecutionConfig;
+import journal.JournalExporter;
+import journal.JournalSummary;
+import journal.ResultJournal;
+import journal.TestEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.ApiRequestHelper;
+import utils.EndpointKey;
+import utils.RequestListener;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Appends every test result and every request of the suite to a {@link ResultJournal} in {@code journal.dir}, and
+ * exports it when the suite finishes: a summary next to the journal and, unless {@code journal.allure=false}, one
+ * Allure result per test. Used instead of {@code AllureTestNg} in the load and soak suites, whose runs would
+ * otherwise leave a file per result behind.
+ *
+ * Requests are attributed to the test running on the same thread. In sequential suites, requests from threads a
+ * test starts itself, such as load-runner users, are attributed to the test that started last.
+ */
+public class ResultJournalListener implements ITestListener, ISuiteListener, RequestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultJournalListener.class);
+
+    private final ThreadLocal<Integer> currentTest = new ThreadLocal<>();
+    // Status code, start millis and duration of the response awaiting its body sizes on this thread
+    private final ThreadLocal<long[]> pendingResponse = ThreadLocal.withInitial(() -> new long[3]);
+    private volatile ResultJournal journal;
+    private volatile int lastStartedTest = ResultJournal.NO_TEST;
+    private boolean sequential;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (journal != null) {
+            return;
+        }
+        journal = ResultJournal.create(journalFile(suite.getName()));
+        sequential = suite.getXmlSuite().getParallel() == null || !suite.getXmlSuite().getParallel().isParallel();
+        ApiRequestHelper.addRequestListener(this);
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ResultJournal current = journal;
+        if (current != null) {
+            int testId = current.intern(result.getMethod().getQualifiedName());
+            currentTest.set(testId);
+            lastStartedTest = testId;
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, TestEntry.PASSED);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, result.getThrowable() instanceof AssertionError ? TestEntry.FAILED : TestEntry.BROKEN);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, TestEntry.SKIPPED);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, TestEntry.FAILED);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        record(result, TestEntry.BROKEN);
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+        long[] pending = pendingResponse.get();
+        pending[0] = statusCode;
+        pending[1] = System.currentTimeMillis() - durationNanos / 1_000_000;
+        pending[2] = durationNanos;
+    }
+
+    @Override
+    public void onBodySizes(String method, String url, long requestBytes, long responseBytes) {
+        ResultJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        long[] pending = pendingResponse.get();
+        Integer testId = currentTest.get();
+        int test = testId != null ? testId : sequential ? lastStartedTest : ResultJournal.NO_TEST;
+        current.recordRequest(EndpointKey.of(method, url), test, (int) pending[0], pending[1], pending[2],
+                requestBytes, responseBytes);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ResultJournal finished = journal;
+        if (finished == null) {
+            return;
+        }
+        ApiRequestHelper.removeRequestListener(this);
+        journal = null;
+        finished.close();
+
+        Path summaryFile = Path.of(ExecutionConfig.JOURNAL_DIR, baseName(suite.getName()) + "-summary.json");
+        try {
+            JournalExporter exporter = JournalExporter.read(finished.getFile());
+            JournalSummary summary = exporter.getSummary();
+            summary.writeJson(summaryFile);
+            logger.info("Journal summary for suite '{}':{}", suite.getName(), summary.format());
+            if (ExecutionConfig.JOURNAL_ALLURE) {
+                Path allureResults = Path.of(ExecutionConfig.ALLURE_RESULTS_DIR);
+                int written = exporter.writeAllureResults(allureResults);
+                logger.info("{} Allure results exported to {}", written, allureResults.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not export journal {}", finished.getFile(), e);
+        }
+    }
+
+    public static Path journalFile(String suiteName) {
+        return Path.of(ExecutionConfig.JOURNAL_DIR, baseName(suiteName) + ".journal");
+    }
+
+    private void record(ITestResult result, String status) {
+        ResultJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        Integer testId = currentTest.get();
+        currentTest.remove();
+        int nameId = testId != null ? testId : current.intern(result.getMethod().getQualifiedName());
+        Throwable throwable = result.getThrowable();
+        current.recordTest(nameId, TestEntry.builder()
+                .name(result.getMethod().getQualifiedName())
+                .status(status)
+                .startMillis(result.getStartMillis())
+                .stopMillis(result.getEndMillis())
+                .suite(result.getTestContext().getName())
+                .description(result.getMethod().getDescription())
+                .parameters(result.getParameters().length == 0 ? null : Arrays.toString(result.getParameters()))
+                .thread(Thread.currentThread().getName())
+                .message(throwable == null ? null
+                        : throwable.getMessage() != null ? throwable.getMessage() : throwable.getClass().getName())
+                .trace(throwable == null ? null : traceOf(throwable))
+                .build());
+    }
+
+    private static String traceOf(Throwable throwable) {
+        StringWriter trace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+
+    private static String baseName(String suiteName) {
+        return suiteName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+}
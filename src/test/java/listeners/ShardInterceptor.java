@@ -0,0 +1,117 @@
+package listeners;
+
+import config.ExecutionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import shard.Shard;
+import shard.ShardManifest;
+import shard.ShardPlanner;
+import shard.TestDurations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Restricts a run to one shard of the suite when {@code -Dshard.count} is above 1: the whole suite is planned
+ * once with {@link ShardPlanner} from the historical durations, and only the methods of shard
+ * {@code -Dshard.index} are kept in each {@code <test>}. Without sharding the method list is left untouched.
+ *
+ * Every shard must plan from the same history, so a sharded run requires an explicit {@code -Dperf.durations.file}
+ * ({@code .perf/} is local to each checkout). At the end of the suite the plan's fingerprint and the units that
+ * ran are written to {@link ShardManifest#FILE_NAME} in {@code metrics.dir}, where the merge checks them.
+ */
+public class ShardInterceptor implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardInterceptor.class);
+
+    private final Map<String, List<Shard>> plansBySuite = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> executedBySuite = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ExecutionConfig.isSharded()) {
+            return methods;
+        }
+        List<Shard> plan = plansBySuite.computeIfAbsent(context.getSuite().getName(),
+                name -> planShards(context.getSuite()));
+        Set<String> units = new HashSet<>(plan.get(ExecutionConfig.SHARD_INDEX).getUnits());
+        return methods.stream()
+                .filter(instance -> units.contains(ShardPlanner.unitOf(instance.getMethod())))
+                .toList();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordExecuted(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordExecuted(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        recordExecuted(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Shard> plan = plansBySuite.get(suite.getName());
+        if (plan == null) {
+            return;
+        }
+        Path file = Path.of(ExecutionConfig.METRICS_DIR, ShardManifest.FILE_NAME);
+        ShardManifest manifest = ShardManifest.of(plan, ExecutionConfig.SHARD_INDEX,
+                executedBySuite.getOrDefault(suite.getName(), Set.of()));
+        try {
+            manifest.save(file);
+            logger.info("Shard {} of plan {} ran {} units, recorded in {}", ExecutionConfig.SHARD_INDEX + 1,
+                    manifest.getFingerprint(), manifest.getExecuted().size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the shard manifest to " + file, e);
+        }
+    }
+
+    private void recordExecuted(ITestResult result) {
+        if (ExecutionConfig.isSharded()) {
+            executedBySuite.computeIfAbsent(result.getTestContext().getSuite().getName(),
+                    name -> ConcurrentHashMap.newKeySet()).add(ShardPlanner.unitOf(result.getMethod()));
+        }
+    }
+
+    private static List<Shard> planShards(ISuite suite) {
+        if (ExecutionConfig.SHARD_INDEX < 0 || ExecutionConfig.SHARD_INDEX >= ExecutionConfig.SHARD_COUNT) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (ExecutionConfig.SHARD_COUNT - 1)
+                    + ": " + ExecutionConfig.SHARD_INDEX);
+        }
+        if (!ExecutionConfig.DURATIONS_FILE_GIVEN) {
+            throw new IllegalStateException("Sharded runs plan from the test durations, so every shard needs the "
+                    + "same -Dperf.durations.file; the default .perf/ history differs between checkouts");
+        }
+        try {
+            TestDurations durations = TestDurations.load(Path.of(ExecutionConfig.DURATIONS_FILE));
+            List<Shard> plan = ShardPlanner.plan(suite.getAllMethods(), durations, ExecutionConfig.SHARD_COUNT);
+            Shard shard = plan.get(ExecutionConfig.SHARD_INDEX);
+            logger.info("Suite '{}': running shard {} of {} ({} units, ~{} ms estimated from {} recorded durations)",
+                    suite.getName(), shard.getIndex() + 1, ExecutionConfig.SHARD_COUNT, shard.getUnits().size(),
+                    shard.getEstimatedMillis(), durations.size());
+            return plan;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test durations from " + ExecutionConfig.DURATIONS_FILE, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package listeners;
+
+import config.ExecutionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import shard.TestDurations;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Measures every passed or failed test and, when the suite finishes, writes this run's durations to
+ * {@code metrics.dir} and folds them into the history file {@code perf.durations.file} that shard planning and
+ * scheduling read.
+ */
+public class TestDurationListener implements ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDurationListener.class);
+
+    public static final String RUN_FILE_NAME = "test-durations.properties";
+
+    private final TestDurations observed = new TestDurations();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (observed.size() == 0) {
+            return;
+        }
+        Path history = Path.of(ExecutionConfig.DURATIONS_FILE);
+        try {
+            observed.save(Path.of(ExecutionConfig.METRICS_DIR, RUN_FILE_NAME));
+            if (ExecutionConfig.UPDATE_DURATIONS) {
+                TestDurations durations = TestDurations.load(history);
+                durations.recordAll(observed);
+                durations.save(history);
+                logger.info("Durations of {} tests recorded in {}", observed.size(), history.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write test durations to {}", history, e);
+        }
+    }
+
+    private void record(ITestResult result) {
+        observed.record(TestDurations.keyOf(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+    }
+}
@@ -0,0 +1,231 @@
+package metrics;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent high-dynamic-range latency histogram, recording microseconds with three significant digits.
+ *
+ * Uses the HdrHistogram bucket layout: values are grouped into power-of-two buckets, each split into 2048
+ * linear sub-buckets, so relative error stays below 0.1% from 1 µs up to the highest trackable value while the
+ * whole histogram is a fixed array of counters (~23k for the default one-hour range). Recording is lock-free and
+ * allocation-free.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 10;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    public static final long DEFAULT_HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_MICROS);
+    }
+
+    public LatencyHistogram(long highestTrackableMicros) {
+        this.highestTrackableValue = Math.max(SUB_BUCKET_COUNT, highestTrackableMicros);
+        int bucketCount = bucketsNeededToCover(highestTrackableValue);
+        this.counts = new AtomicLongArray((bucketCount + 1) * SUB_BUCKET_HALF_COUNT);
+    }
+
+    public void recordNanos(long durationNanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /**
+     * Records one value; values above the highest trackable value are clamped to it.
+     */
+    public void recordMicros(long micros) {
+        long value = Math.min(Math.max(micros, 0), highestTrackableValue);
+        counts.incrementAndGet(countsIndexFor(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        minValue.accumulateAndGet(value, Math::min);
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    public void add(LatencyHistogram other) {
+        if (other.counts.length() != counts.length()) {
+            throw new IllegalArgumentException("Cannot merge histograms with different ranges");
+        }
+        for (int i = 0; i < other.counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        totalMicros.add(other.totalMicros.sum());
+        if (other.getTotalCount() > 0) {
+            minValue.accumulateAndGet(other.minValue.get(), Math::min);
+            maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getMinMicros() {
+        return getTotalCount() == 0 ? 0 : minValue.get();
+    }
+
+    public long getMaxMicros() {
+        return maxValue.get();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public double getMeanMicros() {
+        long count = getTotalCount();
+        return count == 0 ? 0 : (double) totalMicros.sum() / count;
+    }
+
+    /**
+     * Value at the given percentile (0-100], reported as the highest value equivalent to the bucket it falls in.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(requested / 100.0 * total));
+        long runningCount = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            runningCount += counts.get(i);
+            if (runningCount >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(valueFromIndex(i)), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    public double getValueAtPercentileMillis(double percentile) {
+        return getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Iterates the non-empty buckets in ascending value order, reporting each at its highest equivalent value.
+     */
+    public void forEachBucket(BucketConsumer consumer) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                consumer.accept(Math.min(highestEquivalentValue(valueFromIndex(i)), getMaxMicros()), count);
+            }
+        }
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram(highestTrackableValue);
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Compact, mergeable encoding: non-empty buckets as (index, count) pairs, Base64 encoded.
+     */
+    public String encode() {
+        int nonEmpty = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            if (counts.get(i) != 0) {
+                nonEmpty++;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8 * 4 + nonEmpty * 12);
+        buffer.putLong(highestTrackableValue).putLong(totalMicros.sum()).putLong(getMinMicros()).putLong(getMaxMicros());
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                buffer.putInt(i).putLong(count);
+            }
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        LatencyHistogram histogram = new LatencyHistogram(buffer.getLong());
+        long sum = buffer.getLong();
+        long min = buffer.getLong();
+        long max = buffer.getLong();
+        long total = 0;
+        while (buffer.remaining() >= 12) {
+            int index = buffer.getInt();
+            long count = buffer.getLong();
+            histogram.counts.addAndGet(index, count);
+            total += count;
+        }
+        histogram.totalCount.add(total);
+        histogram.totalMicros.add(sum);
+        if (total > 0) {
+            histogram.minValue.set(min);
+            histogram.maxValue.set(max);
+        }
+        return histogram;
+    }
+
+    private static int bucketsNeededToCover(long value) {
+        long smallestUntrackableValue = (long) SUB_BUCKET_COUNT;
+        int bucketsNeeded = 1;
+        while (smallestUntrackableValue <= value) {
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+                return bucketsNeeded + 1;
+            }
+            smallestUntrackableValue <<= 1;
+            bucketsNeeded++;
+        }
+        return bucketsNeeded;
+    }
+
+    private static int bucketIndexOf(long value) {
+        return LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+    }
+
+    private static int countsIndexFor(long value) {
+        int bucketIndex = bucketIndexOf(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + (subBucketIndex - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long valueFromIndex(int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    private static long highestEquivalentValue(long value) {
+        int bucketIndex = bucketIndexOf(value);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        int adjustedBucket = subBucketIndex >= SUB_BUCKET_COUNT ? bucketIndex + 1 : bucketIndex;
+        long lowestEquivalent = (long) subBucketIndex << bucketIndex;
+        return lowestEquivalent + (1L << adjustedBucket) - 1;
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+
+        void accept(long valueMicros, long count);
+    }
+}
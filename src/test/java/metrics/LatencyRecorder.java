@@ -0,0 +1,139 @@
+package metrics;
+
+import utils.EndpointKey;
+import utils.RequestListener;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the latency of every request made through {@code ApiRequestHelper} into one
+ * {@link LatencyHistogram} per HTTP method and normalized endpoint (for example {@code GET /api/v1/Books/{id}}).
+ */
+public class LatencyRecorder implements RequestListener {
+
+    private static final LatencyRecorder INSTANCE = new LatencyRecorder();
+
+    public static final String LOG_FILE_NAME = "histograms.hlog";
+
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public static LatencyRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+        histograms.computeIfAbsent(EndpointKey.of(method, url), key -> new LatencyHistogram()).recordNanos(durationNanos);
+    }
+
+    /**
+     * Histogram for a method and an endpoint given as a full URL or a path such as {@code ApiConfig.BOOKS_ENDPOINT};
+     * empty when no request has been recorded for it yet.
+     */
+    public LatencyHistogram getHistogram(String method, String endpoint) {
+        LatencyHistogram histogram = histograms.get(EndpointKey.of(method, endpoint));
+        return histogram == null ? new LatencyHistogram() : histogram;
+    }
+
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Adds histograms recorded by other JVMs, e.g. shard workers, so the end-of-suite reports cover them too.
+     */
+    public void merge(Map<String, LatencyHistogram> recorded) {
+        recorded.forEach((endpoint, histogram) ->
+                histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram()).add(histogram));
+    }
+
+    /**
+     * Writes {@code latency-summary.txt}, one {@code .hgrm} percentile distribution per endpoint and a mergeable
+     * {@code histograms.hlog} with every histogram encoded on one line.
+     */
+    public void dump(Path directory) throws IOException {
+        dump(getHistograms(), directory);
+    }
+
+    /**
+     * Same files as {@link #dump(Path)} for histograms gathered elsewhere, e.g. merged from several JVMs.
+     */
+    public static void dump(Map<String, LatencyHistogram> snapshot, Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        try (PrintWriter summary = new PrintWriter(Files.newBufferedWriter(directory.resolve("latency-summary.txt")));
+             PrintWriter log = new PrintWriter(Files.newBufferedWriter(directory.resolve(LOG_FILE_NAME)))) {
+            summary.println(formatSummary(snapshot));
+            for (Map.Entry<String, LatencyHistogram> entry : snapshot.entrySet()) {
+                log.println(entry.getKey() + "\t" + entry.getValue().encode());
+                writePercentileDistribution(entry.getValue(),
+                        directory.resolve(fileNameFor(entry.getKey())));
+            }
+        }
+    }
+
+    /**
+     * Reads a {@code histograms.hlog} written by {@link #dump(Path)}.
+     */
+    public static Map<String, LatencyHistogram> readLog(Path file) throws IOException {
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        for (String line : Files.readAllLines(file)) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) {
+                histograms.put(line.substring(0, tab), LatencyHistogram.decode(line.substring(tab + 1)));
+            }
+        }
+        return histograms;
+    }
+
+    public String formatSummary() {
+        return formatSummary(getHistograms());
+    }
+
+    public static String formatSummary(Map<String, LatencyHistogram> snapshot) {
+        StringBuilder table = new StringBuilder(String.format("%-36s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms"));
+        snapshot.forEach((endpoint, histogram) -> {
+            table.append(String.format("%-36s %8d", endpoint, histogram.getTotalCount()));
+            for (double percentile : SUMMARY_PERCENTILES) {
+                table.append(String.format(" %9.2f", histogram.getValueAtPercentileMillis(percentile)));
+            }
+            table.append(String.format(" %9.2f%n", histogram.getMaxMicros() / 1000.0));
+        });
+        return table.toString();
+    }
+
+    private static String fileNameFor(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_$", "") + ".hgrm";
+    }
+
+    // Same column layout as HdrHistogram's outputPercentileDistribution, so existing .hgrm plotters can read it
+    private static void writePercentileDistribution(LatencyHistogram histogram, Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.printf("%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+            long total = histogram.getTotalCount();
+            long[] running = {0};
+            histogram.forEachBucket((valueMicros, count) -> {
+                running[0] += count;
+                double fraction = (double) running[0] / total;
+                out.printf("%12.3f %2.12f %10d %14.2f%n", valueMicros / 1000.0, fraction, running[0],
+                        fraction < 1.0 ? 1.0 / (1.0 - fraction) : Double.POSITIVE_INFINITY);
+            });
+            out.printf("#[Mean    = %12.3f, Total count    = %12d]%n", histogram.getMeanMicros() / 1000.0, total);
+            out.printf("#[Max     = %12.3f, Min            = %12.3f]%n",
+                    histogram.getMaxMicros() / 1000.0, histogram.getMinMicros() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package metrics;
+
+import utils.ApiRequestHelper;
+import utils.ConnectionPoolStats;
+import utils.EndpointKey;
+import utils.RequestListener;
+import utils.ResilienceStats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts by status code, body bytes sent and received, and in-flight requests for every endpoint called
+ * through {@code ApiRequestHelper}.
+ *
+ * {@link #scrape()} renders them in the OpenMetrics text format together with the latency histograms of
+ * {@link LatencyRecorder}, the retry and hedging counters and the connection pool stats, so the same text can be
+ * written to a file at the end of the suite or served live by {@link MetricsHttpServer}.
+ */
+public class MetricsRegistry implements RequestListener {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    public static final String FILE_NAME = "metrics.openmetrics.txt";
+
+    private static final double[] LATENCY_BUCKETS_SECONDS =
+            {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onRequestStart(String method, String url) {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+        inFlight.decrementAndGet();
+        endpoint(method, url).statusCounts.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onBodySizes(String method, String url, long requestBytes, long responseBytes) {
+        EndpointMetrics metrics = endpoint(method, url);
+        metrics.requestBytes.add(requestBytes);
+        if (responseBytes >= 0) {
+            metrics.responseBytes.add(responseBytes);
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRequestCount(String method, String endpoint, int statusCode) {
+        EndpointMetrics metrics = endpoints.get(EndpointKey.of(method, endpoint));
+        LongAdder count = metrics == null ? null : metrics.statusCounts.get(statusCode);
+        return count == null ? 0 : count.sum();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Current metrics in the OpenMetrics text exposition format, terminated by {@code # EOF}.
+     */
+    public String scrape() {
+        Map<String, EndpointMetrics> snapshot = new TreeMap<>(endpoints);
+        StringBuilder out = new StringBuilder(4096);
+
+        family(out, "api_requests", "counter", null, "Completed requests by status code, -1 for transport errors");
+        snapshot.values().forEach(metrics -> new TreeMap<>(metrics.statusCounts).forEach((status, count) ->
+                sample(out, "api_requests_total", metrics.labels + ",status=\"" + status + "\"", count.sum())));
+
+        family(out, "api_request_body_bytes", "counter", "bytes", "Request body bytes sent");
+        snapshot.values().forEach(metrics ->
+                sample(out, "api_request_body_bytes_total", metrics.labels, metrics.requestBytes.sum()));
+
+        family(out, "api_response_body_bytes", "counter", "bytes", "Response body bytes received");
+        snapshot.values().forEach(metrics ->
+                sample(out, "api_response_body_bytes_total", metrics.labels, metrics.responseBytes.sum()));
+
+        family(out, "api_request_duration_seconds", "histogram", "seconds", "Request latency");
+        LatencyRecorder.getInstance().getHistograms().forEach((endpoint, histogram) ->
+                histogram(out, endpointLabels(endpoint), histogram));
+
+        family(out, "api_requests_in_flight", "gauge", null, "Requests sent and not yet completed");
+        sample(out, "api_requests_in_flight", null, inFlight.get());
+
+        Map<String, ResilienceStats> resilience = ApiRequestHelper.getResilience().getEndpointStats();
+        family(out, "api_request_retries", "counter", null, "Retries of idempotent requests after a failed attempt");
+        resilience.forEach((endpoint, stats) ->
+                sample(out, "api_request_retries_total", endpointLabels(endpoint), stats.getRetries()));
+        family(out, "api_request_hedges", "counter", null, "Second GETs sent past the endpoint's latency percentile");
+        resilience.forEach((endpoint, stats) ->
+                sample(out, "api_request_hedges_total", endpointLabels(endpoint), stats.getHedges()));
+        family(out, "api_request_hedge_wins", "counter", null, "Hedged GETs answered before the first request");
+        resilience.forEach((endpoint, stats) ->
+                sample(out, "api_request_hedge_wins_total", endpointLabels(endpoint), stats.getHedgeWins()));
+        family(out, "api_circuit_rejections", "counter", null, "Requests refused by an open circuit breaker");
+        resilience.forEach((endpoint, stats) ->
+                sample(out, "api_circuit_rejections_total", endpointLabels(endpoint), stats.getRejected()));
+
+        ConnectionPoolStats pool = ApiRequestHelper.getConnectionPoolStats();
+        family(out, "api_pool_connections", "gauge", null, "Pooled HTTP connections by state");
+        sample(out, "api_pool_connections", "state=\"leased\"", pool.getLeased());
+        sample(out, "api_pool_connections", "state=\"available\"", pool.getAvailable());
+        family(out, "api_pool_pending", "gauge", null, "Requests waiting for a pooled connection");
+        sample(out, "api_pool_pending", null, pool.getPending());
+        family(out, "api_pool_max_connections", "gauge", null, "Connection pool capacity");
+        sample(out, "api_pool_max_connections", null, pool.getMaxTotal());
+        family(out, "api_pool_leases", "counter", null, "Connections leased from the pool");
+        sample(out, "api_pool_leases_total", null, pool.getRequests());
+        family(out, "api_pool_connections_opened", "counter", null, "New connections opened by the pool");
+        sample(out, "api_pool_connections_opened_total", null, pool.getNewConnections());
+
+        return out.append("# EOF\n").toString();
+    }
+
+    /**
+     * Writes {@link #scrape()} to {@value #FILE_NAME} in the directory.
+     */
+    public Path dump(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve(FILE_NAME), scrape(), StandardCharsets.UTF_8);
+    }
+
+    private EndpointMetrics endpoint(String method, String url) {
+        return endpoints.computeIfAbsent(EndpointKey.of(method, url), EndpointMetrics::new);
+    }
+
+    private static void histogram(StringBuilder out, String labels, LatencyHistogram histogram) {
+        long[] cumulative = new long[LATENCY_BUCKETS_SECONDS.length];
+        long[] total = {0};
+        histogram.forEachBucket((valueMicros, count) -> {
+            total[0] += count;
+            for (int i = cumulative.length - 1; i >= 0 && valueMicros <= LATENCY_BUCKETS_SECONDS[i] * 1e6; i--) {
+                cumulative[i] += count;
+            }
+        });
+        for (int i = 0; i < LATENCY_BUCKETS_SECONDS.length; i++) {
+            sample(out, "api_request_duration_seconds_bucket",
+                    labels + ",le=\"" + LATENCY_BUCKETS_SECONDS[i] + "\"", cumulative[i]);
+        }
+        sample(out, "api_request_duration_seconds_bucket", labels + ",le=\"+Inf\"", total[0]);
+        sample(out, "api_request_duration_seconds_count", labels, total[0]);
+        out.append("api_request_duration_seconds_sum{").append(labels).append("} ")
+                .append(histogram.getTotalMicros() / 1e6).append('\n');
+    }
+
+    private static void family(StringBuilder out, String name, String type, String unit, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        if (unit != null) {
+            out.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+        }
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    // Endpoint keys look like "GET /api/v1/Books/{id}"
+    private static String endpointLabels(String endpointKey) {
+        int space = endpointKey.indexOf(' ');
+        return "method=\"" + escape(endpointKey.substring(0, space)) + "\",endpoint=\""
+                + escape(endpointKey.substring(space + 1)) + "\"";
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class EndpointMetrics {
+
+        private final String labels;
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+
+        private EndpointMetrics(String endpointKey) {
+            this.labels = endpointLabels(endpointKey);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,11 +15,12 @@ import lombok.NoArgsConstructor;
 public class Author {
 
     private int id;
-    private String idBook;
+    private int idBook;
     private String firstName;
     private String lastName;
 
 
+    @JsonIgnore
     public boolean isValid() {
         return id > 0 && firstName != null && !firstName.isEmpty() && lastName != null && !lastName.isEmpty();
     }
@@ -27,6 +29,7 @@ public class Author {
         return firstName != null && !firstName.isEmpty() && lastName != null && !lastName.isEmpty();
     }
 
+    @JsonIgnore
     public String getFullName() {
         return firstName + " " + lastName;
     }
@@ -37,7 +40,7 @@ public class Author {
                 "id=" + id +
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
-                ", idBook='" + idBook + '\'' +
+                ", idBook=" + idBook +
                 '}';
     }
 }
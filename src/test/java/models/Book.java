@@ -1,5 +1,6 @@
 package models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,7 @@ public class Book {
     private String excerpt;
     private String publishDate;
 
+    @JsonIgnore
     public boolean isValid() {
         return id > 0 && title != null && !title.isEmpty();
     }
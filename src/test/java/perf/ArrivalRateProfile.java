@@ -0,0 +1,39 @@
+package perf;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shape of an open-model load run: arrivals per second, ramping linearly from {@code startRate} to
+ * {@code endRate} over the duration, and the number of workers that execute them.
+ */
+@Value
+@Builder
+public class ArrivalRateProfile {
+
+    double startRate;
+    double endRate;
+    Duration duration;
+    // Arrivals beyond this many in progress wait in a queue; their wait still counts towards latency
+    int maxConcurrency;
+
+    public long getTotalArrivals() {
+        return (long) ((startRate + endRate) / 2 * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Intended send time of the given arrival, in nanoseconds from the start of the run. Inverts
+     * {@code n(t) = startRate * t + (endRate - startRate) * t^2 / (2 * duration)}.
+     */
+    long intendedOffsetNanos(long arrival) {
+        double seconds = duration.toNanos() / 1e9;
+        double acceleration = (endRate - startRate) / (2 * seconds);
+        double offset = Math.abs(acceleration) < 1e-9
+                ? arrival / startRate
+                : (-startRate + Math.sqrt(startRate * startRate + 4 * acceleration * arrival)) / (2 * acceleration);
+        return (long) (offset * 1e9);
+    }
+}
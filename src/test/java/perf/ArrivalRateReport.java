@@ -0,0 +1,82 @@
+package perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of an {@link ArrivalRateRunner} run. {@code endpoints} holds latency measured from the intended send
+ * time, {@code serviceTimes} the same requests measured from when they were actually sent; a gap between the two
+ * means the client could not keep up with the schedule.
+ */
+@Value
+@Builder
+public class ArrivalRateReport {
+
+    double elapsedSeconds;
+    double startRate;
+    double endRate;
+    long scheduledArrivals;
+    long completedArrivals;
+    double maxStartDelayMs;
+    List<EndpointSummary> endpoints;
+    List<EndpointSummary> serviceTimes;
+    List<ScenarioSummary> scenarios;
+
+    public long getTotalRequests() {
+        return endpoints.stream().mapToLong(EndpointSummary::getRequests).sum();
+    }
+
+    public double getArrivalThroughput() {
+        return elapsedSeconds > 0 ? completedArrivals / elapsedSeconds : 0;
+    }
+
+    public long getMissedArrivals() {
+        return scheduledArrivals - completedArrivals;
+    }
+
+    public double getErrorRate() {
+        long requests = getTotalRequests();
+        long errors = endpoints.stream().mapToLong(EndpointSummary::getErrors).sum();
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    public double getScenarioFailureRate() {
+        long iterations = scenarios.stream().mapToLong(ScenarioSummary::getIterations).sum();
+        long failures = scenarios.stream().mapToLong(ScenarioSummary::getFailures).sum();
+        return iterations == 0 ? 0 : (double) failures / iterations;
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%.0f -> %.0f arrivals/s target, %.1f achieved over %.1f s, %d/%d arrivals "
+                        + "completed, max start delay %.2f ms, error rate %.2f%%%n", startRate, endRate,
+                getArrivalThroughput(), elapsedSeconds, completedArrivals, scheduledArrivals, maxStartDelayMs,
+                getErrorRate() * 100));
+        table.append(String.format("%-36s %9s %8s %9s %9s %9s %9s %12s%n",
+                "Endpoint", "Requests", "Errors", "p50 ms", "p95 ms", "p99 ms", "max ms", "service p99"));
+        for (int i = 0; i < endpoints.size(); i++) {
+            EndpointSummary endpoint = endpoints.get(i);
+            table.append(String.format("%-36s %9d %8d %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(), endpoint.getP50Ms(),
+                    endpoint.getP95Ms(), endpoint.getP99Ms(), endpoint.getMaxMs(), serviceTimes.get(i).getP99Ms()));
+        }
+        table.append(String.format("%-52s %10s %9s%n", "Scenario", "Iterations", "Failures"));
+        for (ScenarioSummary scenario : scenarios) {
+            table.append(String.format("%-52s %10d %9d%n",
+                    scenario.getScenario(), scenario.getIterations(), scenario.getFailures()));
+        }
+        return table.toString();
+    }
+}
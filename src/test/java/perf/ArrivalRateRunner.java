@@ -0,0 +1,161 @@
+package perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ApiRequestHelper;
+import utils.EndpointKey;
+import utils.RequestListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: scenarios arrive on a fixed or ramping schedule regardless of how quickly earlier
+ * arrivals complete, so a slow server does not also slow down the load it receives.
+ *
+ * Latency is measured from each arrival's intended send time. When the workers fall behind, the time an arrival
+ * spent waiting is added to every request it makes, instead of being silently omitted as it is in a closed loop.
+ */
+public class ArrivalRateRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArrivalRateRunner.class);
+
+    private static final int MAX_LOGGED_FAILURES = 10;
+    private static final long DRAIN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ArrivalRateProfile profile;
+    private final ScenarioMix mix;
+    private final long seed;
+
+    private final Map<String, EndpointStats> responseTimes = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStats> serviceTimes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> iterations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicLong maxStartDelayNanos = new AtomicLong();
+    private final AtomicInteger loggedFailures = new AtomicInteger();
+    // How late the current worker thread's arrival started; unset on threads that are not running an arrival
+    private final ThreadLocal<Long> startDelay = new ThreadLocal<>();
+
+    public ArrivalRateRunner(ArrivalRateProfile profile, ScenarioMix mix, long seed) {
+        if (profile.getStartRate() < 0 || profile.getEndRate() < 0
+                || profile.getStartRate() + profile.getEndRate() == 0) {
+            throw new IllegalArgumentException("Arrival rates must be non-negative and not both zero: "
+                    + profile.getStartRate() + " -> " + profile.getEndRate());
+        }
+        if (profile.getMaxConcurrency() < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1: " + profile.getMaxConcurrency());
+        }
+        this.profile = profile;
+        this.mix = mix;
+        this.seed = seed;
+    }
+
+    public ArrivalRateReport run() throws InterruptedException {
+        RequestListener listener = (method, url, statusCode, durationNanos) -> {
+            Long delay = startDelay.get();
+            if (delay == null) {
+                return;
+            }
+            String endpoint = EndpointKey.of(method, url);
+            boolean error = statusCode == RequestListener.TRANSPORT_ERROR || statusCode >= 500;
+            responseTimes.computeIfAbsent(endpoint, key -> new EndpointStats()).record(durationNanos + delay, error);
+            serviceTimes.computeIfAbsent(endpoint, key -> new EndpointStats()).record(durationNanos, error);
+        };
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(profile.getMaxConcurrency(),
+                runnable -> new Thread(runnable, "arrival-worker-" + threadIndex.incrementAndGet()));
+        SplittableRandom random = new SplittableRandom(seed);
+        long totalArrivals = profile.getTotalArrivals();
+
+        logger.info("Starting arrival-rate run: {} -> {} arrivals/s over {}, {} arrivals, {} workers, scenarios {}",
+                profile.getStartRate(), profile.getEndRate(), profile.getDuration(), totalArrivals,
+                profile.getMaxConcurrency(), mix.getScenarios().stream().map(LoadScenario::getName).toList());
+
+        ApiRequestHelper.addRequestListener(listener);
+        long startTime = System.nanoTime();
+        long scheduled = 0;
+        try {
+            for (; scheduled < totalArrivals; scheduled++) {
+                long intended = startTime + profile.intendedOffsetNanos(scheduled);
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException("Arrival-rate run interrupted");
+                    }
+                }
+                LoadScenario scenario = mix.pick(random);
+                workers.execute(() -> runArrival(scenario, intended));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warn("{} arrivals still pending after draining for {} ms",
+                        scheduled - completed.sum(), DRAIN_TIMEOUT_MILLIS);
+            }
+        } finally {
+            workers.shutdownNow();
+            ApiRequestHelper.removeRequestListener(listener);
+        }
+        ArrivalRateReport report = buildReport((System.nanoTime() - startTime) / 1e9, scheduled);
+        logger.info("Arrival-rate run finished:{}", report.format());
+        return report;
+    }
+
+    private void runArrival(LoadScenario scenario, long intendedNanos) {
+        long delay = Math.max(0, System.nanoTime() - intendedNanos);
+        maxStartDelayNanos.accumulateAndGet(delay, Math::max);
+        iterations.computeIfAbsent(scenario.getName(), key -> new LongAdder()).increment();
+        startDelay.set(delay);
+        try {
+            scenario.run();
+        } catch (Throwable t) {
+            failures.computeIfAbsent(scenario.getName(), key -> new LongAdder()).increment();
+            if (loggedFailures.incrementAndGet() <= MAX_LOGGED_FAILURES) {
+                logger.warn("Scenario {} failed: {}", scenario.getName(), t.toString());
+            }
+        } finally {
+            startDelay.remove();
+            completed.increment();
+        }
+    }
+
+    private ArrivalRateReport buildReport(double elapsedSeconds, long scheduled) {
+        List<ScenarioSummary> scenarioSummaries = new ArrayList<>();
+        for (LoadScenario scenario : mix.getScenarios()) {
+            LongAdder count = iterations.get(scenario.getName());
+            LongAdder failed = failures.get(scenario.getName());
+            scenarioSummaries.add(new ScenarioSummary(scenario.getName(),
+                    count == null ? 0 : count.sum(), failed == null ? 0 : failed.sum()));
+        }
+        return ArrivalRateReport.builder()
+                .elapsedSeconds(elapsedSeconds)
+                .startRate(profile.getStartRate())
+                .endRate(profile.getEndRate())
+                .scheduledArrivals(scheduled)
+                .completedArrivals(completed.sum())
+                .maxStartDelayMs(maxStartDelayNanos.get() / 1e6)
+                .endpoints(summarize(responseTimes, elapsedSeconds))
+                .serviceTimes(summarize(serviceTimes, elapsedSeconds))
+                .scenarios(scenarioSummaries)
+                .build();
+    }
+
+    private static List<EndpointSummary> summarize(Map<String, EndpointStats> stats, double elapsedSeconds) {
+        List<EndpointSummary> summaries = new ArrayList<>();
+        new TreeMap<>(stats).forEach((endpoint, endpointStats) ->
+                summaries.add(endpointStats.summarize(endpoint, elapsedSeconds)));
+        return summaries;
+    }
+}
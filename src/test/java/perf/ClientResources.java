@@ -0,0 +1,69 @@
+package perf;
+
+import lombok.Value;
+import utils.ApiRequestHelper;
+import utils.ConnectionPoolStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of the test client's own resources, used by soak runs to tell a leak in the client apart from a
+ * server-side regression.
+ */
+@Value
+public class ClientResources {
+
+    private static final Path FD_DIR = Path.of("/proc/self/fd");
+
+    // Heap still in use after the most recent collection of each pool, the closest cheap proxy for the live set
+    long heapAfterGcBytes;
+    long heapUsedBytes;
+    int liveThreads;
+    // Open sockets of the whole process (Linux only, -1 elsewhere); includes the embedded server when it runs
+    int openSockets;
+    int pooledConnections;
+
+    public static ClientResources sample() {
+        long afterGc = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                afterGc += usage.getUsed();
+            }
+        }
+        ConnectionPoolStats pool = ApiRequestHelper.getConnectionPoolStats();
+        return new ClientResources(afterGc,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                countOpenSockets(),
+                pool.getLeased() + pool.getAvailable());
+    }
+
+    private static int countOpenSockets() {
+        if (!Files.isDirectory(FD_DIR)) {
+            return -1;
+        }
+        try (Stream<Path> descriptors = Files.list(FD_DIR)) {
+            return (int) descriptors.filter(ClientResources::isSocket).count();
+        } catch (IOException | UncheckedIOException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isSocket(Path descriptor) {
+        try {
+            return Files.readSymbolicLink(descriptor).toString().startsWith("socket:");
+        } catch (IOException e) {
+            // Closed between listing and reading
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package perf;
+
+import metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one endpoint during a load run.
+ */
+class EndpointStats {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long durationNanos, boolean error) {
+        histogram.recordNanos(durationNanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    EndpointSummary summarize(String endpoint, double elapsedSeconds) {
+        long requests = histogram.getTotalCount();
+        return EndpointSummary.builder()
+                .endpoint(endpoint)
+                .requests(requests)
+                .errors(errors.sum())
+                .throughput(elapsedSeconds > 0 ? requests / elapsedSeconds : 0)
+                .p50Ms(histogram.getValueAtPercentileMillis(50))
+                .p95Ms(histogram.getValueAtPercentileMillis(95))
+                .p99Ms(histogram.getValueAtPercentileMillis(99))
+                .p999Ms(histogram.getValueAtPercentileMillis(99.9))
+                .maxMs(histogram.getMaxMicros() / 1000.0)
+                .build();
+    }
+}
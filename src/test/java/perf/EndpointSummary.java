@@ -0,0 +1,26 @@
+package perf;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Per-endpoint throughput, error and latency figures of a load run.
+ */
+@Value
+@Builder
+public class EndpointSummary {
+
+    String endpoint;
+    long requests;
+    long errors;
+    double throughput;
+    double p50Ms;
+    double p95Ms;
+    double p99Ms;
+    double p999Ms;
+    double maxMs;
+
+    public double getErrorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+}
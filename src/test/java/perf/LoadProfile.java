@@ -0,0 +1,19 @@
+package perf;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Shape of a closed-loop load run: how many virtual users replay the scenarios, and for how long.
+ */
+@Value
+@Builder
+public class LoadProfile {
+
+    int virtualUsers;
+    Duration duration;
+    // Total scenario iterations across all users; 0 means run until the duration elapses
+    long iterations;
+}
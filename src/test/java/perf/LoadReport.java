@@ -0,0 +1,67 @@
+package perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of a {@link LoadRunner} run.
+ */
+@Value
+public class LoadReport {
+
+    double elapsedSeconds;
+    int virtualUsers;
+    List<EndpointSummary> endpoints;
+    List<ScenarioSummary> scenarios;
+
+    public long getTotalRequests() {
+        return endpoints.stream().mapToLong(EndpointSummary::getRequests).sum();
+    }
+
+    public double getThroughput() {
+        return elapsedSeconds > 0 ? getTotalRequests() / elapsedSeconds : 0;
+    }
+
+    public double getErrorRate() {
+        long requests = getTotalRequests();
+        long errors = endpoints.stream().mapToLong(EndpointSummary::getErrors).sum();
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    public double getScenarioFailureRate() {
+        long iterations = scenarios.stream().mapToLong(ScenarioSummary::getIterations).sum();
+        long failures = scenarios.stream().mapToLong(ScenarioSummary::getFailures).sum();
+        return iterations == 0 ? 0 : (double) failures / iterations;
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%d virtual users, %.1f s, %d requests, %.1f req/s, error rate %.2f%%%n",
+                virtualUsers, elapsedSeconds, getTotalRequests(), getThroughput(), getErrorRate() * 100));
+        table.append(String.format("%-36s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointSummary endpoint : endpoints) {
+            table.append(String.format("%-36s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(), endpoint.getThroughput(),
+                    endpoint.getP50Ms(), endpoint.getP95Ms(), endpoint.getP99Ms(), endpoint.getP999Ms(),
+                    endpoint.getMaxMs()));
+        }
+        table.append(String.format("%-52s %10s %9s%n", "Scenario", "Iterations", "Failures"));
+        for (ScenarioSummary scenario : scenarios) {
+            table.append(String.format("%-52s %10d %9d%n",
+                    scenario.getScenario(), scenario.getIterations(), scenario.getFailures()));
+        }
+        return table.toString();
+    }
+}
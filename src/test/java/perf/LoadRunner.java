@@ -0,0 +1,112 @@
+package perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ApiRequestHelper;
+import utils.EndpointKey;
+import utils.RequestListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator: each virtual user replays the scenarios round-robin, back to back,
+ * until the profile's duration or iteration budget is exhausted. Every request made through
+ * {@link ApiRequestHelper} meanwhile is attributed to its endpoint.
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    private static final int MAX_LOGGED_FAILURES = 10;
+
+    private final LoadProfile profile;
+    private final List<LoadScenario> scenarios;
+
+    private final Map<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> iterations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger loggedFailures = new AtomicInteger();
+
+    public LoadRunner(LoadProfile profile, List<LoadScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one load scenario is required");
+        }
+        this.profile = profile;
+        this.scenarios = List.copyOf(scenarios);
+    }
+
+    public LoadReport run() throws InterruptedException {
+        RequestListener listener = (method, url, statusCode, durationNanos) ->
+                endpointStats.computeIfAbsent(EndpointKey.of(method, url), key -> new EndpointStats())
+                        .record(durationNanos, statusCode == RequestListener.TRANSPORT_ERROR || statusCode >= 500);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(profile.getVirtualUsers(),
+                runnable -> new Thread(runnable, "load-user-" + threadIndex.incrementAndGet()));
+
+        long deadline = System.nanoTime() + profile.getDuration().toNanos();
+        AtomicLong remaining = new AtomicLong(profile.getIterations() > 0 ? profile.getIterations() : Long.MAX_VALUE);
+
+        logger.info("Starting load run: {} virtual users, duration {}, iterations {}, scenarios {}",
+                profile.getVirtualUsers(), profile.getDuration(), profile.getIterations(),
+                scenarios.stream().map(LoadScenario::getName).toList());
+
+        ApiRequestHelper.addRequestListener(listener);
+        long startTime = System.nanoTime();
+        try {
+            for (int user = 0; user < profile.getVirtualUsers(); user++) {
+                int offset = user;
+                users.execute(() -> runVirtualUser(offset, deadline, remaining));
+            }
+            users.shutdown();
+            users.awaitTermination(profile.getDuration().toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+        } finally {
+            users.shutdownNow();
+            ApiRequestHelper.removeRequestListener(listener);
+        }
+        LoadReport report = buildReport((System.nanoTime() - startTime) / 1e9);
+        logger.info("Load run finished:{}", report.format());
+        return report;
+    }
+
+    private void runVirtualUser(int offset, long deadline, AtomicLong remaining) {
+        int next = offset;
+        while (System.nanoTime() < deadline && remaining.getAndDecrement() > 0
+                && !Thread.currentThread().isInterrupted()) {
+            LoadScenario scenario = scenarios.get(next++ % scenarios.size());
+            iterations.computeIfAbsent(scenario.getName(), key -> new LongAdder()).increment();
+            try {
+                scenario.run();
+            } catch (Throwable t) {
+                failures.computeIfAbsent(scenario.getName(), key -> new LongAdder()).increment();
+                if (loggedFailures.incrementAndGet() <= MAX_LOGGED_FAILURES) {
+                    logger.warn("Scenario {} failed: {}", scenario.getName(), t.toString());
+                }
+            }
+        }
+    }
+
+    private LoadReport buildReport(double elapsedSeconds) {
+        List<EndpointSummary> endpoints = new ArrayList<>();
+        new TreeMap<>(endpointStats).forEach((endpoint, stats) ->
+                endpoints.add(stats.summarize(endpoint, elapsedSeconds)));
+
+        List<ScenarioSummary> scenarioSummaries = new ArrayList<>();
+        for (LoadScenario scenario : scenarios) {
+            LongAdder count = iterations.get(scenario.getName());
+            LongAdder failed = failures.get(scenario.getName());
+            scenarioSummaries.add(new ScenarioSummary(scenario.getName(),
+                    count == null ? 0 : count.sum(), failed == null ? 0 : failed.sum()));
+        }
+        return new LoadReport(elapsedSeconds, profile.getVirtualUsers(), endpoints, scenarioSummaries);
+    }
+}
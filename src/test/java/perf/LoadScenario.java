@@ -0,0 +1,78 @@
+package perf;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A named unit of work replayed by {@link LoadRunner}. Scenarios are usually existing TestNG test methods,
+ * so the load mode exercises exactly the request builders, models and assertions of the functional suite.
+ */
+public class LoadScenario {
+
+    private final String name;
+    private final Runnable action;
+
+    private LoadScenario(String name, Runnable action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    public static LoadScenario of(String name, Runnable action) {
+        return new LoadScenario(name, action);
+    }
+
+    /**
+     * Wraps a no-argument test method; one test class instance is shared by all virtual users.
+     */
+    public static LoadScenario fromTestMethod(Class<?> testClass, String methodName) {
+        try {
+            Method method = testClass.getMethod(methodName);
+            Object instance = testClass.getDeclaredConstructor().newInstance();
+            return new LoadScenario(testClass.getSimpleName() + "." + methodName, () -> invoke(method, instance));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot use " + testClass.getName() + "." + methodName
+                    + " as a load scenario", e);
+        }
+    }
+
+    /**
+     * Resolves a {@code package.Class.method} reference relative to the {@code tests} package.
+     */
+    public static LoadScenario fromReference(String reference) {
+        int separator = reference.lastIndexOf('.');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Scenario reference must be Class.method: " + reference);
+        }
+        String className = "tests." + reference.substring(0, separator);
+        try {
+            return fromTestMethod(Class.forName(className), reference.substring(separator + 1));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown scenario class " + className, e);
+        }
+    }
+
+    private static void invoke(Method method, Object instance) {
+        try {
+            method.invoke(instance);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void run() {
+        action.run();
+    }
+}
@@ -0,0 +1,40 @@
+package perf;
+
+import utils.RequestListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Holds every request made through {@code ApiRequestHelper} to a fixed overall rate. Registered as a
+ * {@link RequestListener}, it delays the calling thread in {@link #onRequestStart} until the request's slot comes
+ * up, so the rate holds however many users share it and however many requests a scenario makes.
+ */
+public class RequestPacer implements RequestListener {
+
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    public RequestPacer(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive: " + requestsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    }
+
+    @Override
+    public void onRequestStart(String method, String url) {
+        // Idle time is not banked: after a pause the schedule restarts from now instead of bursting
+        long slot = nextSlot.getAndAccumulate(System.nanoTime(),
+                (scheduled, now) -> Math.max(scheduled, now) + intervalNanos);
+        long wait;
+        while ((wait = slot - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+    }
+}
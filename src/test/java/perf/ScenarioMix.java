@@ -0,0 +1,75 @@
+package perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice between load scenarios, e.g. 80% list books, 15% create a book, 5% delete an author.
+ */
+public class ScenarioMix {
+
+    private final List<LoadScenario> scenarios;
+    private final int[] cumulativeWeights;
+
+    private ScenarioMix(List<LoadScenario> scenarios, List<Integer> weights) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one weighted scenario is required");
+        }
+        this.scenarios = List.copyOf(scenarios);
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            if (weights.get(i) <= 0) {
+                throw new IllegalArgumentException("Weight of " + scenarios.get(i).getName() + " must be positive");
+            }
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Scenarios in the map's iteration order, so pass a {@code LinkedHashMap} for a stable order in reports.
+     */
+    public static ScenarioMix of(Map<LoadScenario, Integer> weights) {
+        return new ScenarioMix(new ArrayList<>(weights.keySet()), new ArrayList<>(weights.values()));
+    }
+
+    /**
+     * Parses comma-separated {@code Class.method:weight} references relative to the {@code tests} package; a
+     * reference without a weight counts as weight 1.
+     */
+    public static ScenarioMix parse(String spec) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String reference = entry.trim();
+            if (reference.isEmpty()) {
+                continue;
+            }
+            int separator = reference.lastIndexOf(':');
+            try {
+                weights.add(separator < 0 ? 1 : Integer.parseInt(reference.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in scenario mix entry: " + reference, e);
+            }
+            scenarios.add(LoadScenario.fromReference(separator < 0 ? reference : reference.substring(0, separator)));
+        }
+        return new ScenarioMix(scenarios, weights);
+    }
+
+    public LoadScenario pick(RandomGenerator random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    public List<LoadScenario> getScenarios() {
+        return scenarios;
+    }
+}
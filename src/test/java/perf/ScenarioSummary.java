@@ -0,0 +1,18 @@
+package perf;
+
+import lombok.Value;
+
+/**
+ * Iteration and failure counts of one scenario during a load run.
+ */
+@Value
+public class ScenarioSummary {
+
+    String scenario;
+    long iterations;
+    long failures;
+
+    public double getFailureRate() {
+        return iterations == 0 ? 0 : (double) failures / iterations;
+    }
+}
@@ -0,0 +1,188 @@
+package perf;
+
+import metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.EndpointKey;
+import utils.RequestListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects per-endpoint latency in fixed intervals during a soak run and, at the end of each interval, evaluates
+ * the sliding window made of the most recent intervals against the baseline window.
+ *
+ * Only the intervals of the current window are retained, so memory stays flat however long the run is.
+ */
+class SoakMonitor implements RequestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoakMonitor.class);
+
+    private final SoakProfile profile;
+
+    private volatile Map<String, EndpointStats> currentInterval = new ConcurrentHashMap<>();
+    private final Deque<Map<String, EndpointStats>> recentIntervals = new ArrayDeque<>();
+    private final Deque<ClientResources> recentResources = new ArrayDeque<>();
+    private final List<SoakWindow> windows = new ArrayList<>();
+    private final List<String> driftFindings = new ArrayList<>();
+
+    private Map<String, LatencyHistogram> baseline;
+    private List<ClientResources> baselineResources;
+    private int intervals;
+
+    SoakMonitor(SoakProfile profile) {
+        this.profile = profile;
+    }
+
+    @Override
+    public void onResponse(String method, String url, int statusCode, long durationNanos) {
+        currentInterval.computeIfAbsent(EndpointKey.of(method, url), key -> new EndpointStats())
+                .record(durationNanos, statusCode == RequestListener.TRANSPORT_ERROR || statusCode >= 500);
+    }
+
+    /**
+     * Ends the current interval and evaluates the window ending with it; {@code null} until the first window is
+     * full.
+     */
+    synchronized SoakWindow closeInterval(double elapsedSeconds) {
+        Map<String, EndpointStats> closed = currentInterval;
+        currentInterval = new ConcurrentHashMap<>();
+        intervals++;
+
+        recentIntervals.addLast(closed);
+        recentResources.addLast(ClientResources.sample());
+        if (recentIntervals.size() > profile.getWindowIntervals()) {
+            recentIntervals.removeFirst();
+            recentResources.removeFirst();
+        }
+        if (recentIntervals.size() < profile.getWindowIntervals()) {
+            return null;
+        }
+
+        Map<String, LatencyHistogram> window = new TreeMap<>();
+        long errors = 0;
+        for (Map<String, EndpointStats> interval : recentIntervals) {
+            for (Map.Entry<String, EndpointStats> entry : interval.entrySet()) {
+                window.computeIfAbsent(entry.getKey(), key -> new LatencyHistogram())
+                        .add(entry.getValue().getHistogram());
+                errors += entry.getValue().getErrors();
+            }
+        }
+        boolean isBaseline = baseline == null
+                && intervals >= profile.getWarmupIntervals() + profile.getWindowIntervals();
+        if (isBaseline) {
+            baseline = window;
+            baselineResources = List.copyOf(recentResources);
+        }
+
+        double maxDrift = 0;
+        String driftedEndpoint = null;
+        if (baseline != null && !isBaseline) {
+            for (Map.Entry<String, LatencyHistogram> entry : window.entrySet()) {
+                LatencyHistogram reference = baseline.get(entry.getKey());
+                if (reference == null || reference.getTotalCount() < profile.getMinWindowSamples()
+                        || entry.getValue().getTotalCount() < profile.getMinWindowSamples()) {
+                    continue;
+                }
+                double drift = (entry.getValue().getValueAtPercentile(99)
+                        / (double) Math.max(1, reference.getValueAtPercentile(99)) - 1) * 100;
+                if (drift > maxDrift) {
+                    maxDrift = drift;
+                    if (drift > profile.getMaxP99DriftPercent()) {
+                        driftedEndpoint = entry.getKey();
+                    }
+                }
+            }
+        }
+
+        LatencyHistogram overall = new LatencyHistogram();
+        window.values().forEach(overall::add);
+        double windowSeconds = profile.getWindowIntervals() * profile.getInterval().toMillis() / 1000.0;
+        SoakWindow result = SoakWindow.builder()
+                .index(windows.size())
+                .elapsedSeconds(elapsedSeconds)
+                .requests(overall.getTotalCount())
+                .errors(errors)
+                .throughput(overall.getTotalCount() / windowSeconds)
+                .p50Ms(overall.getValueAtPercentileMillis(50))
+                .p99Ms(overall.getValueAtPercentileMillis(99))
+                .maxP99DriftPercent(maxDrift)
+                .driftedEndpoint(driftedEndpoint)
+                .baseline(isBaseline)
+                .resources(recentResources.getLast())
+                .build();
+        windows.add(result);
+        if (driftedEndpoint != null) {
+            String finding = String.format("%.0f s: p99 of %s is %.0f%% above baseline (%.2f ms vs %.2f ms)",
+                    elapsedSeconds, driftedEndpoint, maxDrift,
+                    window.get(driftedEndpoint).getValueAtPercentileMillis(99),
+                    baseline.get(driftedEndpoint).getValueAtPercentileMillis(99));
+            driftFindings.add(finding);
+            logger.warn("Latency drift at {}", finding);
+        }
+        return result;
+    }
+
+    /**
+     * Compares the client resources of the last window with those of the baseline window.
+     */
+    synchronized List<String> findLeaks() {
+        List<String> leaks = new ArrayList<>();
+        if (baselineResources == null || windows.isEmpty() || windows.get(windows.size() - 1).isBaseline()) {
+            return leaks;
+        }
+        double[] before = average(baselineResources);
+        double[] after = average(recentResources);
+
+        long heapBefore = minHeapAfterGc(baselineResources);
+        long heapAfter = minHeapAfterGc(recentResources);
+        if (heapBefore > 0) {
+            double heapGrowth = (heapAfter / (double) heapBefore - 1) * 100;
+            if (heapGrowth > profile.getMaxHeapGrowthPercent()
+                    && heapAfter - heapBefore > profile.getMinHeapGrowthMb() * 1048576L) {
+                leaks.add(String.format("Heap after GC grew %.0f%% (%.1f MB -> %.1f MB)",
+                        heapGrowth, heapBefore / 1048576.0, heapAfter / 1048576.0));
+            }
+        }
+        if (after[0] - before[0] > profile.getMaxThreadGrowth()) {
+            leaks.add(String.format("Live threads grew from %.0f to %.0f", before[0], after[0]));
+        }
+        if (before[1] >= 0 && after[1] - before[1] > profile.getMaxSocketGrowth()) {
+            leaks.add(String.format("Open sockets grew from %.0f to %.0f", before[1], after[1]));
+        }
+        return leaks;
+    }
+
+    synchronized List<SoakWindow> getWindows() {
+        return List.copyOf(windows);
+    }
+
+    synchronized List<String> getDriftFindings() {
+        return List.copyOf(driftFindings);
+    }
+
+    // The lowest post-GC heap of a window is its live-set floor; a leak raises the floor, not just the peaks
+    private static long minHeapAfterGc(Collection<ClientResources> samples) {
+        return samples.stream().mapToLong(ClientResources::getHeapAfterGcBytes).min().orElse(0);
+    }
+
+    // Mean live threads and open sockets over the samples
+    private static double[] average(Collection<ClientResources> samples) {
+        double[] sums = new double[2];
+        for (ClientResources sample : samples) {
+            sums[0] += sample.getLiveThreads();
+            sums[1] += sample.getOpenSockets();
+        }
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] /= samples.size();
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,36 @@
+package perf;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Shape of a soak run: the closed-loop users and duration of the underlying load run, the overall request rate,
+ * and the windows and thresholds used to flag latency drift and client resource leaks.
+ */
+@Value
+@Builder
+public class SoakProfile {
+
+    int virtualUsers;
+    Duration duration;
+    double requestsPerSecond;
+    Duration interval;
+    // Sliding window length in intervals; the baseline is the first full window after the warm-up intervals
+    int windowIntervals;
+    int warmupIntervals;
+    double maxP99DriftPercent;
+    int minWindowSamples;
+    double maxHeapGrowthPercent;
+    int minHeapGrowthMb;
+    int maxThreadGrowth;
+    int maxSocketGrowth;
+
+    LoadProfile toLoadProfile() {
+        return LoadProfile.builder()
+                .virtualUsers(virtualUsers)
+                .duration(duration)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of a {@link SoakRunner} run: the overall load report, the sliding windows, and what was flagged.
+ */
+@Value
+public class SoakReport {
+
+    public static final String STABLE = "stable";
+    public static final String SERVER_REGRESSION = "server regression suspected";
+    public static final String CLIENT_LEAK = "client leak suspected";
+
+    LoadReport load;
+    List<SoakWindow> windows;
+    List<String> driftFindings;
+    List<String> leakFindings;
+
+    public boolean hasDrift() {
+        return !driftFindings.isEmpty();
+    }
+
+    public boolean hasLeak() {
+        return !leakFindings.isEmpty();
+    }
+
+    /**
+     * Latency drift while the client's own resources stay flat points at the server; growing client resources
+     * make any drift suspect, so a leak takes precedence.
+     */
+    public String getVerdict() {
+        if (hasLeak()) {
+            return CLIENT_LEAK;
+        }
+        return hasDrift() ? SERVER_REGRESSION : STABLE;
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder(load.format());
+        table.append(String.format("%n%8s %9s %8s %9s %9s %9s %9s %9s %8s %8s%n", "Elapsed", "Requests", "Errors",
+                "Req/s", "p50 ms", "p99 ms", "Drift %", "Heap MB", "Threads", "Sockets"));
+        for (SoakWindow window : windows) {
+            ClientResources resources = window.getResources();
+            table.append(String.format("%7.0fs %9d %8d %9.1f %9.2f %9.2f %9.0f %9.1f %8d %8d%s%n",
+                    window.getElapsedSeconds(), window.getRequests(), window.getErrors(), window.getThroughput(),
+                    window.getP50Ms(), window.getP99Ms(), window.getMaxP99DriftPercent(),
+                    resources.getHeapAfterGcBytes() / 1048576.0, resources.getLiveThreads(),
+                    resources.getOpenSockets(), marker(window)));
+        }
+        driftFindings.forEach(finding -> table.append("Drift: ").append(finding).append(System.lineSeparator()));
+        leakFindings.forEach(finding -> table.append("Leak: ").append(finding).append(System.lineSeparator()));
+        return table.append("Verdict: ").append(getVerdict()).append(System.lineSeparator()).toString();
+    }
+
+    private static String marker(SoakWindow window) {
+        if (window.isBaseline()) {
+            return "  baseline";
+        }
+        return window.isDrifted() ? "  drift" : "";
+    }
+}
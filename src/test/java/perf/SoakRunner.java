@@ -0,0 +1,78 @@
+package perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ApiRequestHelper;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running load: the scenarios are replayed by a {@link LoadRunner} for the whole soak duration, held to a
+ * fixed request rate by a {@link RequestPacer}, while a {@link SoakMonitor} closes an interval on a fixed schedule
+ * and compares each sliding window with the baseline.
+ */
+public class SoakRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoakRunner.class);
+
+    private final SoakProfile profile;
+    private final List<LoadScenario> scenarios;
+
+    public SoakRunner(SoakProfile profile, List<LoadScenario> scenarios) {
+        if (profile.getWindowIntervals() < 1) {
+            throw new IllegalArgumentException("windowIntervals must be at least 1: " + profile.getWindowIntervals());
+        }
+        this.profile = profile;
+        this.scenarios = List.copyOf(scenarios);
+    }
+
+    public SoakReport run() throws InterruptedException {
+        RequestPacer pacer = new RequestPacer(profile.getRequestsPerSecond());
+        SoakMonitor monitor = new SoakMonitor(profile);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        logger.info("Starting soak run: {} req/s, {} interval, window of {} intervals, {} warm-up intervals",
+                profile.getRequestsPerSecond(), profile.getInterval(), profile.getWindowIntervals(),
+                profile.getWarmupIntervals());
+
+        long intervalMillis = profile.getInterval().toMillis();
+        long startTime = System.nanoTime();
+        ApiRequestHelper.addRequestListener(pacer);
+        ApiRequestHelper.addRequestListener(monitor);
+        LoadReport load;
+        try {
+            sampler.scheduleAtFixedRate(() -> {
+                try {
+                    SoakWindow window = monitor.closeInterval((System.nanoTime() - startTime) / 1e9);
+                    if (window != null) {
+                        logger.info("Soak window at {} s: {} requests, p50 {} ms, p99 {} ms, drift {}%, heap {} MB, "
+                                        + "{} threads, {} sockets", Math.round(window.getElapsedSeconds()),
+                                window.getRequests(), window.getP50Ms(), window.getP99Ms(),
+                                Math.round(window.getMaxP99DriftPercent()),
+                                window.getResources().getHeapAfterGcBytes() >> 20,
+                                window.getResources().getLiveThreads(), window.getResources().getOpenSockets());
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Soak sampling failed: {}", e.toString());
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            load = new LoadRunner(profile.toLoadProfile(), scenarios).run();
+        } finally {
+            sampler.shutdownNow();
+            sampler.awaitTermination(intervalMillis, TimeUnit.MILLISECONDS);
+            ApiRequestHelper.removeRequestListener(monitor);
+            ApiRequestHelper.removeRequestListener(pacer);
+        }
+
+        SoakReport report = new SoakReport(load, monitor.getWindows(), monitor.getDriftFindings(), monitor.findLeaks());
+        logger.info("Soak run finished:{}", report.format());
+        return report;
+    }
+}
@@ -0,0 +1,30 @@
+package perf;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One step of the sliding window of a soak run: latency over the last window of intervals, its drift from the
+ * baseline window, and the client resources sampled at the end of the step.
+ */
+@Value
+@Builder
+public class SoakWindow {
+
+    int index;
+    double elapsedSeconds;
+    long requests;
+    long errors;
+    double throughput;
+    double p50Ms;
+    double p99Ms;
+    // Largest p99 increase of any endpoint over its baseline, in percent; 0 until the baseline is known
+    double maxP99DriftPercent;
+    String driftedEndpoint;
+    boolean baseline;
+    ClientResources resources;
+
+    public boolean isDrifted() {
+        return driftedEndpoint != null;
+    }
+}
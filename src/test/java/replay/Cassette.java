@@ -0,0 +1,313 @@
+package replay;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk store of recorded HTTP exchanges, written in record mode and served from memory-mapped files in
+ * replay mode.
+ *
+ * A cassette is a directory with two files: {@code exchanges.dat}, the responses appended in the order they were
+ * received, and {@code exchanges.idx}, a sorted array of (route hash, body hash, offset) entries written on
+ * {@link #close()}. The route is the method plus the path and query of the URL, so a cassette recorded against one
+ * host replays against any other. Replay binary-searches the mapped index for the exact route and body; if the body
+ * was never recorded it falls back to any exchange of the same route. Repeated requests are answered in recording
+ * order and the last recorded exchange is repeated once they run out.
+ */
+public class Cassette implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Cassette.class);
+
+    static final String DATA_FILE = "exchanges.dat";
+    static final String INDEX_FILE = "exchanges.idx";
+
+    private static final int INDEX_MAGIC = 0x43535431;
+    private static final int INDEX_HEADER_BYTES = 8;
+    private static final int INDEX_ENTRY_BYTES = 24;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Path directory;
+    private final boolean recording;
+
+    // Record mode
+    private DataOutputStream data;
+    private final List<IndexEntry> entries = new ArrayList<>();
+
+    // Replay mode
+    private MappedByteBuffer dataBuffer;
+    private MappedByteBuffer indexBuffer;
+    private int entryCount;
+    private final Map<Integer, AtomicInteger> exactCursors = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> routeCursors = new ConcurrentHashMap<>();
+
+    private Cassette(Path directory, boolean recording) {
+        this.directory = directory;
+        this.recording = recording;
+    }
+
+    /**
+     * Starts a new cassette in the directory, replacing any previous recording there.
+     */
+    public static Cassette record(Path directory) {
+        Cassette cassette = new Cassette(directory, true);
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(INDEX_FILE));
+            cassette.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                    directory.resolve(DATA_FILE), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create cassette in " + directory, e);
+        }
+        logger.info("Recording HTTP exchanges to {}", directory);
+        return cassette;
+    }
+
+    /**
+     * Maps a recorded cassette for replay.
+     */
+    public static Cassette replay(Path directory) {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            throw new IllegalStateException("No cassette in " + directory
+                    + "; record one first with -Dapi.cassette.mode=record");
+        }
+        Cassette cassette = new Cassette(directory, false);
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ);
+             FileChannel data = FileChannel.open(directory.resolve(DATA_FILE), StandardOpenOption.READ)) {
+            cassette.indexBuffer = index.map(FileChannel.MapMode.READ_ONLY, 0, index.size());
+            cassette.dataBuffer = data.map(FileChannel.MapMode.READ_ONLY, 0, data.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cassette in " + directory, e);
+        }
+        if (cassette.indexBuffer.getInt(0) != INDEX_MAGIC) {
+            throw new IllegalStateException("Not a cassette index: " + indexFile);
+        }
+        cassette.entryCount = cassette.indexBuffer.getInt(4);
+        logger.info("Replaying {} recorded HTTP exchanges from {}", cassette.entryCount, directory);
+        return cassette;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Appends the exchange and returns the response unchanged. Its body is buffered in the process.
+     */
+    public Response record(String method, String url, byte[] requestBody, Response response) {
+        String route = routeOf(method, url);
+        byte[] body = response.asByteArray();
+        synchronized (this) {
+            if (data == null) {
+                throw new IllegalStateException("Cassette is closed: " + directory);
+            }
+            try {
+                long offset = data.size();
+                data.writeUTF(route);
+                data.writeInt(response.getStatusCode());
+                data.writeUTF(String.valueOf(response.getStatusLine()));
+                data.writeShort(response.getHeaders().size());
+                for (Header header : response.getHeaders()) {
+                    data.writeUTF(header.getName());
+                    data.writeUTF(header.getValue());
+                }
+                data.writeInt(body.length);
+                data.write(body);
+                entries.add(new IndexEntry(hash(route), hash(requestBody), offset));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not record " + route, e);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the recorded response for the request, or throws {@link IllegalStateException} if the route was
+     * never recorded.
+     */
+    public Response replay(String method, String url, byte[] requestBody) {
+        String route = routeOf(method, url);
+        long routeHash = hash(route);
+        int routeStart = lowerBound(routeHash, Long.MIN_VALUE);
+        int routeEnd = lowerBound(routeHash + 1, Long.MIN_VALUE);
+        if (routeHash == Long.MAX_VALUE) {
+            routeEnd = entryCount;
+        }
+        if (routeStart >= routeEnd) {
+            throw new IllegalStateException("No recorded exchange for " + route + " in " + directory);
+        }
+
+        long bodyHash = hash(requestBody);
+        int exactStart = lowerBound(routeHash, bodyHash);
+        int exactEnd = bodyHash == Long.MAX_VALUE ? routeEnd : lowerBound(routeHash, bodyHash + 1);
+        int entry = exactStart < exactEnd
+                ? next(exactCursors, exactStart, exactEnd)
+                : next(routeCursors, routeStart, routeEnd);
+        return readResponse(route, indexBuffer.getLong(entryPosition(entry) + 16));
+    }
+
+    /**
+     * Ends a recording by writing the sorted index. Does nothing in replay mode; the mappings are released by
+     * the garbage collector.
+     */
+    @Override
+    public synchronized void close() {
+        if (!recording || data == null) {
+            return;
+        }
+        try {
+            data.close();
+            data = null;
+            entries.sort(IndexEntry.ORDER);
+            ByteBuffer index = ByteBuffer.allocate(INDEX_HEADER_BYTES + entries.size() * INDEX_ENTRY_BYTES);
+            index.putInt(INDEX_MAGIC).putInt(entries.size());
+            for (IndexEntry entry : entries) {
+                index.putLong(entry.routeHash).putLong(entry.bodyHash).putLong(entry.offset);
+            }
+            Files.write(directory.resolve(INDEX_FILE), index.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write cassette index in " + directory, e);
+        }
+        logger.info("Recorded {} HTTP exchanges to {}", entries.size(), directory);
+    }
+
+    private static int next(Map<Integer, AtomicInteger> cursors, int start, int end) {
+        int position = cursors.computeIfAbsent(start, key -> new AtomicInteger()).getAndIncrement();
+        return Math.min(start + position, end - 1);
+    }
+
+    // First index entry not less than (routeHash, bodyHash)
+    private int lowerBound(long routeHash, long bodyHash) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int position = entryPosition(mid);
+            int order = Long.compare(indexBuffer.getLong(position), routeHash);
+            if (order == 0) {
+                order = Long.compare(indexBuffer.getLong(position + 8), bodyHash);
+            }
+            if (order < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int entryPosition(int entry) {
+        return INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES;
+    }
+
+    private Response readResponse(String route, long offset) {
+        int[] position = {(int) offset};
+        String recordedRoute = readUtf(position);
+        if (!recordedRoute.equals(route)) {
+            throw new IllegalStateException("Cassette index collision: " + route + " resolved to " + recordedRoute);
+        }
+        int statusCode = dataBuffer.getInt(position[0]);
+        position[0] += 4;
+        String statusLine = readUtf(position);
+        int headerCount = Short.toUnsignedInt(dataBuffer.getShort(position[0]));
+        position[0] += 2;
+        List<Header> headers = new ArrayList<>(headerCount);
+        String contentType = null;
+        for (int i = 0; i < headerCount; i++) {
+            Header header = new Header(readUtf(position), readUtf(position));
+            if (header.getName().equalsIgnoreCase("Content-Type")) {
+                contentType = header.getValue();
+            }
+            headers.add(header);
+        }
+        byte[] body = new byte[dataBuffer.getInt(position[0])];
+        dataBuffer.get(position[0] + 4, body);
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    // Reads a DataOutputStream.writeUTF string (plain UTF-8 for everything but NUL and supplementary characters)
+    private String readUtf(int[] position) {
+        int length = Short.toUnsignedInt(dataBuffer.getShort(position[0]));
+        byte[] bytes = new byte[length];
+        dataBuffer.get(position[0] + 2, bytes);
+        position[0] += 2 + length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String routeOf(String method, String url) {
+        URI uri = URI.create(url);
+        String query = uri.getRawQuery();
+        return method.toUpperCase() + " " + uri.getRawPath() + (query == null ? "" : "?" + query);
+    }
+
+    private static long hash(String value) {
+        return hash(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 64-bit FNV-1a; a request without a body hashes like an empty one
+    private static long hash(byte[] bytes) {
+        long hash = FNV_OFFSET_BASIS;
+        if (bytes != null) {
+            for (byte b : bytes) {
+                hash ^= b & 0xff;
+                hash *= FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    private static final class IndexEntry {
+
+        private static final Comparator<IndexEntry> ORDER = Comparator.<IndexEntry>comparingLong(e -> e.routeHash)
+                .thenComparingLong(e -> e.bodyHash)
+                .thenComparingLong(e -> e.offset);
+
+        private final long routeHash;
+        private final long bodyHash;
+        private final long offset;
+
+        private IndexEntry(long routeHash, long bodyHash, long offset) {
+            this.routeHash = routeHash;
+            this.bodyHash = bodyHash;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package replay;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Assured filter that records every exchange to a {@link Cassette}, or answers from it without sending the
+ * request when the cassette is being replayed.
+ */
+public class CassetteFilter implements Filter {
+
+    private final Cassette cassette;
+
+    public CassetteFilter(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        byte[] body = bodyOf(requestSpec.getBody());
+        if (!cassette.isRecording()) {
+            return cassette.replay(requestSpec.getMethod(), requestSpec.getURI(), body);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        return cassette.record(requestSpec.getMethod(), requestSpec.getURI(), body, response);
+    }
+
+    static byte[] bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+}
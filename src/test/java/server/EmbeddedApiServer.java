@@ -0,0 +1,301 @@
+package server;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import config.ApiConfig;
+import models.Author;
+import models.Book;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * In-process stand-in for the FakeRestAPI host.
+ *
+ * Serves the {@code /api/v1/Books} and {@code /api/v1/Authors} contracts from an {@link InMemoryBookstore}
+ * on the loopback interface, so the suite can run offline and without network latency.
+ * Error responses follow the ASP.NET problem-details shape the real API returns:
+ * 404 for unknown IDs and 400 for malformed IDs or request bodies. GET responses carry an {@code ETag} and honour
+ * {@code If-None-Match} with 304.
+ */
+public class EmbeddedApiServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedApiServer.class);
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8; v=1.0";
+
+    private static EmbeddedApiServer shared;
+
+    static {
+        // Without TCP_NODELAY, the separate header and body writes of HttpServer hit Nagle's algorithm and the
+        // client's delayed ACK, adding ~40 ms to every keep-alive request. Must be set before HttpServer loads.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final InMemoryBookstore store;
+    private final ObjectMapper mapper = new ObjectMapper().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    private final HttpServer server;
+
+    // Platform threads on purpose: Apache HttpClient holds a monitor for the whole exchange, so a client request
+    // made from a virtual thread pins its carrier until the response arrives. Handlers sharing those carriers
+    // could then never run to produce it.
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("embedded-api-", 1).daemon().factory());
+
+    public EmbeddedApiServer(int port, InMemoryBookstore store) throws IOException {
+        this.store = store;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(ApiConfig.BOOKS_ENDPOINT, new ResourceHandler<>(store.books(), Book.class));
+        server.createContext(ApiConfig.AUTHORS_ENDPOINT, new ResourceHandler<>(store.authors(), Author.class));
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts the JVM-wide server instance used by {@code BaseTest}, seeded from the {@code api.embedded.*} properties.
+     */
+    public static synchronized EmbeddedApiServer startShared() {
+        if (shared == null) {
+            try {
+                InMemoryBookstore store = InMemoryBookstore.seeded(
+                        ApiConfig.EMBEDDED_BOOK_COUNT, ApiConfig.EMBEDDED_AUTHORS_PER_BOOK);
+                shared = new EmbeddedApiServer(ApiConfig.EMBEDDED_PORT, store);
+                shared.start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start embedded API server", e);
+            }
+        }
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public void start() {
+        long startTime = System.nanoTime();
+        server.start();
+        logger.info("Embedded API server listening on {} (started in {} ms, {} books, {} authors)",
+                getBaseUrl(), (System.nanoTime() - startTime) / 1_000_000,
+                store.books().size(), store.authors().size());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Embedded API server on {} stopped", getBaseUrl());
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public InMemoryBookstore getStore() {
+        return store;
+    }
+
+    private class ResourceHandler<T> implements HttpHandler {
+
+        private final InMemoryRepository<T> repository;
+        private final Class<T> type;
+
+        ResourceHandler(InMemoryRepository<T> repository, Class<T> type) {
+            this.repository = repository;
+            this.type = type;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath()
+                        .substring(exchange.getHttpContext().getPath().length());
+                if (path.endsWith("/")) {
+                    path = path.substring(0, path.length() - 1);
+                }
+                String method = exchange.getRequestMethod();
+
+                if (path.isEmpty()) {
+                    handleCollection(exchange, method);
+                } else if (type == Author.class && path.startsWith("/authors/books/")) {
+                    handleAuthorsByBook(exchange, method, path.substring("/authors/books/".length()));
+                } else if (path.lastIndexOf('/') == 0) {
+                    handleItem(exchange, method, path.substring(1));
+                } else {
+                    sendProblem(exchange, ApiConfig.HTTP_404_NOT_FOUND, "Not Found", null);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Embedded API server failed to handle {} {}",
+                        exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                sendProblem(exchange, ApiConfig.HTTP_500_INTERNAL_SERVER_ERROR, "Internal Server Error", null);
+            }
+        }
+
+        private void handleCollection(HttpExchange exchange, String method) throws IOException {
+            switch (method) {
+                case "GET" -> sendCacheable(exchange, repository.findAll());
+                case "POST" -> {
+                    Optional<T> body = readBody(exchange);
+                    if (body.isPresent()) {
+                        sendJson(exchange, ApiConfig.HTTP_201_CREATED, repository.create(body.get()));
+                    }
+                }
+                default -> sendMethodNotAllowed(exchange);
+            }
+        }
+
+        private void handleItem(HttpExchange exchange, String method, String rawId) throws IOException {
+            Integer id = parseId(exchange, "id", rawId);
+            if (id == null) {
+                return;
+            }
+            switch (method) {
+                case "GET" -> {
+                    Optional<T> record = repository.findById(id);
+                    if (record.isPresent()) {
+                        sendCacheable(exchange, record.get());
+                    } else {
+                        sendProblem(exchange, ApiConfig.HTTP_404_NOT_FOUND, "Not Found", null);
+                    }
+                }
+                case "PUT" -> {
+                    Optional<T> body = readBody(exchange);
+                    if (body.isPresent()) {
+                        sendFound(exchange, repository.update(id, body.get()));
+                    }
+                }
+                case "DELETE" -> {
+                    if (repository.delete(id)) {
+                        exchange.sendResponseHeaders(ApiConfig.HTTP_200_OK, -1);
+                    } else {
+                        sendProblem(exchange, ApiConfig.HTTP_404_NOT_FOUND, "Not Found", null);
+                    }
+                }
+                default -> sendMethodNotAllowed(exchange);
+            }
+        }
+
+        private void handleAuthorsByBook(HttpExchange exchange, String method, String rawId) throws IOException {
+            if (!"GET".equals(method)) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+            Integer idBook = parseId(exchange, "idBook", rawId);
+            if (idBook != null) {
+                List<Author> authors = store.authors().findAll().stream()
+                        .filter(author -> author.getIdBook() == idBook)
+                        .collect(Collectors.toList());
+                sendCacheable(exchange, authors);
+            }
+        }
+
+        private Integer parseId(HttpExchange exchange, String name, String rawId) throws IOException {
+            try {
+                return Integer.parseInt(rawId);
+            } catch (NumberFormatException e) {
+                sendProblem(exchange, ApiConfig.HTTP_400_BAD_REQUEST, "One or more validation errors occurred.",
+                        Map.of(name, List.of("The value '" + rawId + "' is not valid.")));
+                return null;
+            }
+        }
+
+        private Optional<T> readBody(HttpExchange exchange) throws IOException {
+            try (InputStream body = exchange.getRequestBody()) {
+                try {
+                    T record = mapper.readValue(body, type);
+                    if (record != null) {
+                        return Optional.of(record);
+                    }
+                } catch (JsonProcessingException e) {
+                    // Reads the rest of a large rejected body, or the connection is reset while the client is
+                    // still sending it and the client never sees the 400
+                    body.transferTo(OutputStream.nullOutputStream());
+                    sendProblem(exchange, ApiConfig.HTTP_400_BAD_REQUEST, "One or more validation errors occurred.",
+                            Map.of("$", List.of(e.getOriginalMessage())));
+                    return Optional.empty();
+                }
+            }
+            sendProblem(exchange, ApiConfig.HTTP_400_BAD_REQUEST, "One or more validation errors occurred.",
+                    Map.of("", List.of("A non-empty request body is required.")));
+            return Optional.empty();
+        }
+
+        private void sendFound(HttpExchange exchange, Optional<T> record) throws IOException {
+            if (record.isPresent()) {
+                sendJson(exchange, ApiConfig.HTTP_200_OK, record.get());
+            } else {
+                sendProblem(exchange, ApiConfig.HTTP_404_NOT_FOUND, "Not Found", null);
+            }
+        }
+    }
+
+    private void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(405, -1);
+    }
+
+    private void sendProblem(HttpExchange exchange, int status, String title, Map<String, List<String>> errors)
+            throws IOException {
+        Map<String, Object> problem = new LinkedHashMap<>();
+        problem.put("type", "https://tools.ietf.org/html/rfc7231#section-6.5." + (status == 404 ? 4 : 1));
+        problem.put("title", title);
+        problem.put("status", status);
+        problem.put("traceId", "00-" + UUID.randomUUID().toString().replace("-", "") + "-00");
+        if (errors != null) {
+            problem.put("errors", errors);
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/problem+json; charset=utf-8");
+        writeBody(exchange, status, mapper.writeValueAsBytes(problem));
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        writeBody(exchange, status, mapper.writeValueAsBytes(body));
+    }
+
+    // GET responses carry a content-hash ETag and answer a matching If-None-Match with 304 Not Modified
+    private void sendCacheable(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        String etag = "\"" + Long.toHexString(checksum.getValue()) + "-" + bytes.length + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        writeBody(exchange, ApiConfig.HTTP_200_OK, bytes);
+    }
+
+    private void writeBody(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package server;
+
+import models.Author;
+import models.Book;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * In-memory Books/Authors data set shaped like the FakeRestAPI seed data.
+ */
+public class InMemoryBookstore {
+
+    private static final String LOREM = "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.";
+    private static final String EXCERPT = "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem. "
+            + "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.";
+
+    private final InMemoryRepository<Book> books = new InMemoryRepository<>(Book::getId, Book::setId);
+    private final InMemoryRepository<Author> authors = new InMemoryRepository<>(Author::getId, Author::setId);
+
+    public InMemoryRepository<Book> books() {
+        return books;
+    }
+
+    public InMemoryRepository<Author> authors() {
+        return authors;
+    }
+
+    /**
+     * Creates a store with {@code bookCount} books and {@code authorsPerBook} authors linked to each book.
+     */
+    public static InMemoryBookstore seeded(int bookCount, int authorsPerBook) {
+        InMemoryBookstore store = new InMemoryBookstore();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        int authorId = 0;
+
+        for (int bookId = 1; bookId <= bookCount; bookId++) {
+            store.books.create(Book.builder()
+                    .id(bookId)
+                    .title("Book " + bookId)
+                    .description(LOREM)
+                    .pageCount(bookId * 100)
+                    .excerpt(EXCERPT)
+                    .publishDate(now.minusDays(bookId).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .build());
+
+            for (int i = 0; i < authorsPerBook; i++) {
+                authorId++;
+                store.authors.create(Author.builder()
+                        .id(authorId)
+                        .idBook(bookId)
+                        .firstName("First Name " + authorId)
+                        .lastName("Last Name " + authorId)
+                        .build());
+            }
+        }
+        return store;
+    }
+}
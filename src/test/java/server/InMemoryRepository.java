@@ -0,0 +1,61 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Thread-safe, id-ordered record store backing one resource of the embedded server.
+ */
+public class InMemoryRepository<T> {
+
+    private final ConcurrentSkipListMap<Integer, T> records = new ConcurrentSkipListMap<>();
+    private final AtomicInteger lastId = new AtomicInteger();
+    private final ToIntFunction<T> idGetter;
+    private final ObjIntConsumer<T> idSetter;
+
+    public InMemoryRepository(ToIntFunction<T> idGetter, ObjIntConsumer<T> idSetter) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+
+    public List<T> findAll() {
+        return new ArrayList<>(records.values());
+    }
+
+    public Optional<T> findById(int id) {
+        return Optional.ofNullable(records.get(id));
+    }
+
+    /**
+     * Stores the record, assigning the next free ID when the payload does not carry a positive one.
+     */
+    public T create(T record) {
+        int id = idGetter.applyAsInt(record);
+        if (id <= 0 || records.containsKey(id)) {
+            id = lastId.incrementAndGet();
+            idSetter.accept(record, id);
+        } else {
+            lastId.accumulateAndGet(id, Math::max);
+        }
+        records.put(id, record);
+        return record;
+    }
+
+    public Optional<T> update(int id, T record) {
+        idSetter.accept(record, id);
+        return Optional.ofNullable(records.computeIfPresent(id, (key, existing) -> record));
+    }
+
+    public boolean delete(int id) {
+        return records.remove(id) != null;
+    }
+
+    public int size() {
+        return records.size();
+    }
+}
@@ -0,0 +1,16 @@
+package shard;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The units of work assigned to one worker and their estimated total duration.
+ */
+@Value
+public class Shard {
+
+    int index;
+    List<String> units;
+    long estimatedMillis;
+}
@@ -0,0 +1,126 @@
+package shard;
+
+import config.ExecutionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs a TestNG suite split across local worker JVMs. Every worker gets the same suite with
+ * {@code -Dshard.count}/{@code -Dshard.index} and this JVM's durations file, so {@code listeners.ShardInterceptor}
+ * plans the same shards in each and keeps only its share, and writes its TestNG, Allure and latency output to its
+ * own directory; {@link ShardResultMerger} combines them.
+ *
+ * Workers target the given API base URL, so with {@code -Dapi.embedded=true} they can all share the
+ * coordinator's embedded server.
+ */
+public class ShardCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardCoordinator.class);
+
+    private static final long WORKER_TIMEOUT_MINUTES = 30;
+    // Settings passed on to the workers; target selection and output locations are set per worker
+    private static final List<String> FORWARDED_PREFIXES =
+            List.of("api.", "log.", "fixtures.", "test.", "perf.", "org.slf4j.");
+    private static final List<String> WORKER_SPECIFIC = List.of("api.embedded", "api.baseUrl",
+            "metrics.dir", "metrics.http.port", "allure.results.directory", "perf.durations.file",
+            "perf.durations.update");
+
+    private final Path suiteXml;
+    private final int workers;
+    private final Path workDir;
+    private final String baseUrl;
+
+    public ShardCoordinator(Path suiteXml, int workers, Path workDir, String baseUrl) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required: " + workers);
+        }
+        this.suiteXml = suiteXml;
+        this.workers = workers;
+        this.workDir = workDir;
+        this.baseUrl = baseUrl;
+    }
+
+    public ShardResults run(Path allureTarget) throws IOException, InterruptedException {
+        deleteRecursively(workDir);
+        logger.info("Running {} across {} worker JVMs against {}", suiteXml, workers, baseUrl);
+
+        List<Process> processes = new ArrayList<>();
+        long startTime = System.nanoTime();
+        for (int index = 0; index < workers; index++) {
+            Path directory = workerDir(index);
+            Files.createDirectories(directory);
+            processes.add(new ProcessBuilder(command(index, directory))
+                    .redirectErrorStream(true)
+                    .redirectOutput(directory.resolve("worker.log").toFile())
+                    .start());
+        }
+
+        List<WorkerResult> results = new ArrayList<>();
+        try {
+            for (int index = 0; index < workers; index++) {
+                Process process = processes.get(index);
+                long remaining = TimeUnit.MINUTES.toNanos(WORKER_TIMEOUT_MINUTES) - (System.nanoTime() - startTime);
+                if (!process.waitFor(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                    logger.warn("Shard {} did not finish within {} minutes", index, WORKER_TIMEOUT_MINUTES);
+                    process.destroyForcibly().waitFor();
+                }
+                results.add(WorkerResult.read(index, workerDir(index), process.exitValue(),
+                        (System.nanoTime() - startTime) / 1e9));
+            }
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+        }
+        ShardResults merged = ShardResultMerger.mergeWorkers(results, allureTarget);
+        logger.info("Sharded run finished:{}", merged.format());
+        return merged;
+    }
+
+    private Path workerDir(int index) {
+        return workDir.resolve("shard-" + index);
+    }
+
+    private List<String> command(int index, Path directory) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> FORWARDED_PREFIXES.stream().anyMatch(name::startsWith))
+                .filter(name -> !WORKER_SPECIFIC.contains(name))
+                .sorted()
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-Dapi.embedded=false");
+        command.add("-Dapi.baseUrl=" + baseUrl);
+        command.add("-Dshard.count=" + workers);
+        command.add("-Dshard.index=" + index);
+        command.add("-Dperf.durations.file=" + Path.of(ExecutionConfig.DURATIONS_FILE).toAbsolutePath());
+        command.add("-Dperf.durations.update=false");
+        command.add("-Dmetrics.dir=" + directory.resolve(ShardResultMerger.LATENCY_DIR));
+        command.add("-Dallure.results.directory=" + directory.resolve(ShardResultMerger.ALLURE_DIR));
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(directory.resolve(WorkerResult.TESTNG_DIR).toString());
+        command.add(suiteXml.toString());
+        return command;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package shard;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * What one shard worker planned and ran: the fingerprint and full assignment of its plan, and the units that
+ * reported a result. {@link ShardResultMerger} compares the manifests of all workers to prove they used the same
+ * plan and that together they ran every unit exactly once.
+ */
+@Value
+public class ShardManifest {
+
+    public static final String FILE_NAME = "shard-manifest.properties";
+
+    private static final String PLAN_PREFIX = "plan.";
+    private static final String EXECUTED_PREFIX = "executed.";
+
+    int shardIndex;
+    int shardCount;
+    String fingerprint;
+    // Every unit of the plan and the shard it is assigned to
+    Map<String, Integer> plan;
+    Set<String> executed;
+
+    public static ShardManifest of(Collection<Shard> shards, int shardIndex, Collection<String> executed) {
+        Map<String, Integer> plan = new TreeMap<>();
+        for (Shard shard : shards) {
+            shard.getUnits().forEach(unit -> plan.put(unit, shard.getIndex()));
+        }
+        return new ShardManifest(shardIndex, shards.size(), fingerprintOf(shards.size(), plan), plan,
+                new TreeSet<>(executed));
+    }
+
+    /**
+     * Short hash of the shard count and every unit's assignment; equal only for identical plans.
+     */
+    public static String fingerprintOf(int shardCount, Map<String, Integer> plan) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(shardCount).getBytes(StandardCharsets.UTF_8));
+            new TreeMap<>(plan).forEach((unit, shard) ->
+                    digest.update(("\n" + unit + "=" + shard).getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads a manifest written by {@link #save}, or returns {@code null} when the file does not exist.
+     */
+    public static ShardManifest load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, Integer> plan = new TreeMap<>();
+        Set<String> executed = new TreeSet<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(PLAN_PREFIX)) {
+                plan.put(key.substring(PLAN_PREFIX.length()), Integer.parseInt(properties.getProperty(key)));
+            } else if (key.startsWith(EXECUTED_PREFIX)) {
+                executed.add(key.substring(EXECUTED_PREFIX.length()));
+            }
+        }
+        return new ShardManifest(Integer.parseInt(properties.getProperty("shard.index", "-1")),
+                Integer.parseInt(properties.getProperty("shard.count", "0")), properties.getProperty("fingerprint"),
+                plan, executed);
+    }
+
+    public void save(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("shard.index=" + shardIndex + System.lineSeparator());
+            writer.write("shard.count=" + shardCount + System.lineSeparator());
+            writer.write("fingerprint=" + fingerprint + System.lineSeparator());
+            for (Map.Entry<String, Integer> unit : plan.entrySet()) {
+                writer.write(PLAN_PREFIX + unit.getKey() + "=" + unit.getValue() + System.lineSeparator());
+            }
+            for (String unit : executed) {
+                writer.write(EXECUTED_PREFIX + unit + "=true" + System.lineSeparator());
+            }
+        }
+    }
+}
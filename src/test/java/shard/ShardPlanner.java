@@ -0,0 +1,91 @@
+package shard;
+
+import org.testng.ITestNGMethod;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits a suite into shards of similar duration with the longest-processing-time-first heuristic: units are
+ * taken longest first and each goes to the shard with the least work so far.
+ *
+ * A unit is a single test method, or a whole class when the class has its own {@code @BeforeClass} or
+ * {@code @AfterClass} methods or its methods depend on each other, since those cannot be split across JVMs.
+ * The plan depends only on the method list and the durations, so every worker computes the same one.
+ */
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    public static String unitOf(ITestNGMethod method) {
+        return keepsClassTogether(method) ? method.getRealClass().getName() : TestDurations.keyOf(method);
+    }
+
+    public static List<Shard> plan(Collection<ITestNGMethod> methods, TestDurations durations, int shardCount) {
+        Map<String, Long> units = new LinkedHashMap<>();
+        for (ITestNGMethod method : methods) {
+            units.merge(unitOf(method), durations.estimate(TestDurations.keyOf(method)), Long::sum);
+        }
+        return balance(units, shardCount);
+    }
+
+    /**
+     * Assigns the units, with their estimated durations in milliseconds, to {@code shardCount} shards.
+     */
+    public static List<Shard> balance(Map<String, Long> unitMillis, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be at least 1: " + shardCount);
+        }
+        List<List<String>> assigned = new ArrayList<>();
+        long[] load = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        for (String unit : longestFirst(unitMillis)) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            assigned.get(lightest).add(unit);
+            load[lightest] += unitMillis.get(unit);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i, List.copyOf(assigned.get(i)), load[i]));
+        }
+        return shards;
+    }
+
+    /**
+     * Units ordered by estimated duration, longest first; ties are broken by name so the order is stable.
+     */
+    public static List<String> longestFirst(Map<String, Long> unitMillis) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(unitMillis.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private static boolean keepsClassTogether(ITestNGMethod method) {
+        Class<?> testClass = method.getRealClass();
+        return Arrays.stream(testClass.getDeclaredMethods()).anyMatch(declared ->
+                declared.isAnnotationPresent(BeforeClass.class) || declared.isAnnotationPresent(AfterClass.class))
+                || Arrays.stream(testClass.getMethods()).anyMatch(ShardPlanner::hasDependencies);
+    }
+
+    private static boolean hasDependencies(Method method) {
+        Test test = method.getAnnotation(Test.class);
+        return test != null && (test.dependsOnMethods().length > 0 || test.dependsOnGroups().length > 0);
+    }
+}
@@ -0,0 +1,159 @@
+package shard;
+
+import config.ExecutionConfig;
+import listeners.TestDurationListener;
+import metrics.LatencyHistogram;
+import metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Combines the output directories of shard workers, whether they ran as local processes or on other hosts:
+ * Allure result files are copied into one results directory (Allure merges them by UUID), latency histograms
+ * are decoded from each worker's {@code histograms.hlog} and added together, and observed test durations are
+ * collected for the history file.
+ *
+ * Before anything is merged, the workers' {@link ShardManifest}s must show one plan, each shard exactly once, and
+ * every planned unit run by exactly one shard; a mismatch, overlap or gap fails the merge.
+ */
+public final class ShardResultMerger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardResultMerger.class);
+
+    public static final String ALLURE_DIR = "allure-results";
+    public static final String LATENCY_DIR = "latency";
+
+    private ShardResultMerger() {
+    }
+
+    /**
+     * Merges worker directories whose results were collected from other hosts.
+     */
+    public static ShardResults merge(List<Path> workerDirs, Path allureTarget) throws IOException {
+        List<WorkerResult> workers = new ArrayList<>();
+        for (int i = 0; i < workerDirs.size(); i++) {
+            workers.add(WorkerResult.read(i, workerDirs.get(i), -1, 0));
+        }
+        return mergeWorkers(workers, allureTarget);
+    }
+
+    static ShardResults mergeWorkers(List<WorkerResult> workers, Path allureTarget) throws IOException {
+        List<ShardManifest> manifests = new ArrayList<>();
+        for (WorkerResult worker : workers) {
+            manifests.add(ShardManifest.load(
+                    Path.of(worker.getDirectory()).resolve(LATENCY_DIR).resolve(ShardManifest.FILE_NAME)));
+        }
+        verifyPlan(workers, manifests);
+
+        Map<String, LatencyHistogram> latency = new TreeMap<>();
+        TestDurations durations = new TestDurations();
+        int allureFiles = 0;
+        for (WorkerResult worker : workers) {
+            Path directory = Path.of(worker.getDirectory());
+            allureFiles += copyFiles(directory.resolve(ALLURE_DIR), allureTarget);
+
+            Path log = directory.resolve(LATENCY_DIR).resolve(LatencyRecorder.LOG_FILE_NAME);
+            if (Files.isRegularFile(log)) {
+                LatencyRecorder.readLog(log).forEach((endpoint, histogram) ->
+                        latency.computeIfAbsent(endpoint, key -> new LatencyHistogram()).add(histogram));
+            }
+            durations.recordAll(TestDurations.load(
+                    directory.resolve(LATENCY_DIR).resolve(TestDurationListener.RUN_FILE_NAME)));
+        }
+        return new ShardResults(List.copyOf(workers), latency, durations, allureFiles);
+    }
+
+    /**
+     * Hands merged results to this JVM's end-of-suite reporting: the latency histograms join
+     * {@link LatencyRecorder} and the durations are folded into {@code perf.durations.file}.
+     */
+    public static void publish(ShardResults results) throws IOException {
+        LatencyRecorder.getInstance().merge(results.getLatency());
+        if (ExecutionConfig.UPDATE_DURATIONS && results.getDurations().size() > 0) {
+            Path history = Path.of(ExecutionConfig.DURATIONS_FILE);
+            TestDurations durations = TestDurations.load(history);
+            durations.recordAll(results.getDurations());
+            durations.save(history);
+            logger.info("Durations of {} tests from {} shards recorded in {}", results.getDurations().size(),
+                    results.getWorkers().size(), history.toAbsolutePath());
+        }
+    }
+
+    // A single unsharded worker writes no manifest and cannot overlap or leave gaps
+    private static void verifyPlan(List<WorkerResult> workers, List<ShardManifest> manifests) {
+        if (workers.size() == 1 && manifests.get(0) == null) {
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        Map<Integer, String> shardDirectories = new TreeMap<>();
+        Map<String, Integer> ranBy = new TreeMap<>();
+        ShardManifest reference = null;
+        for (int i = 0; i < workers.size(); i++) {
+            String directory = workers.get(i).getDirectory();
+            ShardManifest manifest = manifests.get(i);
+            if (manifest == null) {
+                problems.add(directory + " has no " + ShardManifest.FILE_NAME);
+                continue;
+            }
+            if (reference == null) {
+                reference = manifest;
+            } else if (!reference.getFingerprint().equals(manifest.getFingerprint())) {
+                problems.add(String.format("%s used plan %s but %s used plan %s; give every shard the same "
+                                + "-Dperf.durations.file", directory, manifest.getFingerprint(),
+                        shardDirectories.get(reference.getShardIndex()), reference.getFingerprint()));
+            }
+            String previous = shardDirectories.putIfAbsent(manifest.getShardIndex(), directory);
+            if (previous != null) {
+                problems.add("Shard " + manifest.getShardIndex() + " is merged twice: " + previous + " and "
+                        + directory);
+            }
+            for (String unit : manifest.getExecuted()) {
+                Integer other = ranBy.putIfAbsent(unit, manifest.getShardIndex());
+                if (other != null) {
+                    problems.add(unit + " ran in shards " + other + " and " + manifest.getShardIndex());
+                }
+            }
+        }
+        if (reference != null) {
+            if (reference.getShardCount() != workers.size()) {
+                problems.add("The plan has " + reference.getShardCount() + " shards but " + workers.size()
+                        + " were merged");
+            }
+            for (String unit : reference.getPlan().keySet()) {
+                if (!ranBy.containsKey(unit)) {
+                    problems.add(unit + " was planned for shard " + reference.getPlan().get(unit)
+                            + " but never ran");
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Shard results do not cover the plan exactly once:"
+                    + System.lineSeparator() + String.join(System.lineSeparator(), problems));
+        }
+    }
+
+    private static int copyFiles(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return 0;
+        }
+        Files.createDirectories(target);
+        int copied = 0;
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                copied++;
+            }
+        }
+        return copied;
+    }
+}
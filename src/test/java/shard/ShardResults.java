@@ -0,0 +1,44 @@
+package shard;
+
+import lombok.Value;
+import metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged outcome of a sharded run: the workers, their combined latency histograms and observed test durations,
+ * and how many Allure result files were collected.
+ */
+@Value
+public class ShardResults {
+
+    List<WorkerResult> workers;
+    Map<String, LatencyHistogram> latency;
+    TestDurations durations;
+    int allureFiles;
+
+    public int getTotal() {
+        return workers.stream().mapToInt(WorkerResult::getTotal).sum();
+    }
+
+    public int getFailed() {
+        return workers.stream().mapToInt(WorkerResult::getFailed).sum();
+    }
+
+    public boolean isSuccessful() {
+        return !workers.isEmpty() && workers.stream().allMatch(WorkerResult::isSuccessful);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format("%n%-6s %6s %8s %7s %7s %8s %10s  %s%n",
+                "Shard", "Exit", "Tests", "Passed", "Failed", "Skipped", "Elapsed s", "Directory"));
+        for (WorkerResult worker : workers) {
+            table.append(String.format("%-6d %6d %8d %7d %7d %8d %10.1f  %s%n", worker.getIndex(),
+                    worker.getExitCode(), worker.getTotal(), worker.getPassed(), worker.getFailed(),
+                    worker.getSkipped(), worker.getElapsedSeconds(), worker.getDirectory()));
+        }
+        return table.append(String.format("%d tests, %d failed, %d Allure result files, %d endpoints%n",
+                getTotal(), getFailed(), allureFiles, latency.size())).toString();
+    }
+}
@@ -0,0 +1,92 @@
+package shard;
+
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test durations in milliseconds, keyed by {@code fully.qualified.Class.method}, persisted as a properties
+ * file. New observations are blended into the stored value so one slow run does not reshuffle every shard.
+ */
+public class TestDurations {
+
+    // Weight of a new observation against the stored history
+    private static final double SMOOTHING = 0.5;
+    private static final long DEFAULT_ESTIMATE_MILLIS = 1000;
+
+    private final Map<String, Long> millis = new ConcurrentHashMap<>();
+
+    public static TestDurations load(Path file) throws IOException {
+        TestDurations durations = new TestDurations();
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            properties.forEach((key, value) -> durations.millis.put((String) key, Long.parseLong((String) value)));
+        }
+        return durations;
+    }
+
+    public static String keyOf(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+
+    public void record(String key, long durationMillis) {
+        millis.merge(key, durationMillis,
+                (stored, observed) -> Math.round(stored * (1 - SMOOTHING) + observed * SMOOTHING));
+    }
+
+    public void recordAll(TestDurations observed) {
+        observed.millis.forEach(this::record);
+    }
+
+    public boolean contains(String key) {
+        return millis.containsKey(key);
+    }
+
+    /**
+     * Stored duration, or the median of all stored durations for a test that has never run.
+     */
+    public long estimate(String key) {
+        Long known = millis.get(key);
+        if (known != null) {
+            return known;
+        }
+        long[] sorted = millis.values().stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted.length == 0 ? DEFAULT_ESTIMATE_MILLIS : sorted[sorted.length / 2];
+    }
+
+    public int size() {
+        return millis.size();
+    }
+
+    public Map<String, Long> asMap() {
+        return new TreeMap<>(millis);
+    }
+
+    /**
+     * Writes the durations sorted by key, through a temporary file so readers never see a partial file.
+     */
+    public void save(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : asMap().entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,56 @@
+package shard;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outcome of one shard worker, read from the {@code testng-results.xml} in its output directory.
+ */
+@Value
+public class WorkerResult {
+
+    public static final String TESTNG_DIR = "testng";
+
+    private static final Pattern RESULTS_HEADER = Pattern.compile("<testng-results[^>]*>");
+
+    int index;
+    String directory;
+    // -1 when the worker ran elsewhere and only its results were collected
+    int exitCode;
+    double elapsedSeconds;
+    int total;
+    int passed;
+    int failed;
+    int skipped;
+
+    public static WorkerResult read(int index, Path directory, int exitCode, double elapsedSeconds)
+            throws IOException {
+        Path results = directory.resolve(TESTNG_DIR).resolve("testng-results.xml");
+        String header = "";
+        if (Files.isRegularFile(results)) {
+            Matcher matcher = RESULTS_HEADER.matcher(Files.readString(results));
+            header = matcher.find() ? matcher.group() : "";
+        }
+        return new WorkerResult(index, directory.toString(), exitCode, elapsedSeconds,
+                attribute(header, "total"), attribute(header, "passed"), attribute(header, "failed"),
+                attribute(header, "skipped"));
+    }
+
+    /**
+     * Wrote results with no failures. TestNG's exit code is a bit set (1 failed, 2 skipped, 8 no tests), so
+     * skipped tests alone do not fail a worker.
+     */
+    public boolean isSuccessful() {
+        return total > 0 && failed == 0 && (exitCode < 0 || (exitCode & 1) == 0);
+    }
+
+    private static int attribute(String header, String name) {
+        Matcher matcher = Pattern.compile(name + "=\"(\\d+)\"").matcher(header);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,41 @@
+package stress;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+
+/**
+ * Heap bytes allocated on the client side of a request: by the calling thread, which writes and reads the bodies,
+ * and by the JDK HTTP client's own threads ({@code HttpClient-*}), which copy them to and from the socket. The
+ * embedded server's threads are not counted. Threads that end between two readings take their counts with them,
+ * so figures are a lower bound when the client's worker pool shrinks mid-request.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    public static long currentThreadAllocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public static long clientAllocatedBytes() {
+        long[] clientThreads = Arrays.stream(THREADS.getThreadInfo(THREADS.getAllThreadIds()))
+                .filter(info -> info != null && info.getThreadName().startsWith("HttpClient-"))
+                .mapToLong(ThreadInfo::getThreadId)
+                .toArray();
+        long total = THREADS.getCurrentThreadAllocatedBytes();
+        for (long bytes : THREADS.getThreadAllocatedBytes(clientThreads)) {
+            // -1 for a thread that ended after it was listed
+            total += Math.max(bytes, 0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,89 @@
+package stress;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/**
+ * JSON document produced as it is read: literal pieces such as field names are copied, and text fields are
+ * generated straight into the reader's buffer, so a multi-megabyte document never exists in memory.
+ */
+class GeneratedJsonStream extends InputStream {
+
+    // Lower-case words separated by spaces: valid inside a JSON string without escaping
+    private static final byte[] ALPHABET = "abcdefghijklmnopqrstuvwxyz     ".getBytes(StandardCharsets.US_ASCII);
+
+    private final Iterator<Piece> pieces;
+    private Piece current;
+    private long remaining;
+    private SplittableRandom random;
+
+    GeneratedJsonStream(Iterator<Piece> pieces) {
+        this.pieces = pieces;
+    }
+
+    @Override
+    public int read() {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    // Fills the whole buffer across pieces: the JDK HTTP client allocates a new chunk for every read, so short
+    // reads of small literals would cost a chunk each
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        int filled = 0;
+        while (filled < length) {
+            if (remaining == 0) {
+                if (!pieces.hasNext()) {
+                    break;
+                }
+                current = pieces.next();
+                remaining = current.length();
+                random = current.literal == null ? new SplittableRandom(current.seed) : null;
+                continue;
+            }
+            int count = (int) Math.min(length - filled, remaining);
+            int start = offset + filled;
+            if (current.literal != null) {
+                System.arraycopy(current.literal, (int) (current.literal.length - remaining), buffer, start, count);
+            } else {
+                for (int i = start; i < start + count; i++) {
+                    buffer[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+                }
+            }
+            remaining -= count;
+            filled += count;
+        }
+        return filled == 0 && length > 0 ? -1 : filled;
+    }
+
+    /**
+     * Either literal bytes or a run of generated text of the given length.
+     */
+    static final class Piece {
+
+        private final byte[] literal;
+        private final long textLength;
+        private final long seed;
+
+        private Piece(byte[] literal, long textLength, long seed) {
+            this.literal = literal;
+            this.textLength = textLength;
+            this.seed = seed;
+        }
+
+        static Piece literal(String json) {
+            return new Piece(json.getBytes(StandardCharsets.UTF_8), 0, 0);
+        }
+
+        static Piece text(long length, long seed) {
+            return new Piece(null, length, seed);
+        }
+
+        long length() {
+            return literal == null ? textLength : literal.length;
+        }
+    }
+}
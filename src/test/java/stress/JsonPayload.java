@@ -0,0 +1,67 @@
+package stress;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * A generated JSON request body of known length that can be streamed any number of times, each time with the
+ * same bytes.
+ */
+public class JsonPayload {
+
+    private final String name;
+    private final String endpoint;
+    private final int elements;
+    private final long fieldBytes;
+    private final Supplier<Iterator<GeneratedJsonStream.Piece>> pieces;
+    private final long length;
+
+    JsonPayload(String name, String endpoint, int elements, long fieldBytes,
+                Supplier<Iterator<GeneratedJsonStream.Piece>> pieces) {
+        this.name = name;
+        this.endpoint = endpoint;
+        this.elements = elements;
+        this.fieldBytes = fieldBytes;
+        this.pieces = pieces;
+        // Summing the piece lengths generates none of the text
+        long total = 0;
+        for (Iterator<GeneratedJsonStream.Piece> iterator = pieces.get(); iterator.hasNext(); ) {
+            total += iterator.next().length();
+        }
+        this.length = total;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Collection path the payload is posted to, e.g. {@code ApiConfig.BOOKS_ENDPOINT}.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    // 1 for a single record
+    public int getElements() {
+        return elements;
+    }
+
+    public long getFieldBytes() {
+        return fieldBytes;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public InputStream open() {
+        return new GeneratedJsonStream(pieces.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.1f MB)", name, length / 1e6);
+    }
+}
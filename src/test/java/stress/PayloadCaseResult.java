@@ -0,0 +1,35 @@
+package stress;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Measured requests of one {@link JsonPayload}: how fast its bytes moved and how much the client allocated per
+ * request to move them.
+ */
+@Value
+@Builder
+public class PayloadCaseResult {
+
+    String name;
+    String endpoint;
+    long payloadBytes;
+    int elements;
+    int requests;
+    int successes;
+    // Answered 400: the API read the body and refused it; any other non-2xx answer counts as an error
+    int rejected;
+    int errors;
+    String firstError;
+    double meanMs;
+    double maxMs;
+    // Request bytes per second of the measured requests: the rate the server took the payload in
+    double uploadMbPerSecond;
+    // Request and response bytes per second
+    double totalMbPerSecond;
+    long allocatedBytesPerRequest;
+
+    public double getAllocatedPerPayloadByte() {
+        return payloadBytes == 0 ? 0 : (double) allocatedBytesPerRequest / payloadBytes;
+    }
+}
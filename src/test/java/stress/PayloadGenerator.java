@@ -0,0 +1,120 @@
+package stress;
+
+import config.ApiConfig;
+import stress.GeneratedJsonStream.Piece;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * {@link JsonPayload}s of {@code Book} and {@code Author} records far larger than the demo data: single records
+ * with multi-megabyte text fields, and arrays of thousands of records. Every record gets its own title or name
+ * and its own random text, derived from the seed, so no two records of a payload are alike.
+ */
+public final class PayloadGenerator {
+
+    private PayloadGenerator() {
+    }
+
+    /**
+     * One book whose description and excerpt are {@code fieldBytes} long each.
+     */
+    public static JsonPayload book(long fieldBytes, long seed) {
+        return new JsonPayload("Book with " + size(fieldBytes) + " fields", ApiConfig.BOOKS_ENDPOINT, 1, fieldBytes,
+                () -> bookPieces(0, fieldBytes, seed).iterator());
+    }
+
+    /**
+     * One author whose first and last names are {@code fieldBytes} long each.
+     */
+    public static JsonPayload author(long fieldBytes, long seed) {
+        return new JsonPayload("Author with " + size(fieldBytes) + " fields", ApiConfig.AUTHORS_ENDPOINT, 1,
+                fieldBytes, () -> authorPieces(0, fieldBytes, seed).iterator());
+    }
+
+    public static JsonPayload books(int count, long fieldBytes, long seed) {
+        return new JsonPayload(count + " books", ApiConfig.BOOKS_ENDPOINT, count, fieldBytes,
+                () -> new ArrayPieces(count, index -> bookPieces(index, fieldBytes, seed)));
+    }
+
+    public static JsonPayload authors(int count, long fieldBytes, long seed) {
+        return new JsonPayload(count + " authors", ApiConfig.AUTHORS_ENDPOINT, count, fieldBytes,
+                () -> new ArrayPieces(count, index -> authorPieces(index, fieldBytes, seed)));
+    }
+
+    private static List<Piece> bookPieces(int index, long fieldBytes, long seed) {
+        long textSeed = seed * 1_000_003 + index * 2L;
+        return List.of(
+                Piece.literal("{\"id\":0,\"title\":\"Stress Book " + seed + "-" + index + "\",\"description\":\""),
+                Piece.text(fieldBytes, textSeed),
+                Piece.literal("\",\"pageCount\":" + (1 + index % 1000) + ",\"excerpt\":\""),
+                Piece.text(fieldBytes, textSeed + 1),
+                Piece.literal("\",\"publishDate\":\"2024-01-01T00:00:00\"}"));
+    }
+
+    private static List<Piece> authorPieces(int index, long fieldBytes, long seed) {
+        long textSeed = seed * 1_000_003 + index * 2L;
+        return List.of(
+                Piece.literal("{\"id\":0,\"idBook\":" + (1 + index % 200) + ",\"firstName\":\""),
+                Piece.text(fieldBytes, textSeed),
+                Piece.literal("\",\"lastName\":\""),
+                Piece.text(fieldBytes, textSeed + 1),
+                Piece.literal("\"}"));
+    }
+
+    private static String size(long bytes) {
+        return bytes >= 1 << 20 ? (bytes >> 20) + " MB" : bytes >= 1 << 10 ? (bytes >> 10) + " KB" : bytes + " B";
+    }
+
+    // "[", the pieces of each element separated by commas, "]"; elements are built only when reached
+    private static final class ArrayPieces implements Iterator<Piece> {
+
+        private static final Piece OPEN = Piece.literal("[");
+        private static final Piece SEPARATOR = Piece.literal(",");
+        private static final Piece CLOSE = Piece.literal("]");
+
+        private final int count;
+        private final IntFunction<List<Piece>> element;
+        private int index = -1;
+        private Iterator<Piece> current = List.of(OPEN).iterator();
+        private boolean closed;
+
+        private ArrayPieces(int count, IntFunction<List<Piece>> element) {
+            this.count = count;
+            this.element = element;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current.hasNext() || !closed;
+        }
+
+        @Override
+        public Piece next() {
+            if (!current.hasNext()) {
+                index++;
+                if (index < count) {
+                    List<Piece> pieces = element.apply(index);
+                    current = (index == 0 ? pieces : prepend(SEPARATOR, pieces)).iterator();
+                } else if (!closed) {
+                    closed = true;
+                    return CLOSE;
+                } else {
+                    throw new NoSuchElementException();
+                }
+            }
+            return current.next();
+        }
+
+        private static List<Piece> prepend(Piece first, List<Piece> rest) {
+            Piece[] pieces = new Piece[rest.size() + 1];
+            pieces[0] = first;
+            for (int i = 0; i < rest.size(); i++) {
+                pieces[i + 1] = rest.get(i);
+            }
+            return List.of(pieces);
+        }
+    }
+}
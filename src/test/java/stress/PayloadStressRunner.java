@@ -0,0 +1,109 @@
+package stress;
+
+import config.ApiConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.ApiRequestHelper;
+import utils.StreamedResponse;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * POSTs {@link JsonPayload}s to their collection endpoint one at a time, streaming each body from its generator,
+ * and measures throughput and client allocation per request. Every payload gets one unmeasured warm-up request.
+ * Records the server creates are deleted after each request, so the server's memory does not grow with the run.
+ */
+public class PayloadStressRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayloadStressRunner.class);
+
+    private static final Pattern CREATED_ID = Pattern.compile("^\\{\"id\":(\\d+)");
+    // Enough of the echoed record to read its id
+    private static final int PREFIX_BYTES = 64;
+
+    private final int repetitions;
+    private final Duration timeout;
+
+    public PayloadStressRunner(int repetitions, Duration timeout) {
+        this.repetitions = repetitions;
+        this.timeout = timeout;
+    }
+
+    public PayloadCaseResult run(JsonPayload payload) {
+        String url = ApiConfig.getEndpointURL(payload.getEndpoint());
+        try {
+            deleteCreated(url, send(payload, url));
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up of {} failed: {}", payload, e.toString());
+        }
+
+        int successes = 0;
+        int rejected = 0;
+        int errors = 0;
+        int answered = 0;
+        String firstError = null;
+        long totalNanos = 0;
+        long maxNanos = 0;
+        long requestBytes = 0;
+        long responseBytes = 0;
+        long allocated = 0;
+        for (int i = 0; i < repetitions; i++) {
+            long allocatedBefore = AllocationMeter.clientAllocatedBytes();
+            try {
+                StreamedResponse response = send(payload, url);
+                allocated += AllocationMeter.clientAllocatedBytes() - allocatedBefore;
+                deleteCreated(url, response);
+                answered++;
+                totalNanos += response.getDurationNanos();
+                maxNanos = Math.max(maxNanos, response.getDurationNanos());
+                requestBytes += response.getRequestBytes();
+                responseBytes += response.getResponseBytes();
+                int status = response.getStatusCode();
+                if (status < 300) {
+                    successes++;
+                } else if (status == 400) {
+                    rejected++;
+                } else {
+                    errors++;
+                    firstError = firstError == null ? "HTTP " + status : firstError;
+                }
+            } catch (RuntimeException e) {
+                allocated += AllocationMeter.clientAllocatedBytes() - allocatedBefore;
+                errors++;
+                firstError = firstError == null ? e.toString() : firstError;
+            }
+        }
+
+        double seconds = totalNanos / 1e9;
+        return PayloadCaseResult.builder()
+                .name(payload.getName())
+                .endpoint(payload.getEndpoint())
+                .payloadBytes(payload.getLength())
+                .elements(payload.getElements())
+                .requests(repetitions)
+                .successes(successes)
+                .rejected(rejected)
+                .errors(errors)
+                .firstError(firstError)
+                .meanMs(answered == 0 ? 0 : totalNanos / 1e6 / answered)
+                .maxMs(maxNanos / 1e6)
+                .uploadMbPerSecond(seconds == 0 ? 0 : requestBytes / 1e6 / seconds)
+                .totalMbPerSecond(seconds == 0 ? 0 : (requestBytes + responseBytes) / 1e6 / seconds)
+                .allocatedBytesPerRequest(repetitions == 0 ? 0 : allocated / repetitions)
+                .build();
+    }
+
+    private StreamedResponse send(JsonPayload payload, String url) {
+        return ApiRequestHelper.sendStreamingRequest("POST", url, payload.getLength(), payload::open, timeout,
+                PREFIX_BYTES);
+    }
+
+    private static void deleteCreated(String url, StreamedResponse response) {
+        Matcher created = CREATED_ID.matcher(response.getBodyPrefixAsString());
+        if (response.getStatusCode() < 300 && created.find()) {
+            ApiRequestHelper.deleteRequest(url + "/" + created.group(1));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package stress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Results of a large-payload stress run, one {@link PayloadCaseResult} per payload.
+ */
+@Value
+public class StressReport {
+
+    double elapsedSeconds;
+    List<PayloadCaseResult> cases;
+
+    public int getTotalErrors() {
+        return cases.stream().mapToInt(PayloadCaseResult::getErrors).sum();
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%d payloads in %.1f s, %d errors%n", cases.size(), elapsedSeconds,
+                getTotalErrors()));
+        table.append(String.format("%-28s %10s %8s %6s %8s %6s %9s %9s %9s %9s %11s %8s%n", "Payload", "MB",
+                "Requests", "2xx", "Rejected", "Errors", "mean ms", "max ms", "up MB/s", "all MB/s", "alloc MB/rq",
+                "alloc/B"));
+        for (PayloadCaseResult result : cases) {
+            table.append(String.format("%-28s %10.1f %8d %6d %8d %6d %9.1f %9.1f %9.1f %9.1f %11.1f %8.2f%n",
+                    result.getName(), result.getPayloadBytes() / 1e6, result.getRequests(), result.getSuccesses(),
+                    result.getRejected(), result.getErrors(), result.getMeanMs(), result.getMaxMs(),
+                    result.getUploadMbPerSecond(), result.getTotalMbPerSecond(),
+                    result.getAllocatedBytesPerRequest() / 1e6, result.getAllocatedPerPayloadByte()));
+        }
+        return table.toString();
+    }
+}
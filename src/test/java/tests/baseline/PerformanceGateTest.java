@@ -0,0 +1,92 @@
+package tests.baseline;
+
+import base.BaseTest;
+import baseline.BaselineRun;
+import baseline.BaselineStore;
+import baseline.RegressionComparator;
+import baseline.RegressionGate;
+import baseline.RegressionReport;
+import config.ApiConfig;
+import config.BaselineConfig;
+import io.restassured.response.Response;
+import metrics.LatencyRecorder;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import utils.AssertionHelper;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class PerformanceGateTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Performance Regression Gate";
+
+    @Test(description = "Per-endpoint latency is not significantly worse than the stored baselines")
+    public void testNoLatencyRegression() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Latency Against Baselines");
+
+        logStep(1, "Warming up with {} requests per endpoint", BaselineConfig.WARMUP);
+        List<Supplier<Response>> workload = List.of(
+                () -> ApiRequestHelper.getRequest(ApiConfig.getBooksEndpointURL()),
+                () -> ApiRequestHelper.getRequest(ApiConfig.getBooksEndpointURL() + "/1"),
+                () -> ApiRequestHelper.getRequest(ApiConfig.getAuthorsEndpointURL()),
+                () -> ApiRequestHelper.getRequest(ApiConfig.getAuthorsEndpointURL() + "/1"),
+                () -> ApiRequestHelper.postRequest(ApiConfig.getBooksEndpointURL(), Book.builder()
+                        .title("Baseline Book")
+                        .description("Created by the performance gate")
+                        .pageCount(100)
+                        .publishDate("2024-01-01T00:00:00")
+                        .build()));
+        run(workload, BaselineConfig.WARMUP);
+
+        logStep(2, "Measuring {} requests per endpoint, round-robin", BaselineConfig.SAMPLES);
+        LatencyRecorder recorder = new LatencyRecorder();
+        ApiRequestHelper.addRequestListener(recorder);
+        long start = System.nanoTime();
+        try {
+            run(workload, BaselineConfig.SAMPLES);
+        } finally {
+            ApiRequestHelper.removeRequestListener(recorder);
+        }
+        BaselineRun current = new BaselineRun(System.currentTimeMillis(), (System.nanoTime() - start) / 1e9,
+                recorder.getHistograms());
+
+        logStep(3, "Comparing with the stored baselines");
+        String name = baselineName();
+        RegressionGate gate = new RegressionGate(name,
+                new BaselineStore(Path.of(BaselineConfig.DIR, name), BaselineConfig.RUNS),
+                new RegressionComparator(BaselineConfig.ALPHA, BaselineConfig.MIN_SHIFT_PERCENT,
+                        BaselineConfig.MIN_SAMPLES));
+        RegressionReport report = gate.evaluate(current);
+        report.writeJson(Path.of(BaselineConfig.REPORT_DIR, "regression-report.json"));
+        logInfo("Regression report:{}", report.format());
+        AssertionHelper.assertNoLatencyRegression(report, "Latency regressed against the stored baselines");
+
+        if (BaselineConfig.UPDATE) {
+            gate.record(current);
+            logInfo("Run stored as a baseline of '{}'", name);
+        }
+        logSuccess("Performance gate passed against {} baseline runs", report.getBaselineRuns());
+    }
+
+    private static void run(List<Supplier<Response>> workload, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            for (Supplier<Response> request : workload) {
+                int status = request.get().getStatusCode();
+                Assert.assertTrue(status < 300, "Workload request failed with status " + status);
+            }
+        }
+    }
+
+    // Baselines of different targets must not mix; the embedded server gets its own regardless of its port
+    private static String baselineName() {
+        if (!BaselineConfig.NAME.isBlank()) {
+            return BaselineConfig.NAME;
+        }
+        return ApiConfig.EMBEDDED_SERVER ? "embedded" : URI.create(ApiConfig.getBaseUrl()).getHost();
+    }
+}
@@ -0,0 +1,128 @@
+package tests.baseline;
+
+import base.BaseTest;
+import baseline.BaselineRun;
+import baseline.BaselineStore;
+import baseline.EndpointComparison;
+import baseline.RegressionComparator;
+import baseline.RegressionGate;
+import baseline.RegressionReport;
+import metrics.LatencyHistogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class RegressionGateTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Regression Gate Tests";
+    private static final String ENDPOINT = "GET /api/v1/Books";
+
+    private final RegressionComparator comparator = new RegressionComparator(0.01, 10, 30);
+
+    @Test(priority = 1, description = "Only significant slowdowns beyond the minimum shift are regressions")
+    public void testComparatorVerdicts() {
+        logSection(TEST_CLASS_NAME + " - Comparator Verdicts");
+
+        logStep(1, "Comparing samples of the same distribution");
+        LatencyHistogram baseline = sample(1, 2000, 1.0);
+        EndpointComparison same = comparator.compare(ENDPOINT, baseline, sample(2, 2000, 1.0));
+        logInfo("Same distribution: {}", same.describe());
+        Assert.assertEquals(same.getVerdict(), EndpointComparison.UNCHANGED, "Noise is not a regression");
+        Assert.assertEquals(same.getProbabilitySlower(), 0.5, 0.05, "Neither run should be slower");
+
+        logStep(2, "Comparing a run 30% slower and one 30% faster");
+        EndpointComparison slower = comparator.compare(ENDPOINT, baseline, sample(3, 2000, 1.3));
+        logInfo("30% slower: {}", slower.describe());
+        Assert.assertEquals(slower.getVerdict(), EndpointComparison.REGRESSION, "A 30% slowdown is a regression");
+        Assert.assertTrue(slower.getSlowerPValue() < 1e-6, "p-value should be tiny, got " + slower.getSlowerPValue());
+        EndpointComparison faster = comparator.compare(ENDPOINT, baseline, sample(4, 2000, 0.7));
+        Assert.assertEquals(faster.getVerdict(), EndpointComparison.IMPROVEMENT, "A 30% speed-up is an improvement");
+
+        logStep(3, "Comparing a significant but small slowdown and a run with too few samples");
+        EndpointComparison small = comparator.compare(ENDPOINT, sample(5, 50_000, 1.0), sample(6, 50_000, 1.04));
+        logInfo("4% slower: {}", small.describe());
+        Assert.assertTrue(small.getSlowerPValue() < 0.01, "A 4% shift over 50k samples is significant");
+        Assert.assertEquals(small.getVerdict(), EndpointComparison.UNCHANGED, "but below the minimum shift");
+        Assert.assertEquals(comparator.compare(ENDPOINT, baseline, sample(7, 10, 2.0)).getVerdict(),
+                EndpointComparison.INSUFFICIENT_DATA, "10 samples are not judged");
+
+        logStep(4, "Comparing a run as slow as the slower of two baseline runs");
+        EndpointComparison withinRange = comparator.compare(ENDPOINT,
+                List.of(sample(8, 2000, 1.0), sample(9, 2000, 1.25)), sample(10, 2000, 1.25), 0, 0);
+        logInfo("Within the baseline range: {}", withinRange.describe());
+        Assert.assertTrue(withinRange.getMedianShiftPercent() >= 10, "Shifted from the pooled baseline");
+        Assert.assertEquals(withinRange.getVerdict(), EndpointComparison.UNCHANGED,
+                "Not slower than every baseline run");
+
+        logSuccess("Comparator verdicts test passed");
+    }
+
+    @Test(priority = 2, description = "The store keeps the newest runs and round-trips their histograms")
+    public void testStoreKeepsNewestRuns() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Baseline Store");
+
+        logStep(1, "Saving five runs into a store that keeps three");
+        Path directory = Files.createTempDirectory("baselines");
+        BaselineStore store = new BaselineStore(directory, 3);
+        for (int run = 1; run <= 5; run++) {
+            store.save(new BaselineRun(run * 1000L, 2.0, Map.of(ENDPOINT, sample(run, 100 * run, 1.0))));
+        }
+
+        logStep(2, "Loading the stored runs");
+        List<BaselineRun> runs = store.load();
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(files.count(), 3, "Older run files should be deleted");
+        }
+        Assert.assertEquals(runs.stream().map(BaselineRun::getTimestampMillis).toList(), List.of(3000L, 4000L, 5000L),
+                "Newest runs, oldest first");
+        Assert.assertEquals(runs.get(2).getHistograms().get(ENDPOINT).getTotalCount(), 500, "Histogram counts");
+        Assert.assertEquals(runs.get(2).getThroughput(ENDPOINT), 250.0, 0.001, "Throughput from the elapsed time");
+
+        logSuccess("Baseline store test passed");
+    }
+
+    @Test(priority = 3, description = "The first run becomes the baseline and a later slowdown fails the gate")
+    public void testGateAgainstStoredBaselines() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Gate");
+
+        logStep(1, "Evaluating a run without any baseline");
+        RegressionGate gate = new RegressionGate("test",
+                new BaselineStore(Files.createTempDirectory("baselines"), 5), comparator);
+        BaselineRun first = new BaselineRun(1, 1.0, Map.of(ENDPOINT, sample(11, 300, 1.0)));
+        RegressionReport initial = gate.evaluate(first);
+        Assert.assertTrue(initial.isPassed(), "Nothing to compare against yet");
+        Assert.assertEquals(initial.getComparisons().get(0).getVerdict(), EndpointComparison.INSUFFICIENT_DATA,
+                "No baseline samples");
+        gate.record(first);
+        gate.record(new BaselineRun(2, 1.0, Map.of(ENDPOINT, sample(12, 300, 1.0))));
+
+        logStep(2, "Evaluating a comparable run and a 50% slower one");
+        RegressionReport comparable = gate.evaluate(new BaselineRun(3, 1.0, Map.of(ENDPOINT, sample(13, 300, 1.02))));
+        logInfo("Comparable run: {}", comparable.format());
+        Assert.assertTrue(comparable.isPassed(), "A comparable run should pass");
+        Assert.assertEquals(comparable.getBaselineRuns(), 2, "Both stored runs are pooled");
+        RegressionReport slow = gate.evaluate(new BaselineRun(4, 1.0, Map.of(ENDPOINT, sample(14, 300, 1.5))));
+        logInfo("Slow run: {}", slow.format());
+        Assert.assertFalse(slow.isPassed(), "A 50% slower run should fail the gate");
+        Assert.assertEquals(slow.getRegressions().get(0).getEndpoint(), ENDPOINT, "The slow endpoint is reported");
+
+        logSuccess("Gate test passed");
+    }
+
+    // Log-normal latencies around 10 ms, scaled by the factor
+    private static LatencyHistogram sample(long seed, int count, double factor) {
+        Random random = new Random(seed);
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < count; i++) {
+            histogram.recordMicros(Math.round(10_000 * factor * Math.exp(0.25 * random.nextGaussian())));
+        }
+        return histogram;
+    }
+}
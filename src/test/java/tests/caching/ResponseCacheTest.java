@@ -0,0 +1,105 @@
+package tests.caching;
+
+import base.BaseTest;
+import config.ApiConfig;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import utils.ResponseCache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+public class ResponseCacheTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Response Cache Tests";
+
+    @Test(priority = 1, description = "Stale cached GET is revalidated with If-None-Match")
+    public void testStaleEntryIsRevalidatedWithETag() {
+        logSection(TEST_CLASS_NAME + " - Conditional Revalidation");
+
+        logStep(1, "Caching GET book 2 with a zero TTL so every reuse is revalidated");
+        String bookUrl = ApiConfig.getBooksEndpointURL() + "/2";
+        List<Integer> statusCodes = new CopyOnWriteArrayList<>();
+        ResponseCache cache = new ResponseCache(0, 16);
+        Response first = cache.get(bookUrl, recordingFetch(bookUrl, statusCodes));
+        Assert.assertEquals(first.getStatusCode(), ApiConfig.HTTP_200_OK, "Expected HTTP 200 OK status code");
+        if (first.getHeader("ETag") == null) {
+            throw new SkipException("API does not send ETag headers");
+        }
+        logInfo("ETag: {}", first.getHeader("ETag"));
+
+        logStep(2, "Requesting the same URL again");
+        Response second = cache.get(bookUrl, recordingFetch(bookUrl, statusCodes));
+
+        logStep(3, "Verifying the server answered 304 and the cached body was reused");
+        Assert.assertEquals(statusCodes, List.of(200, 304), "Second request should be a conditional 304");
+        Assert.assertSame(second, first, "Cached response should be served after revalidation");
+        Assert.assertEquals(second.jsonPath().getInt("id"), 2, "Cached body should still be readable");
+
+        logSuccess("Conditional revalidation test passed - {}", cache);
+    }
+
+    @Test(priority = 2, description = "Writes invalidate cached GETs of the same collection")
+    public void testWriteInvalidatesCachedCollection() {
+        logSection(TEST_CLASS_NAME + " - Invalidation On Write");
+
+        logStep(1, "Caching GET all books and GET book 1");
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        String bookUrl = booksUrl + "/1";
+        List<Integer> statusCodes = new CopyOnWriteArrayList<>();
+        ResponseCache cache = new ResponseCache(60_000, 16);
+        cache.get(booksUrl, recordingFetch(booksUrl, statusCodes));
+        cache.get(bookUrl, recordingFetch(bookUrl, statusCodes));
+        cache.get(bookUrl, recordingFetch(bookUrl, statusCodes));
+        Assert.assertEquals(statusCodes.size(), 2, "Repeated GET within the TTL should be served from the cache");
+        Assert.assertEquals(cache.size(), 2, "Both responses should be cached");
+
+        logStep(2, "Invalidating after a write to book 1");
+        cache.invalidate(bookUrl);
+
+        logStep(3, "Verifying the collection and the item are fetched again");
+        Assert.assertEquals(cache.size(), 0, "Write should drop every cached URL of the collection");
+        cache.get(bookUrl, recordingFetch(bookUrl, statusCodes));
+        Assert.assertEquals(statusCodes.size(), 3, "GET after a write should reach the server");
+
+        logSuccess("Invalidation test passed - {}", cache);
+    }
+
+    @Test(priority = 3, description = "A GET in flight during a write is not cached")
+    public void testResponseFetchedDuringWriteIsNotCached() {
+        logSection(TEST_CLASS_NAME + " - Write During Fetch");
+
+        logStep(1, "Fetching book 1 while a write to book 3 invalidates the collection");
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        String bookUrl = booksUrl + "/1";
+        List<Integer> statusCodes = new CopyOnWriteArrayList<>();
+        ResponseCache cache = new ResponseCache(60_000, 16);
+        Function<String, Response> fetch = recordingFetch(bookUrl, statusCodes);
+        Response first = cache.get(bookUrl, etag -> {
+            Response response = fetch.apply(etag);
+            cache.invalidate(booksUrl + "/3");
+            return response;
+        });
+        Assert.assertEquals(first.getStatusCode(), ApiConfig.HTTP_200_OK, "Expected HTTP 200 OK status code");
+
+        logStep(2, "Verifying the pre-write response was not cached");
+        Assert.assertEquals(cache.size(), 0, "A response from before the write should not be cached");
+        cache.get(bookUrl, fetch);
+        cache.get(bookUrl, fetch);
+        Assert.assertEquals(statusCodes.size(), 2, "The next GET should reach the server and then be cached");
+
+        logSuccess("Write during fetch test passed - {}", cache);
+    }
+
+    private static Function<String, Response> recordingFetch(String url, List<Integer> statusCodes) {
+        return etag -> {
+            Response response = ApiRequestHelper.getConditionalRequest(url, etag);
+            statusCodes.add(response.getStatusCode());
+            return response;
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package tests.concurrency;
+
+import base.BaseTest;
+import config.ApiConfig;
+import models.Author;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import utils.AssertionHelper;
+import utils.BatchResult;
+import utils.ConcurrentRequestExecutor;
+import utils.RequestOutcome;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ConcurrentRequestsTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Concurrent Requests Tests";
+    private static final int BULK_AUTHOR_COUNT = 100;
+    private static final int ASYNC_PIPELINE_COUNT = 25;
+
+    @Test(priority = 1, description = "GET every book by ID concurrently")
+    public void testGetEveryBookByIdConcurrently() {
+        logSection(TEST_CLASS_NAME + " - Get Every Book By ID");
+
+        logStep(1, "Fetching all book IDs and requesting each one on virtual threads");
+        BatchResult<Integer> result;
+        try (ConcurrentRequestExecutor executor = new ConcurrentRequestExecutor()) {
+            result = executor.getEachById(ApiConfig.getBooksEndpointURL());
+        }
+        logInfo("Batch result: {}", result);
+
+        logStep(2, "Verifying every listed book was returned with HTTP 200");
+        Assert.assertTrue(result.size() > 0, "Books list should not be empty");
+        // In the parallel suite other tests delete books between the listing and the GETs. Such a 404 is only
+        // accepted when a fresh listing confirms the book is gone; any other failure fails the test.
+        Set<Integer> listed = new HashSet<>(ApiRequestHelper.getRequest(ApiConfig.getBooksEndpointURL()).jsonPath()
+                .getList("id", Integer.class));
+        List<RequestOutcome<Integer>> failures = result.getFailures().stream()
+                .filter(outcome -> outcome.getStatusCode() != ApiConfig.HTTP_404_NOT_FOUND
+                        || listed.contains(outcome.getInput()))
+                .collect(Collectors.toList());
+        Assert.assertTrue(failures.isEmpty(), "All book requests should succeed, failures: " + failures);
+
+        logSuccess("Concurrent GET by ID test passed");
+    }
+
+    @Test(priority = 2, description = "POST many authors concurrently")
+    public void testBulkCreateAuthorsConcurrently() {
+        logSection(TEST_CLASS_NAME + " - Bulk Create Authors");
+
+        logStep(1, "Building {} authors", BULK_AUTHOR_COUNT);
+        List<Author> authors = IntStream.rangeClosed(1, BULK_AUTHOR_COUNT)
+                .mapToObj(i -> Author.builder()
+                        .firstName("Bulk")
+                        .lastName("Author " + i)
+                        .idBook(1)
+                        .build())
+                .collect(Collectors.toList());
+
+        logStep(2, "Sending POST requests on virtual threads");
+        BatchResult<Author> result;
+        try (ConcurrentRequestExecutor executor = new ConcurrentRequestExecutor()) {
+            result = executor.postAll(ApiConfig.getAuthorsEndpointURL(), authors);
+        }
+        logInfo("Batch result: {}", result);
+
+        logStep(3, "Verifying all authors were created");
+        Assert.assertEquals(result.getSuccessCount(), BULK_AUTHOR_COUNT,
+            "All author POST requests should succeed, failures: " + result.getFailures());
+
+        logSuccess("Concurrent bulk create test passed");
+    }
+
+    @Test(priority = 3, description = "Create, read, update and delete many books through async pipelines")
+    public void testAsyncCrudPipelines() {
+        logSection(TEST_CLASS_NAME + " - Async CRUD Pipelines");
+
+        logStep(1, "Starting {} create-read-update-delete chains without blocking", ASYNC_PIPELINE_COUNT);
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        long startTime = System.nanoTime();
+        List<CompletableFuture<Integer>> pipelines = IntStream.rangeClosed(1, ASYNC_PIPELINE_COUNT)
+                .mapToObj(i -> ApiRequestHelper.postRequestAsync(booksUrl, asyncBook(0, "Async Book " + i))
+                        .thenApply(AssertionHelper.expectStatusCode(201, "Book should be created"))
+                        .thenApply(created -> created.as(Book.class).getId())
+                        .thenCompose(id -> ApiRequestHelper.getRequestAsync(booksUrl + "/" + id)
+                                .thenApply(AssertionHelper.expectStatusCode(200, "Created book should be readable"))
+                                .thenCompose(read -> ApiRequestHelper.putRequestAsync(booksUrl + "/" + id,
+                                        asyncBook(id, "Updated Async Book " + i)))
+                                .thenApply(AssertionHelper.expectStatusCode(200, "Book should be updated"))
+                                .thenCompose(updated -> ApiRequestHelper.deleteRequestAsync(booksUrl + "/" + id))
+                                .thenApply(AssertionHelper.expectStatusCode(200, "Book should be deleted"))
+                                .thenApply(deleted -> id)))
+                .collect(Collectors.toList());
+
+        logStep(2, "Waiting for every pipeline to finish");
+        CompletableFuture.allOf(pipelines.toArray(new CompletableFuture<?>[0])).join();
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        logInfo("{} requests completed in {} ms", ASYNC_PIPELINE_COUNT * 4, elapsedMs);
+
+        logStep(3, "Verifying each pipeline worked on its own book");
+        long distinctIds = pipelines.stream().map(CompletableFuture::join).distinct().count();
+        Assert.assertEquals(distinctIds, ASYNC_PIPELINE_COUNT, "Every pipeline should create a distinct book");
+
+        logSuccess("Async CRUD pipelines test passed");
+    }
+
+    private static Book asyncBook(int id, String title) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .description("Created by an async pipeline")
+                .pageCount(120)
+                .excerpt("Async")
+                .publishDate("2024-02-08T00:00:00")
+                .build();
+    }
+}
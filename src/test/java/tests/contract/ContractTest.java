@@ -0,0 +1,75 @@
+package tests.contract;
+
+import base.BaseTest;
+import config.ApiConfig;
+import contract.ApiOperation;
+import contract.ContractCase;
+import contract.ContractCaseGenerator;
+import contract.ContractCaseRunner;
+import contract.ContractResult;
+import contract.OpenApiSpec;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class ContractTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Contract Tests";
+
+    private final OpenApiSpec spec = OpenApiSpec.load(ApiConfig.OPENAPI_SPEC);
+    private final ContractCaseRunner runner = new ContractCaseRunner(spec);
+
+    @DataProvider(name = "contractCases", parallel = true)
+    public Object[][] contractCases() {
+        return new ContractCaseGenerator(spec).generate().stream()
+                .map(contractCase -> new Object[] {contractCase})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(priority = 1, description = "Every operation and documented error response is covered by generated cases")
+    public void testEveryOperationCovered() {
+        logSection(TEST_CLASS_NAME + " - Spec Coverage");
+
+        logStep(1, "Generating cases from {}", spec.getTitle());
+        List<ContractCase> cases = new ContractCaseGenerator(spec).generate();
+        Map<String, Long> byKind = cases.stream()
+                .collect(Collectors.groupingBy(ContractCase::getKind, TreeMap::new, Collectors.counting()));
+        logInfo("{} cases for {} operations: {}", cases.size(), spec.getOperations().size(), byKind);
+
+        logStep(2, "Verifying each operation has a happy-path case and a case for each documented 4xx response");
+        for (ApiOperation operation : spec.getOperations()) {
+            List<ContractCase> forOperation = cases.stream()
+                    .filter(contractCase -> contractCase.getOperation().equals(operation))
+                    .toList();
+            Assert.assertTrue(forOperation.stream().anyMatch(c -> ContractCase.HAPPY.equals(c.getKind())),
+                "No happy-path case for " + operation.getName());
+            operation.getResponses().keySet().stream()
+                    .filter(status -> status >= 400 && status < 500)
+                    .forEach(status -> Assert.assertTrue(
+                        forOperation.stream().anyMatch(c -> c.getExpectedStatuses().contains(status)),
+                        "No case expects documented status " + status + " of " + operation.getName()));
+        }
+
+        logSuccess("Spec coverage test passed");
+    }
+
+    @Test(priority = 2, dataProvider = "contractCases", description = "Generated contract case")
+    public void testContractCase(ContractCase contractCase) {
+        logSection(TEST_CLASS_NAME + " - " + contractCase.getName());
+
+        logStep(1, "Sending {} case{}", contractCase.getKind(), contractCase.needsFixture() ? " on a new record" : "");
+        ContractResult result = runner.run(contractCase);
+        logInfo("Received status code: {}", result.getStatusCode());
+
+        logStep(2, "Verifying status is one of {} and the response matches its schema",
+                contractCase.getExpectedStatuses());
+        Assert.assertTrue(result.isSuccessful(), result.describe());
+
+        logSuccess("Contract case passed");
+    }
+}
@@ -0,0 +1,100 @@
+package tests.fixtures;
+
+import base.BaseTest;
+import config.ApiConfig;
+import fixtures.BulkFixtures;
+import fixtures.FixtureRegistry;
+import models.Author;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import utils.BatchResult;
+import utils.ConcurrentRequestExecutor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class BulkFixturesTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Bulk Fixtures Tests";
+    private static final int BOOK_COUNT = 200;
+    private static final int AUTHOR_COUNT = 100;
+
+    private BulkFixtures fixtures;
+    private List<Book> books;
+    private List<Author> authors;
+
+    @BeforeClass
+    public void provisionFixtures() {
+        fixtures = new BulkFixtures("Bulk Fixtures Test");
+        books = fixtures.provisionBooks(BOOK_COUNT);
+        authors = fixtures.provisionAuthors(AUTHOR_COUNT, 1);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownFixtures() {
+        if (fixtures != null) {
+            fixtures.tearDown();
+        }
+    }
+
+    @Test(priority = 1, description = "Bulk-provisioned books are readable")
+    public void testProvisionedBooksAreReadable() {
+        logSection(TEST_CLASS_NAME + " - Provisioned Books");
+
+        logStep(1, "Verifying {} books were provisioned with distinct IDs", BOOK_COUNT);
+        Set<Integer> ids = books.stream().map(Book::getId).collect(Collectors.toSet());
+        Assert.assertEquals(ids.size(), BOOK_COUNT, "Every provisioned book should have its own ID");
+
+        logStep(2, "Reading every provisioned book back concurrently");
+        BatchResult<Integer> result;
+        try (ConcurrentRequestExecutor executor = new ConcurrentRequestExecutor()) {
+            result = executor.fanOut(ids, id -> ApiRequestHelper.getRequest(ApiConfig.getBooksEndpointURL() + "/" + id));
+        }
+        logInfo("Batch result: {}", result);
+        Assert.assertEquals(result.getSuccessCount(), BOOK_COUNT,
+            "All provisioned books should be readable, failures: " + result.getFailures());
+
+        logSuccess("Provisioned books test passed");
+    }
+
+    @Test(priority = 2, description = "Bulk-provisioned records are registered for cleanup")
+    public void testProvisionedRecordsAreRegistered() {
+        logSection(TEST_CLASS_NAME + " - Fixture Registry");
+
+        logStep(1, "Checking the registry holds every provisioned ID");
+        Set<Integer> bookIds = FixtureRegistry.getInstance().getRegisteredIds(ApiConfig.getBooksEndpointURL());
+        Set<Integer> authorIds = FixtureRegistry.getInstance().getRegisteredIds(ApiConfig.getAuthorsEndpointURL());
+        Assert.assertTrue(bookIds.containsAll(books.stream().map(Book::getId).collect(Collectors.toList())),
+            "Every provisioned book should be registered");
+        Assert.assertTrue(authorIds.containsAll(authors.stream().map(Author::getId).collect(Collectors.toList())),
+            "Every provisioned author should be registered");
+        logInfo("Registered records: {}", FixtureRegistry.getInstance().size());
+
+        logSuccess("Fixture registry test passed");
+    }
+
+    @Test(priority = 3, description = "Teardown deletes provisioned records in batches")
+    public void testTearDownDeletesProvisionedRecords() {
+        logSection(TEST_CLASS_NAME + " - Batched Teardown");
+
+        logStep(1, "Provisioning a separate set of books");
+        List<Integer> ids;
+        try (BulkFixtures scratch = new BulkFixtures("Teardown Test")) {
+            ids = scratch.provisionBooks(20).stream().map(Book::getId).collect(Collectors.toList());
+            logInfo("Provisioned book IDs: {}", ids);
+        }
+
+        logStep(2, "Verifying the books were deleted and unregistered");
+        Set<Integer> registered = FixtureRegistry.getInstance().getRegisteredIds(ApiConfig.getBooksEndpointURL());
+        Assert.assertTrue(ids.stream().noneMatch(registered::contains), "Deleted books should be unregistered");
+        Assert.assertEquals(ApiRequestHelper.getRequest(ApiConfig.getBooksEndpointURL() + "/" + ids.get(0))
+            .getStatusCode(), ApiConfig.HTTP_404_NOT_FOUND, "Deleted book should no longer exist");
+
+        logSuccess("Batched teardown test passed");
+    }
+}
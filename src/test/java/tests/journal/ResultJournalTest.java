@@ -0,0 +1,200 @@
+package tests.journal;
+
+import base.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import journal.JournalExporter;
+import journal.JournalReader;
+import journal.JournalSummary;
+import journal.JournalVisitor;
+import journal.RequestEntry;
+import journal.ResultJournal;
+import journal.TestEntry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import perf.EndpointSummary;
+import utils.JsonCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class ResultJournalTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Result Journal Tests";
+    private static final String TEST_NAME = "tests.journal.Sample.testBooks";
+    private static final String BOOKS = "GET /api/v1/Books";
+    private static final String BOOK = "GET /api/v1/Books/{id}";
+
+    @Test(priority = 1, description = "Concurrent appends across mapped regions read back complete and in order")
+    public void testConcurrentAppendsReadBack() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Concurrent Appends");
+
+        logStep(1, "Appending requests from 4 threads, enough to span several mapped regions");
+        int threads = 4;
+        int perThread = 100_000;
+        Path file = Files.createTempDirectory("journal").resolve("concurrent.journal");
+        ResultJournal journal = ResultJournal.create(file);
+        int testId = journal.intern(TEST_NAME);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    journal.recordRequest(i % 2 == 0 ? BOOKS : BOOK, testId, 200, thread, i, 10, 100);
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        journal.close();
+        logInfo("Journal holds {} requests in {} KB", journal.getRequestCount(), journal.getLength() / 1024);
+
+        logStep(2, "Reading the journal back");
+        long[] perThreadCount = new long[threads];
+        long[] lastDuration = {-1, -1, -1, -1};
+        AtomicLong outOfOrder = new AtomicLong();
+        long records = JournalReader.read(file, new JournalVisitor() {
+            @Override
+            public void onRequest(RequestEntry request) {
+                int thread = (int) request.getStartMillis();
+                perThreadCount[thread]++;
+                if (request.getDurationNanos() <= lastDuration[thread]) {
+                    outOfOrder.incrementAndGet();
+                }
+                lastDuration[thread] = request.getDurationNanos();
+            }
+        });
+
+        logStep(3, "Verifying every record and the trimmed file");
+        Assert.assertEquals(records, (long) threads * perThread, "Every request should be read back");
+        for (long count : perThreadCount) {
+            Assert.assertEquals(count, perThread, "Each thread's requests should all be present");
+        }
+        Assert.assertEquals(outOfOrder.get(), 0, "Each thread's requests should keep their order");
+        Assert.assertEquals(Files.size(file), journal.getLength(), "File should be trimmed to the written length");
+
+        logSuccess("Concurrent appends test passed");
+    }
+
+    @Test(priority = 2, description = "A journal that was never closed reads up to its last complete record")
+    public void testUnclosedJournalIsReadable() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Unclosed Journal");
+
+        logStep(1, "Writing a test and two requests without closing the journal");
+        Path file = Files.createTempDirectory("journal").resolve("unclosed.journal");
+        ResultJournal journal = ResultJournal.create(file);
+        try {
+            int testId = journal.intern(TEST_NAME);
+            journal.recordRequest(BOOKS, testId, 200, 1, 1_000_000, 0, 512);
+            journal.recordRequest(BOOK, ResultJournal.NO_TEST, 404, 2, 2_000_000, 0, 64);
+            journal.recordTest(testId, test(TestEntry.PASSED, null));
+
+            logStep(2, "Reading the open journal");
+            List<TestEntry> tests = new ArrayList<>();
+            List<RequestEntry> requests = new ArrayList<>();
+            JournalReader.read(file, new JournalVisitor() {
+                @Override
+                public void onTest(TestEntry test) {
+                    tests.add(test);
+                }
+
+                @Override
+                public void onRequest(RequestEntry request) {
+                    requests.add(request);
+                }
+            });
+
+            logStep(3, "Verifying the records");
+            Assert.assertEquals(tests.size(), 1, "The test should be read");
+            Assert.assertEquals(tests.get(0), test(TestEntry.PASSED, null), "Test entry should round-trip");
+            Assert.assertEquals(requests, List.of(new RequestEntry(BOOKS, TEST_NAME, 200, 1, 1_000_000, 0, 512),
+                    new RequestEntry(BOOK, null, 404, 2, 2_000_000, 0, 64)), "Requests should round-trip");
+        } finally {
+            journal.close();
+        }
+
+        logSuccess("Unclosed journal test passed");
+    }
+
+    @Test(priority = 3, description = "The exporter summarizes requests and writes one Allure result per test")
+    public void testSummaryAndAllureExport() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Summary and Allure Export");
+
+        logStep(1, "Journaling a passed and a failed test with their requests");
+        Path file = Files.createTempDirectory("journal").resolve("export.journal");
+        String longTrace = "x".repeat(100_000);
+        try (ResultJournal journal = ResultJournal.create(file)) {
+            int testId = journal.intern(TEST_NAME);
+            for (int i = 1; i <= 100; i++) {
+                journal.recordRequest(BOOKS, testId, i == 100 ? 503 : 200, 1000 + i, i * 1_000_000L, 0, 1000);
+            }
+            journal.recordRequest(BOOK, testId, -1, 2000, 5_000_000, 0, 0);
+            journal.recordTest(testId, test(TestEntry.PASSED, null));
+            journal.recordTest(testId, test(TestEntry.FAILED, longTrace));
+        }
+
+        logStep(2, "Verifying the summary");
+        JournalExporter exporter = JournalExporter.read(file);
+        JournalSummary summary = exporter.getSummary();
+        logInfo("Summary: {}", summary.format());
+        Assert.assertEquals(summary.getTests(), 2, "Both tests should be counted");
+        Assert.assertEquals(summary.getFailed(), 1, "One test failed");
+        Assert.assertEquals(summary.getTotalRequests(), 101, "Every request should be counted");
+        EndpointSummary books = summary.getEndpoints().get(0);
+        Assert.assertEquals(books.getEndpoint(), BOOKS, "Endpoints should be sorted");
+        Assert.assertEquals(books.getErrors(), 1, "The 503 is an error");
+        Assert.assertEquals(books.getP99Ms(), 99, 1, "p99 of 1..100 ms");
+        Assert.assertEquals(summary.getEndpoints().get(1).getErrors(), 1, "Transport errors are errors");
+        Assert.assertEquals(summary.getResponseBytes(), 100_000, "Response bytes should be summed");
+        Assert.assertEquals(exporter.getTests().get(1).getTrace().length(), 0xFFFF,
+                "Long traces are cut to the record limit");
+
+        logStep(3, "Exporting Allure results");
+        Path allure = Files.createTempDirectory("allure");
+        Assert.assertEquals(exporter.writeAllureResults(allure), 2, "One result per test");
+        List<JsonNode> results = new ArrayList<>();
+        try (Stream<Path> files = Files.list(allure)) {
+            for (Path result : files.toList()) {
+                Assert.assertTrue(result.getFileName().toString().endsWith("-result.json"), "Allure file name");
+                results.add(JsonCodec.mapper().readTree(result.toFile()));
+            }
+        }
+        JsonNode failed = results.stream().filter(result -> "failed".equals(result.path("status").asText()))
+                .findFirst().orElseThrow();
+        Assert.assertEquals(failed.path("fullName").asText(), TEST_NAME, "Full name");
+        Assert.assertEquals(failed.path("name").asText(), "Sample test", "Description is the display name");
+        Assert.assertEquals(failed.path("statusDetails").path("message").asText(), "expected true",
+                "Failure message");
+        Assert.assertTrue(failed.path("description").asText().startsWith("101 requests, 2 errors"),
+                "Requests should be summarized: " + failed.path("description").asText());
+        Assert.assertEquals(results.get(0).path("historyId"), results.get(1).path("historyId"),
+                "Invocations of the same test share a history id");
+        Assert.assertTrue(failed.path("labels").toString().contains("\"testClass\""), "Labels should be written");
+
+        logSuccess("Summary and Allure export test passed");
+    }
+
+    private static TestEntry test(String status, String trace) {
+        return TestEntry.builder()
+                .name(TEST_NAME)
+                .status(status)
+                .startMillis(1000)
+                .stopMillis(2500)
+                .suite("Journal")
+                .description("Sample test")
+                .thread("main")
+                .message(trace == null ? null : "expected true")
+                .trace(trace)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package tests.load;
+
+import base.BaseTest;
+import config.LoadConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import perf.ArrivalRateProfile;
+import perf.ArrivalRateReport;
+import perf.ArrivalRateRunner;
+import perf.ScenarioMix;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class BookstoreArrivalRateTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Bookstore Arrival-Rate Tests";
+
+    @Test(description = "Drive a weighted scenario mix on a fixed or ramping arrival schedule")
+    public void testScenarioMixAtArrivalRate() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Open-Model Scenario Mix");
+
+        logStep(1, "Resolving the weighted scenario mix");
+        ScenarioMix mix = ScenarioMix.parse(LoadConfig.ARRIVAL_MIX);
+
+        logStep(2, "Running {} -> {} arrivals/s for {} s",
+                LoadConfig.ARRIVAL_START_RATE, LoadConfig.ARRIVAL_END_RATE, LoadConfig.ARRIVAL_DURATION_SECONDS);
+        ArrivalRateProfile profile = ArrivalRateProfile.builder()
+                .startRate(LoadConfig.ARRIVAL_START_RATE)
+                .endRate(LoadConfig.ARRIVAL_END_RATE)
+                .duration(Duration.ofSeconds(LoadConfig.ARRIVAL_DURATION_SECONDS))
+                .maxConcurrency(LoadConfig.ARRIVAL_MAX_CONCURRENCY)
+                .build();
+        ArrivalRateReport report = new ArrivalRateRunner(profile, mix, LoadConfig.ARRIVAL_SEED).run();
+        report.writeJson(Path.of(LoadConfig.REPORT_DIR, "arrival-rate-report.json"));
+
+        logStep(3, "Verifying every arrival ran and error rate is within {}%", LoadConfig.MAX_ERROR_RATE * 100);
+        Assert.assertEquals(report.getScheduledArrivals(), profile.getTotalArrivals(),
+            "Every arrival in the schedule should be dispatched");
+        Assert.assertEquals(report.getMissedArrivals(), 0, "Every dispatched arrival should complete");
+        Assert.assertTrue(report.getErrorRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Request error rate " + report.getErrorRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+        Assert.assertTrue(report.getScenarioFailureRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Scenario failure rate " + report.getScenarioFailureRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+
+        logSuccess("Arrival-rate test completed - {} arrivals/s, max start delay {} ms",
+                String.format("%.1f", report.getArrivalThroughput()),
+                String.format("%.2f", report.getMaxStartDelayMs()));
+    }
+}
@@ -0,0 +1,50 @@
+package tests.load;
+
+import base.BaseTest;
+import config.LoadConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import perf.LoadProfile;
+import perf.LoadReport;
+import perf.LoadRunner;
+import perf.LoadScenario;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public class BookstoreLoadTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Bookstore Load Tests";
+
+    @Test(description = "Replay happy-path CRUD scenarios under concurrent load")
+    public void testCrudScenariosUnderLoad() throws Exception {
+        logSection(TEST_CLASS_NAME + " - CRUD Scenarios Under Load");
+
+        logStep(1, "Resolving load scenarios from the functional test classes");
+        List<LoadScenario> scenarios = Arrays.stream(LoadConfig.SCENARIOS.split(","))
+                .map(String::trim)
+                .filter(reference -> !reference.isEmpty())
+                .map(LoadScenario::fromReference)
+                .toList();
+
+        logStep(2, "Running {} virtual users", LoadConfig.VIRTUAL_USERS);
+        LoadProfile profile = LoadProfile.builder()
+                .virtualUsers(LoadConfig.VIRTUAL_USERS)
+                .duration(Duration.ofSeconds(LoadConfig.DURATION_SECONDS))
+                .iterations(LoadConfig.ITERATIONS)
+                .build();
+        LoadReport report = new LoadRunner(profile, scenarios).run();
+        report.writeJson(Path.of(LoadConfig.REPORT_DIR, "load-report.json"));
+
+        logStep(3, "Verifying error rate is within {}%", LoadConfig.MAX_ERROR_RATE * 100);
+        Assert.assertTrue(report.getTotalRequests() > 0, "Load run should issue requests");
+        Assert.assertTrue(report.getErrorRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Request error rate " + report.getErrorRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+        Assert.assertTrue(report.getScenarioFailureRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Scenario failure rate " + report.getScenarioFailureRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+
+        logSuccess("Load test completed - {} req/s", String.format("%.1f", report.getThroughput()));
+    }
+}
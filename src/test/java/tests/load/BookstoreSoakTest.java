@@ -0,0 +1,60 @@
+package tests.load;
+
+import base.BaseTest;
+import config.SoakConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import perf.LoadScenario;
+import perf.SoakProfile;
+import perf.SoakReport;
+import perf.SoakRunner;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public class BookstoreSoakTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Bookstore Soak Tests";
+
+    @Test(description = "Loop CRUD scenarios at a fixed rate and check for latency drift and client leaks")
+    public void testCrudScenariosUnderSustainedLoad() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Sustained CRUD Load");
+
+        logStep(1, "Resolving soak scenarios from the functional test classes");
+        List<LoadScenario> scenarios = Arrays.stream(SoakConfig.SCENARIOS.split(","))
+                .map(String::trim)
+                .filter(reference -> !reference.isEmpty())
+                .map(LoadScenario::fromReference)
+                .toList();
+
+        logStep(2, "Running {} virtual users at {} req/s for {} s",
+                SoakConfig.VIRTUAL_USERS, SoakConfig.REQUESTS_PER_SECOND, SoakConfig.DURATION_SECONDS);
+        SoakProfile profile = SoakProfile.builder()
+                .virtualUsers(SoakConfig.VIRTUAL_USERS)
+                .duration(Duration.ofSeconds(SoakConfig.DURATION_SECONDS))
+                .requestsPerSecond(SoakConfig.REQUESTS_PER_SECOND)
+                .interval(Duration.ofSeconds(SoakConfig.INTERVAL_SECONDS))
+                .windowIntervals(SoakConfig.WINDOW_INTERVALS)
+                .warmupIntervals(SoakConfig.WARMUP_INTERVALS)
+                .maxP99DriftPercent(SoakConfig.MAX_P99_DRIFT_PERCENT)
+                .minWindowSamples(SoakConfig.MIN_WINDOW_SAMPLES)
+                .maxHeapGrowthPercent(SoakConfig.MAX_HEAP_GROWTH_PERCENT)
+                .minHeapGrowthMb(SoakConfig.MIN_HEAP_GROWTH_MB)
+                .maxThreadGrowth(SoakConfig.MAX_THREAD_GROWTH)
+                .maxSocketGrowth(SoakConfig.MAX_SOCKET_GROWTH)
+                .build();
+        SoakReport report = new SoakRunner(profile, scenarios).run();
+        report.writeJson(Path.of(SoakConfig.REPORT_DIR, "soak-report.json"));
+
+        logStep(3, "Verifying error rate, latency drift and client resources");
+        Assert.assertTrue(report.getLoad().getTotalRequests() > 0, "Soak run should issue requests");
+        Assert.assertTrue(report.getLoad().getErrorRate() <= SoakConfig.MAX_ERROR_RATE,
+            "Request error rate " + report.getLoad().getErrorRate() + " exceeds " + SoakConfig.MAX_ERROR_RATE);
+        Assert.assertFalse(report.hasLeak(), "Client resources grew: " + report.getLeakFindings());
+        Assert.assertFalse(report.hasDrift(), "p99 latency drifted: " + report.getDriftFindings());
+
+        logSuccess("Soak test completed - {} over {} windows", report.getVerdict(), report.getWindows().size());
+    }
+}
@@ -0,0 +1,56 @@
+package tests.load;
+
+import base.BaseTest;
+import config.ApiConfig;
+import config.LoadConfig;
+import contract.ContractCase;
+import contract.ContractCaseGenerator;
+import contract.ContractCaseRunner;
+import contract.OpenApiSpec;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import perf.LoadProfile;
+import perf.LoadReport;
+import perf.LoadRunner;
+import perf.LoadScenario;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class ContractLoadTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Contract Load Tests";
+
+    @Test(description = "Replay the generated happy-path contract cases of every operation under load")
+    public void testContractScenariosUnderLoad() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Generated Scenarios Under Load");
+
+        logStep(1, "Generating load scenarios from the OpenAPI spec");
+        OpenApiSpec spec = OpenApiSpec.load(ApiConfig.OPENAPI_SPEC);
+        ContractCaseRunner runner = new ContractCaseRunner(spec);
+        List<LoadScenario> scenarios = new ContractCaseGenerator(spec).generate().stream()
+                .filter(contractCase -> ContractCase.HAPPY.equals(contractCase.getKind()))
+                .map(runner::toLoadScenario)
+                .toList();
+        logInfo("{} scenarios from {}", scenarios.size(), spec.getTitle());
+
+        logStep(2, "Running {} virtual users", LoadConfig.VIRTUAL_USERS);
+        LoadProfile profile = LoadProfile.builder()
+                .virtualUsers(LoadConfig.VIRTUAL_USERS)
+                .duration(Duration.ofSeconds(LoadConfig.DURATION_SECONDS))
+                .iterations(LoadConfig.ITERATIONS)
+                .build();
+        LoadReport report = new LoadRunner(profile, scenarios).run();
+        report.writeJson(Path.of(LoadConfig.REPORT_DIR, "contract-load-report.json"));
+
+        logStep(3, "Verifying error rate is within {}%", LoadConfig.MAX_ERROR_RATE * 100);
+        Assert.assertTrue(report.getTotalRequests() > 0, "Load run should issue requests");
+        Assert.assertTrue(report.getErrorRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Request error rate " + report.getErrorRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+        Assert.assertTrue(report.getScenarioFailureRate() <= LoadConfig.MAX_ERROR_RATE,
+            "Scenario failure rate " + report.getScenarioFailureRate() + " exceeds " + LoadConfig.MAX_ERROR_RATE);
+
+        logSuccess("Contract load test completed - {} req/s", String.format("%.1f", report.getThroughput()));
+    }
+}
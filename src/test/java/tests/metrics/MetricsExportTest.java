@@ -0,0 +1,86 @@
+package tests.metrics;
+
+import base.BaseTest;
+import config.ApiConfig;
+import io.restassured.response.Response;
+import metrics.MetricsHttpServer;
+import metrics.MetricsRegistry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MetricsExportTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Metrics Export Tests";
+
+    @Test(priority = 1, description = "Requests are counted per endpoint and status in the OpenMetrics export")
+    public void testRequestsAppearInOpenMetrics() {
+        logSection(TEST_CLASS_NAME + " - OpenMetrics Text");
+
+        logStep(1, "Recording the current count for GET book by ID");
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        String bookUrl = ApiConfig.getBooksEndpointURL() + "/1";
+        long before = registry.getRequestCount("GET", bookUrl, ApiConfig.HTTP_200_OK);
+
+        logStep(2, "Making two uncached GET requests for book 1");
+        Response response = ApiRequestHelper.getConditionalRequest(bookUrl, null);
+        Assert.assertEquals(response.getStatusCode(), ApiConfig.HTTP_200_OK, "Expected HTTP 200 OK status code");
+        ApiRequestHelper.getConditionalRequest(bookUrl, null);
+
+        logStep(3, "Verifying counters, bytes and the latency histogram in the export");
+        String text = registry.scrape();
+        String labels = "method=\"GET\",endpoint=\"/api/v1/Books/{id}\"";
+        Assert.assertTrue(valueOf(text, "api_requests_total{" + labels + ",status=\"200\"}") >= before + 2,
+                "Both requests should be counted");
+        Assert.assertTrue(valueOf(text, "api_response_body_bytes_total{" + labels + "}")
+                >= 2L * response.asByteArray().length, "Response bytes should be counted");
+        Assert.assertTrue(valueOf(text, "api_request_duration_seconds_count{" + labels + "}") >= 2,
+                "Latency histogram should include both requests");
+        Assert.assertEquals(valueOf(text, "api_request_duration_seconds_bucket{" + labels + ",le=\"+Inf\"}"),
+                valueOf(text, "api_request_duration_seconds_count{" + labels + "}"),
+                "+Inf bucket should equal the count");
+        Assert.assertTrue(text.contains("# TYPE api_requests_in_flight gauge"), "In-flight gauge should be exported");
+        Assert.assertTrue(text.endsWith("# EOF\n"), "Export should end with # EOF");
+
+        logSuccess("OpenMetrics export test passed");
+    }
+
+    @Test(priority = 2, description = "The scrape endpoint serves the current metrics")
+    public void testScrapeEndpoint() throws IOException, InterruptedException {
+        logSection(TEST_CLASS_NAME + " - Scrape Endpoint");
+
+        logStep(1, "Starting the metrics endpoint on a free port");
+        try (MetricsHttpServer server = MetricsHttpServer.start(0)) {
+            logInfo("Scraping {}", server.getUrl());
+
+            logStep(2, "Scraping it over HTTP");
+            HttpResponse<String> scrape = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(server.getUrl())).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            logStep(3, "Verifying the OpenMetrics response");
+            Assert.assertEquals(scrape.statusCode(), ApiConfig.HTTP_200_OK, "Expected HTTP 200 OK status code");
+            Assert.assertEquals(scrape.headers().firstValue("Content-Type").orElse(""), MetricsRegistry.CONTENT_TYPE,
+                    "Expected the OpenMetrics content type");
+            Assert.assertTrue(scrape.body().contains("api_pool_connections{state=\"leased\"}"),
+                    "Connection pool stats should be exported");
+            Assert.assertTrue(scrape.body().endsWith("# EOF\n"), "Export should end with # EOF");
+        }
+
+        logSuccess("Scrape endpoint test passed");
+    }
+
+    private static long valueOf(String text, String series) {
+        Matcher matcher = Pattern.compile("^" + Pattern.quote(series) + " (\\d+)$", Pattern.MULTILINE).matcher(text);
+        Assert.assertTrue(matcher.find(), "Missing series " + series);
+        return Long.parseLong(matcher.group(1));
+    }
+}
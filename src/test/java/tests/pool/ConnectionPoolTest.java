@@ -0,0 +1,78 @@
+package tests.pool;
+
+import base.BaseTest;
+import config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import org.apache.http.HttpVersion;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ConnectionPoolStats;
+import utils.PooledHttpClientFactory;
+
+public class ConnectionPoolTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Connection Pool Tests";
+
+    @Test(priority = 1, description = "Sequential requests reuse the pooled keep-alive connection")
+    public void testSequentialRequestsReuseConnection() {
+        logSection(TEST_CLASS_NAME + " - Connection Reuse");
+
+        // A pool of its own, so requests from tests running in parallel do not move its counters
+        PooledHttpClientFactory factory = new PooledHttpClientFactory();
+        RestAssuredConfig config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(factory)
+                .reuseHttpClientInstance());
+
+        logStep(1, "Sending two GET requests one after the other");
+        for (int i = 0; i < 2; i++) {
+            Response response = RestAssured.given().config(config).when().get(ApiConfig.getBooksEndpointURL() + "/1");
+            Assert.assertEquals(response.getStatusCode(), ApiConfig.HTTP_200_OK, "Book should be returned");
+            // Reading the body releases the connection back to the pool
+            response.asByteArray();
+        }
+
+        logStep(2, "Verifying the second request reused the first one's connection");
+        ConnectionPoolStats stats = factory.getStats();
+        logInfo("Connection pool: {}", stats);
+        Assert.assertEquals(stats.getRequests(), 2, "Both requests should be counted");
+        Assert.assertEquals(stats.getNewConnections(), 1, "Only the first request should open a connection");
+        Assert.assertTrue(stats.getReusedConnections() >= 1, "The second request should reuse the connection");
+
+        logSuccess("Connection reuse test passed");
+    }
+
+    @Test(priority = 2, description = "Idle connections are kept no longer than the server's Keep-Alive timeout")
+    @SuppressWarnings("deprecation")
+    public void testKeepAliveHonoursServerTimeout() {
+        logSection(TEST_CLASS_NAME + " - Keep-Alive Timeout");
+
+        ConnectionKeepAliveStrategy strategy = new PooledHttpClientFactory().createHttpClient()
+                .getConnectionKeepAliveStrategy();
+
+        logStep(1, "Verifying a shorter server timeout wins over the configured idle timeout");
+        Assert.assertEquals(strategy.getKeepAliveDuration(response("timeout=5"), new BasicHttpContext()),
+                Math.min(5000, ApiConfig.IDLE_CONNECTION_TIMEOUT), "Keep-Alive: timeout=5 should cap at 5 s");
+
+        logStep(2, "Verifying a longer server timeout, or none, falls back to the idle timeout");
+        Assert.assertEquals(strategy.getKeepAliveDuration(response("timeout=86400"), new BasicHttpContext()),
+                ApiConfig.IDLE_CONNECTION_TIMEOUT, "The configured idle timeout should be the ceiling");
+        Assert.assertEquals(strategy.getKeepAliveDuration(response(null), new BasicHttpContext()),
+                ApiConfig.IDLE_CONNECTION_TIMEOUT, "Without the header the idle timeout applies");
+
+        logSuccess("Keep-Alive timeout test passed");
+    }
+
+    private static BasicHttpResponse response(String keepAlive) {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        if (keepAlive != null) {
+            response.addHeader("Keep-Alive", keepAlive);
+        }
+        return response;
+    }
+}
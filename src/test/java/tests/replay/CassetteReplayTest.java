@@ -0,0 +1,147 @@
+package tests.replay;
+
+import base.BaseTest;
+import config.ApiConfig;
+import fixtures.FixtureRegistry;
+import io.restassured.response.Response;
+import models.Book;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import replay.Cassette;
+import replay.CassetteFilter;
+import utils.ApiRequestHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public class CassetteReplayTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Record And Replay Tests";
+
+    // Nothing listens here, so any request that is not answered from the cassette fails
+    private static final String UNREACHABLE_BASE_URL = "http://127.0.0.1:9";
+
+    private Path cassetteDir;
+
+    @BeforeClass
+    public void createCassetteDir() throws IOException {
+        if (ApiRequestHelper.getCassette() != null) {
+            throw new SkipException("Suite is already recording or replaying a cassette");
+        }
+        cassetteDir = Files.createTempDirectory("cassette");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteCassetteDir() throws IOException {
+        if (cassetteDir == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(cassetteDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(priority = 1, description = "Recorded GETs are replayed without reaching the server")
+    public void testReplayServesRecordedExchanges() {
+        logSection(TEST_CLASS_NAME + " - Replay GET");
+
+        logStep(1, "Recording GET all books and GET book 1");
+        String bookPath = ApiConfig.BOOKS_ENDPOINT + "/1";
+        Response recordedList;
+        Response recordedBook;
+        try (Cassette cassette = Cassette.record(cassetteDir.resolve("get"))) {
+            recordedList = get(cassette, ApiConfig.getBooksEndpointURL());
+            recordedBook = get(cassette, ApiConfig.getEndpointURL(bookPath));
+        }
+        Assert.assertEquals(recordedBook.getStatusCode(), ApiConfig.HTTP_200_OK, "Expected HTTP 200 OK status code");
+
+        logStep(2, "Replaying both against an unreachable host");
+        Cassette cassette = Cassette.replay(cassetteDir.resolve("get"));
+        Response replayedBook = get(cassette, UNREACHABLE_BASE_URL + bookPath);
+        Response replayedList = get(cassette, UNREACHABLE_BASE_URL + ApiConfig.BOOKS_ENDPOINT);
+
+        logStep(3, "Verifying status, headers and bodies match the recording");
+        Assert.assertEquals(replayedBook.getStatusCode(), recordedBook.getStatusCode(), "Status code should match");
+        Assert.assertEquals(replayedBook.getContentType(), recordedBook.getContentType(), "Content type should match");
+        Assert.assertEquals(replayedBook.asString(), recordedBook.asString(), "Book body should match");
+        Assert.assertEquals(replayedBook.as(Book.class).getId(), 1, "Replayed body should deserialize");
+        Assert.assertEquals(replayedList.asString(), recordedList.asString(), "Collection body should match");
+
+        logSuccess("Replay test passed");
+    }
+
+    @Test(priority = 2, description = "Requests to the same route are told apart by their body")
+    public void testReplayMatchesRequestBody() {
+        logSection(TEST_CLASS_NAME + " - Body Hash");
+
+        logStep(1, "Recording two POSTs with different bodies");
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        try (Cassette cassette = Cassette.record(cassetteDir.resolve("post"))) {
+            for (String title : new String[] {"Recorded First", "Recorded Second"}) {
+                Response response = post(cassette, booksUrl, newBook(title));
+                FixtureRegistry.getInstance().recordCreated(booksUrl, response);
+            }
+        }
+
+        logStep(2, "Replaying them in reverse order");
+        Cassette cassette = Cassette.replay(cassetteDir.resolve("post"));
+        String replayUrl = UNREACHABLE_BASE_URL + ApiConfig.BOOKS_ENDPOINT;
+        Response second = post(cassette, replayUrl, newBook("Recorded Second"));
+        Response first = post(cassette, replayUrl, newBook("Recorded First"));
+
+        logStep(3, "Verifying each request got the response recorded for its body");
+        Assert.assertEquals(second.as(Book.class).getTitle(), "Recorded Second", "Second POST should match its body");
+        Assert.assertEquals(first.as(Book.class).getTitle(), "Recorded First", "First POST should match its body");
+
+        logSuccess("Body hash test passed");
+    }
+
+    @Test(priority = 3, description = "Requests that were never recorded fail instead of reaching the network")
+    public void testUnrecordedRouteIsRejected() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Replay Miss");
+
+        logStep(1, "Replaying an empty cassette");
+        Cassette.record(cassetteDir.resolve("empty")).close();
+        Cassette cassette = Cassette.replay(cassetteDir.resolve("empty"));
+
+        logStep(2, "Verifying an unrecorded GET is rejected");
+        IllegalStateException miss = Assert.expectThrows(IllegalStateException.class,
+                () -> get(cassette, UNREACHABLE_BASE_URL + ApiConfig.BOOKS_ENDPOINT + "/1"));
+        logInfo("Replay miss: {}", miss.getMessage());
+
+        logSuccess("Replay miss test passed");
+    }
+
+    private static Response get(Cassette cassette, String url) {
+        return ApiRequestHelper.getRequestSpec()
+                .filter(new CassetteFilter(cassette))
+                .when()
+                .get(url);
+    }
+
+    private static Response post(Cassette cassette, String url, Object body) {
+        return ApiRequestHelper.getRequestSpec()
+                .filter(new CassetteFilter(cassette))
+                .body(body)
+                .when()
+                .post(url);
+    }
+
+    private static Book newBook(String title) {
+        return Book.builder()
+                .title(title)
+                .description("Recorded for replay")
+                .pageCount(100)
+                .excerpt("Excerpt")
+                .publishDate("2024-01-01T00:00:00")
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package tests.resilience;
+
+import base.BaseTest;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import metrics.LatencyRecorder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.CircuitBreaker;
+import utils.CircuitOpenException;
+import utils.RequestResilience;
+import utils.ResiliencePolicy;
+import utils.ResilienceStats;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class RequestResilienceTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Request Resilience Tests";
+    private static final String BOOK_URL = "http://localhost/api/v1/Books/1";
+    private static final String BOOKS_URL = "http://localhost/api/v1/Books";
+
+    @Test(priority = 1, description = "Failed idempotent requests are retried with jittered exponential backoff")
+    public void testRetryWithBackoff() {
+        logSection(TEST_CLASS_NAME + " - Retry With Backoff");
+
+        ResiliencePolicy policy = ResiliencePolicy.builder()
+                .maxAttempts(4)
+                .baseDelayMillis(5)
+                .maxDelayMillis(20)
+                .build();
+        RequestResilience resilience = new RequestResilience(policy, new LatencyRecorder());
+
+        logStep(1, "Retrying a GET that fails with 503 and then a timeout before succeeding");
+        Supplier<Response> attempts = scripted(503, -1, 200);
+        Response response = resilience.execute("GET", BOOK_URL, attempts);
+        Assert.assertEquals(response.getStatusCode(), 200, "The third attempt should succeed");
+        ResilienceStats stats = resilience.getStats("GET", BOOK_URL);
+        logInfo("GET stats: {}", stats);
+        Assert.assertEquals(stats.getRequests(), 1, "One request");
+        Assert.assertEquals(stats.getRetries(), 2, "Two retries counted separately");
+
+        logStep(2, "Not retrying a POST, a 404 or a request out of attempts");
+        Assert.assertEquals(resilience.execute("POST", BOOKS_URL, scripted(503, 201)).getStatusCode(), 503,
+                "POST is not idempotent");
+        Assert.assertEquals(resilience.execute("GET", BOOK_URL, scripted(404, 200)).getStatusCode(), 404,
+                "A 404 is an answer, not a failure");
+        Assert.assertEquals(resilience.execute("DELETE", BOOK_URL, scripted(500, 500, 500, 500, 200)).getStatusCode(),
+                500, "Four attempts at most");
+        Assert.assertEquals(resilience.getStats("POST", BOOKS_URL).getRetries(), 0, "No POST retries");
+        Assert.assertEquals(resilience.getStats("DELETE", BOOK_URL).getRetries(), 3, "Three DELETE retries");
+
+        logStep(3, "Retrying an async PUT and checking the backoff bounds");
+        Queue<Integer> statuses = new ArrayDeque<>(List.of(502, 200));
+        Response put = resilience.executeAsync("PUT", BOOK_URL,
+                () -> CompletableFuture.completedFuture(response(statuses.remove()))).join();
+        Assert.assertEquals(put.getStatusCode(), 200, "The async retry should succeed");
+        for (int retry = 1; retry <= 10; retry++) {
+            long ceiling = Math.min(20, 5L << (retry - 1));
+            long delay = policy.backoffMillis(retry);
+            Assert.assertTrue(delay >= 0 && delay <= ceiling, "Backoff " + delay + " ms out of [0, " + ceiling + "]");
+        }
+
+        logSuccess("Retry with backoff test passed");
+    }
+
+    @Test(priority = 2, description = "The circuit opens after consecutive failures and closes after a good trial")
+    public void testCircuitBreaker() {
+        logSection(TEST_CLASS_NAME + " - Circuit Breaker");
+
+        // The test moves the breakers' clock itself, so the open window cannot run out under a loaded machine
+        AtomicLong clock = new AtomicLong();
+        RequestResilience resilience = new RequestResilience(ResiliencePolicy.builder()
+                .breakerFailures(3)
+                .breakerOpenMillis(5000)
+                .build(), new LatencyRecorder(), clock::get);
+        AtomicInteger sent = new AtomicInteger();
+        Supplier<Response> failing = () -> {
+            sent.incrementAndGet();
+            return response(500);
+        };
+
+        logStep(1, "Sending three failing requests");
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(resilience.execute("GET", BOOK_URL, failing).getStatusCode(), 500, "Failure passes");
+        }
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.OPEN, "Circuit should open");
+
+        logStep(2, "Failing fast while the circuit is open, other endpoints unaffected");
+        Assert.assertThrows(CircuitOpenException.class, () -> resilience.execute("GET", BOOK_URL, failing));
+        Assert.assertThrows(CircuitOpenException.class,
+                () -> resilience.execute("GET", "http://localhost/api/v1/Books/2", failing));
+        Assert.assertEquals(sent.get(), 3, "Rejected requests are not sent");
+        Assert.assertEquals(resilience.execute("GET", BOOKS_URL, () -> response(200)).getStatusCode(), 200,
+                "The collection endpoint has its own circuit");
+        CompletableFuture<Response> rejected = resilience.executeAsync("GET", BOOK_URL,
+                () -> CompletableFuture.completedFuture(response(200)));
+        Assert.assertTrue(rejected.isCompletedExceptionally(), "Async requests are rejected too");
+
+        logStep(3, "Closing the circuit with a successful trial after the open time");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5001));
+        Assert.assertEquals(resilience.execute("GET", BOOK_URL, () -> response(200)).getStatusCode(), 200,
+                "The trial request should be sent");
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.CLOSED, "Circuit closes");
+        ResilienceStats stats = resilience.getStats("GET", BOOK_URL);
+        logInfo("GET by ID stats: {}", stats);
+        Assert.assertEquals(stats.getRejected(), 3, "Three rejections");
+        Assert.assertEquals(stats.getCircuitsOpened(), 1, "Opened once");
+
+        logSuccess("Circuit breaker test passed");
+    }
+
+    @Test(priority = 3, description = "Late outcomes of requests sent before the circuit opened are ignored")
+    public void testStragglerDoesNotCloseCircuit() {
+        logSection(TEST_CLASS_NAME + " - Straggler After Opening");
+
+        AtomicLong clock = new AtomicLong();
+        RequestResilience resilience = new RequestResilience(ResiliencePolicy.builder()
+                .breakerFailures(3)
+                .breakerOpenMillis(5000)
+                .build(), new LatencyRecorder(), clock::get);
+
+        logStep(1, "Sending a request that is still in flight when three failures open the circuit");
+        CompletableFuture<Response> straggler = new CompletableFuture<>();
+        CompletableFuture<Response> early = resilience.executeAsync("GET", BOOK_URL, () -> straggler);
+        for (int i = 0; i < 3; i++) {
+            resilience.execute("GET", BOOK_URL, () -> response(500));
+        }
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.OPEN, "Circuit should open");
+
+        logStep(2, "Completing the early request successfully");
+        straggler.complete(response(200));
+        Assert.assertEquals(early.join().getStatusCode(), 200, "The straggler's answer still reaches its caller");
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.OPEN, "Circuit stays open");
+        Assert.assertThrows(CircuitOpenException.class, () -> resilience.execute("GET", BOOK_URL, () -> response(200)));
+
+        logStep(3, "Only the trial decides the half-open circuit");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5001));
+        CompletableFuture<Response> trial = new CompletableFuture<>();
+        CompletableFuture<Response> trialResult = resilience.executeAsync("GET", BOOK_URL, () -> trial);
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.HALF_OPEN,
+                "Circuit is half-open while the trial is in flight");
+        Assert.assertThrows(CircuitOpenException.class, () -> resilience.execute("GET", BOOK_URL, () -> response(200)));
+        trial.complete(response(500));
+        Assert.assertEquals(trialResult.join().getStatusCode(), 500, "The trial's failure reaches its caller");
+        Assert.assertEquals(resilience.getCircuitState("GET", BOOK_URL), CircuitBreaker.OPEN, "Failed trial reopens");
+        Assert.assertEquals(resilience.getStats("GET", BOOK_URL).getCircuitsOpened(), 2, "Opened twice");
+
+        logSuccess("Straggler test passed");
+    }
+
+    @Test(priority = 4, description = "A GET slower than the latency percentile is hedged and the fast answer wins")
+    public void testHedgedGet() {
+        logSection(TEST_CLASS_NAME + " - Hedged GET");
+
+        logStep(1, "Recording 100 requests of about 10 ms for the endpoint");
+        LatencyRecorder latencies = new LatencyRecorder();
+        for (int i = 0; i < 100; i++) {
+            latencies.onResponse("GET", BOOK_URL, 200, 10_000_000L + i * 10_000L);
+        }
+        RequestResilience resilience = new RequestResilience(ResiliencePolicy.builder()
+                .hedgePercentile(95)
+                .hedgeMinSamples(50)
+                .hedgeBudget(0.5)
+                .build(), latencies);
+
+        logStep(2, "Sending a GET whose first attempt stalls for 3 seconds");
+        AtomicInteger sent = new AtomicInteger();
+        Supplier<Response> stallingOnce = () -> {
+            if (sent.incrementAndGet() == 1) {
+                sleep(3000);
+            }
+            return response(200);
+        };
+        long start = System.nanoTime();
+        Response response = resilience.execute("GET", BOOK_URL, stallingOnce);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        ResilienceStats stats = resilience.getStats("GET", BOOK_URL);
+        logInfo("Hedged GET answered in {} ms: {}", elapsedMs, stats);
+        Assert.assertEquals(response.getStatusCode(), 200, "The hedge should answer");
+        Assert.assertTrue(elapsedMs < 2000, "The stalled attempt should not be waited for, took " + elapsedMs + " ms");
+        Assert.assertEquals(stats.getHedges(), 1, "One hedge");
+        Assert.assertEquals(stats.getHedgeWins(), 1, "The hedge won");
+
+        logStep(3, "Not hedging a second slow GET beyond the budget, nor a slow POST");
+        Supplier<Response> slow = () -> {
+            sleep(100);
+            return response(200);
+        };
+        Assert.assertEquals(resilience.execute("GET", BOOK_URL, slow).getStatusCode(), 200, "Slow GET answers");
+        Assert.assertEquals(resilience.getStats("GET", BOOK_URL).getHedges(), 1,
+                "One hedge in two requests already uses the 50% budget");
+        Assert.assertEquals(resilience.execute("POST", BOOKS_URL, slow).getStatusCode(), 200, "Slow POST answers");
+        Assert.assertEquals(resilience.getStats("POST", BOOKS_URL).getHedges(), 0, "Only GETs are hedged");
+
+        logSuccess("Hedged GET test passed");
+    }
+
+    // Attempts answering with the statuses in order; -1 throws like a socket timeout
+    private static Supplier<Response> scripted(Integer... statuses) {
+        Queue<Integer> remaining = new ArrayDeque<>(List.of(statuses));
+        return () -> {
+            int status = remaining.remove();
+            if (status < 0) {
+                throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+            }
+            return response(status);
+        };
+    }
+
+    private static Response response(int status) {
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setBody("{}")
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package tests.serialization;
+
+import base.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import config.ApiConfig;
+import io.restassured.response.Response;
+import models.Author;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import utils.AssertionHelper;
+import utils.JsonCodec;
+
+public class JsonCodecTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "JSON Codec Tests";
+
+    @Test(priority = 1, description = "Pooled serialization produces the same JSON as a plain ObjectMapper")
+    public void testPooledSerializationMatchesObjectMapper() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Pooled Serialization");
+
+        logStep(1, "Serializing a book and an author repeatedly through the shared codec");
+        Book book = Book.builder().id(7).title("Pooled Buffers").description("Serialized without copies")
+                .pageCount(120).excerpt("Excerpt").publishDate("2024-02-08T00:00:00").build();
+        Author author = Author.builder().id(3).idBook(7).firstName("Ada").lastName("Lovelace").build();
+        ObjectMapper plainMapper = new ObjectMapper();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(JsonCodec.toBytes(book), plainMapper.writeValueAsBytes(book),
+                    "Book JSON should match a plain ObjectMapper");
+            Assert.assertEquals(JsonCodec.toBytes(author), plainMapper.writeValueAsBytes(author),
+                    "Author JSON should match a plain ObjectMapper");
+        }
+
+        logStep(2, "Verifying writers and readers are built once per type");
+        Assert.assertSame(JsonCodec.writerFor(Book.class), JsonCodec.writerFor(Book.class),
+                "Book writer should be cached");
+        Assert.assertSame(JsonCodec.readerFor(Book.class), JsonCodec.readerFor(Book.class),
+                "Book reader should be cached");
+        Assert.assertEquals(JsonCodec.fromBytes(JsonCodec.toBytes(book), Book.class), book,
+                "Book should survive a round trip");
+        logInfo("Registered Jackson modules: {}", JsonCodec.getRegisteredModules());
+
+        logSuccess("Pooled serialization test passed");
+    }
+
+    @Test(priority = 2, description = "Models posted through the codec come back intact via REST Assured")
+    public void testCreateBookRoundTrip() {
+        logSection(TEST_CLASS_NAME + " - API Round Trip");
+
+        logStep(1, "Creating a book with a codec-serialized body");
+        Book newBook = Book.builder().title("Codec Round Trip").description("Posted from pooled bytes")
+                .pageCount(99).excerpt("Round trip").publishDate("2024-02-08T00:00:00").build();
+        Response response = ApiRequestHelper.postRequest(ApiConfig.getBooksEndpointURL(), newBook);
+        AssertionHelper.assertStatusCode201(response, "Expected HTTP 201 Created status code");
+
+        logStep(2, "Deserializing the response with REST Assured's shared mapper");
+        Book created = response.as(Book.class);
+        Assert.assertEquals(created.getTitle(), newBook.getTitle(), "Title should round-trip");
+        Assert.assertEquals(created.getPageCount(), newBook.getPageCount(), "Page count should round-trip");
+
+        logSuccess("API round trip test passed");
+    }
+}
@@ -0,0 +1,85 @@
+package tests.shard;
+
+import base.BaseTest;
+import listeners.DurationOrderInterceptor;
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+import org.testng.internal.MethodInstance;
+import shard.ShardPlanner;
+import shard.TestDurations;
+import tests.books.BooksEdgeCaseTest;
+import tests.books.BooksHappyPathTest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DurationOrderTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Duration Order Tests";
+
+    @Test(priority = 1, description = "Units are ordered longest first with a stable order for ties")
+    public void testLongestFirstUnitOrder() {
+        logSection(TEST_CLASS_NAME + " - Longest-First Unit Order");
+
+        logStep(1, "Ordering units with known durations, two of them tied");
+        Map<String, Long> units = new LinkedHashMap<>();
+        units.put("c", 4L);
+        units.put("a", 9L);
+        units.put("d", 4L);
+        units.put("b", 1L);
+        List<String> ordered = ShardPlanner.longestFirst(units);
+        logInfo("Order: {}", ordered);
+
+        logStep(2, "Verifying the order");
+        Assert.assertEquals(ordered, List.of("a", "c", "d", "b"), "Longest first, ties by name");
+
+        logSuccess("Longest-first unit order test passed");
+    }
+
+    @Test(priority = 2, description = "Slow suite methods move to the front while dependent classes stay together")
+    public void testSuiteMethodsReordered(ITestContext context) {
+        logSection(TEST_CLASS_NAME + " - Suite Reordering");
+
+        logStep(1, "Recording durations for a few suite methods");
+        TestDurations durations = new TestDurations();
+        durations.record(BooksEdgeCaseTest.class.getName() + ".testResponseTime", 5000);
+        durations.record(BooksHappyPathTest.class.getName() + ".testGetBookById", 3000);
+        durations.record(BooksHappyPathTest.class.getName() + ".testGetAllBooks", 20);
+        durations.record(BooksHappyPathTest.class.getName() + ".testCreateNewBook", 20);
+        durations.record(ShardExecutionTest.class.getName() + ".testLongestFirstBalancing", 10);
+        durations.record(ShardExecutionTest.class.getName() + ".testLocalWorkersRunEveryTestOnce", 10);
+
+        List<IMethodInstance> methods = context.getSuite().getAllMethods().stream()
+                .map(method -> (IMethodInstance) new MethodInstance(method))
+                .toList();
+        logInfo("Suite has {} methods", methods.size());
+
+        logStep(2, "Ordering the suite longest first");
+        List<String> ordered = DurationOrderInterceptor.longestFirst(methods, durations).stream()
+                .map(instance -> TestDurations.keyOf(instance.getMethod()))
+                .toList();
+        logInfo("First methods: {}", ordered.subList(0, Math.min(3, ordered.size())));
+
+        logStep(3, "Verifying the slowest methods come first and nothing was lost");
+        Assert.assertEquals(ordered.size(), methods.size(), "Every method should be kept");
+        Assert.assertEquals(ordered.get(0), BooksEdgeCaseTest.class.getName() + ".testResponseTime");
+        Assert.assertEquals(ordered.get(1), BooksHappyPathTest.class.getName() + ".testGetBookById");
+
+        logStep(4, "Verifying a class with class fixtures moved as one block in its original order");
+        List<String> expected = methods.stream()
+                .map(IMethodInstance::getMethod)
+                .filter(method -> method.getRealClass() == ShardExecutionTest.class)
+                .map(ITestNGMethod::getMethodName)
+                .map(name -> ShardExecutionTest.class.getName() + "." + name)
+                .toList();
+        int first = ordered.indexOf(expected.get(0));
+        Assert.assertEquals(ordered.subList(first, first + expected.size()), expected,
+                "ShardExecutionTest methods should stay contiguous and in order");
+
+        logSuccess("Suite reordering test passed");
+    }
+}
@@ -0,0 +1,186 @@
+package tests.shard;
+
+import base.BaseTest;
+import config.ApiConfig;
+import config.ExecutionConfig;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import server.EmbeddedApiServer;
+import server.InMemoryBookstore;
+import shard.Shard;
+import shard.ShardCoordinator;
+import shard.ShardManifest;
+import shard.ShardPlanner;
+import shard.ShardResultMerger;
+import shard.ShardResults;
+import shard.WorkerResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class ShardExecutionTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Sharded Execution Tests";
+
+    private static final String WORKER_SUITE = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <suite name="Shard Worker Suite">
+                <listeners>
+                    <listener class-name="io.qameta.allure.testng.AllureTestNg"/>
+                    <listener class-name="listeners.ShardInterceptor"/>
+                    <listener class-name="listeners.TestDurationListener"/>
+                    <listener class-name="listeners.LatencyReportListener"/>
+                </listeners>
+                <test name="Happy Paths">
+                    <classes>
+                        <class name="tests.books.BooksHappyPathTest"/>
+                        <class name="tests.authors.AuthorsHappyPathTest"/>
+                    </classes>
+                </test>
+            </suite>
+            """;
+    private static final int WORKER_SUITE_TESTS = 10;
+
+    private Path workDir;
+
+    @AfterClass(alwaysRun = true)
+    public void deleteWorkDir() throws IOException {
+        if (workDir == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(priority = 1, description = "Longest-first planning balances shards by historical duration")
+    public void testLongestFirstBalancing() {
+        logSection(TEST_CLASS_NAME + " - Longest-First Balancing");
+
+        logStep(1, "Planning six units with known durations across three shards");
+        Map<String, Long> units = new LinkedHashMap<>();
+        units.put("a", 2L);
+        units.put("b", 7L);
+        units.put("c", 4L);
+        units.put("d", 6L);
+        units.put("e", 3L);
+        units.put("f", 5L);
+        List<Shard> shards = ShardPlanner.balance(units, 3);
+
+        logStep(2, "Verifying every unit is assigned once and the shards are even");
+        Set<String> assigned = new HashSet<>();
+        for (Shard shard : shards) {
+            logInfo("Shard {}: {} (~{} ms)", shard.getIndex(), shard.getUnits(), shard.getEstimatedMillis());
+            Assert.assertEquals(shard.getEstimatedMillis(), 9, "Every shard should carry 9 ms of work");
+            shard.getUnits().forEach(unit -> Assert.assertTrue(assigned.add(unit), unit + " assigned twice"));
+        }
+        Assert.assertEquals(assigned, units.keySet(), "Every unit should be assigned");
+
+        logSuccess("Longest-first balancing test passed");
+    }
+
+    @Test(priority = 2, description = "A suite split across local worker JVMs runs every test exactly once")
+    public void testLocalWorkersRunEveryTestOnce() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Local Worker Processes");
+        if (ExecutionConfig.isSharded()) {
+            throw new SkipException("Already running as a shard worker; not starting nested workers");
+        }
+
+        logStep(1, "Writing a worker suite with the Books and Authors happy paths");
+        workDir = Files.createTempDirectory("shards");
+        Path suite = Files.writeString(workDir.resolve("testng-worker.xml"), WORKER_SUITE);
+
+        logStep(2, "Running it across two worker JVMs");
+        // Earlier tests leave invalid records on the suite's embedded server, so the workers get a fresh one
+        EmbeddedApiServer server = ApiConfig.EMBEDDED_SERVER ? new EmbeddedApiServer(0,
+                InMemoryBookstore.seeded(ApiConfig.EMBEDDED_BOOK_COUNT, ApiConfig.EMBEDDED_AUTHORS_PER_BOOK)) : null;
+        ShardResults results;
+        try {
+            if (server != null) {
+                server.start();
+            }
+            String baseUrl = server != null ? server.getBaseUrl() : ApiConfig.getBaseUrl();
+            results = new ShardCoordinator(suite, 2, workDir.resolve("workers"), baseUrl)
+                    .run(workDir.resolve("allure-results"));
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+
+        logStep(3, "Verifying the workers split the tests and the results were merged");
+        Assert.assertTrue(results.isSuccessful(), "Both workers should pass:" + results.format());
+        Assert.assertEquals(results.getTotal(), WORKER_SUITE_TESTS, "Every test should run exactly once");
+        for (WorkerResult worker : results.getWorkers()) {
+            Assert.assertTrue(worker.getTotal() > 0, "Shard " + worker.getIndex() + " should run tests");
+        }
+        Assert.assertTrue(results.getAllureFiles() >= WORKER_SUITE_TESTS, "Allure results should be collected");
+        Assert.assertTrue(results.getLatency().containsKey("GET /api/v1/Books"),
+                "Latency histograms should be merged");
+        Assert.assertEquals(results.getDurations().size(), WORKER_SUITE_TESTS,
+                "Every test's duration should be reported");
+
+        logSuccess("Local worker test passed - {} tests across {} workers",
+                results.getTotal(), results.getWorkers().size());
+    }
+
+    @Test(priority = 3, description = "Merging shards that planned differently, overlap or leave gaps fails")
+    public void testMergeRejectsInconsistentShards() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Plan Verification");
+
+        logStep(1, "Writing manifests of two shards that split units a, b and c");
+        Path mergeDir = Files.createTempDirectory("shard-merge");
+        List<Shard> plan = List.of(new Shard(0, List.of("a", "b"), 2), new Shard(1, List.of("c"), 2));
+        List<Path> workers = List.of(mergeDir.resolve("shard-0"), mergeDir.resolve("shard-1"));
+        Path allure = mergeDir.resolve("allure-results");
+        try {
+            writeManifest(workers.get(0), ShardManifest.of(plan, 0, List.of("a", "b")));
+            writeManifest(workers.get(1), ShardManifest.of(plan, 1, List.of("c")));
+            ShardResultMerger.merge(workers, allure);
+
+            logStep(2, "Verifying a unit run by both shards is rejected");
+            writeManifest(workers.get(1), ShardManifest.of(plan, 1, List.of("b", "c")));
+            assertMergeFails(workers, allure, "b ran in shards 0 and 1");
+
+            logStep(3, "Verifying a unit no shard ran is rejected");
+            writeManifest(workers.get(1), ShardManifest.of(plan, 1, List.of()));
+            assertMergeFails(workers, allure, "c was planned for shard 1 but never ran");
+
+            logStep(4, "Verifying shards planned from different durations are rejected");
+            List<Shard> otherPlan = List.of(new Shard(0, List.of("a"), 2), new Shard(1, List.of("b", "c"), 2));
+            writeManifest(workers.get(1), ShardManifest.of(otherPlan, 1, List.of("c")));
+            assertMergeFails(workers, allure, "used plan");
+        } finally {
+            try (Stream<Path> files = Files.walk(mergeDir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        logSuccess("Plan verification test passed");
+    }
+
+    private static void writeManifest(Path workerDir, ShardManifest manifest) throws IOException {
+        manifest.save(workerDir.resolve(ShardResultMerger.LATENCY_DIR).resolve(ShardManifest.FILE_NAME));
+    }
+
+    private static void assertMergeFails(List<Path> workers, Path allure, String problem) {
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class,
+                () -> ShardResultMerger.merge(workers, allure));
+        Assert.assertTrue(failure.getMessage().contains(problem), "Expected '" + problem + "' in: "
+                + failure.getMessage());
+    }
+}
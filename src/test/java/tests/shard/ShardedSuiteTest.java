@@ -0,0 +1,52 @@
+package tests.shard;
+
+import base.BaseTest;
+import config.ApiConfig;
+import config.ExecutionConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import shard.ShardCoordinator;
+import shard.ShardResultMerger;
+import shard.ShardResults;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class ShardedSuiteTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Sharded Suite";
+
+    @Test(description = "Run the suite across worker JVMs, or merge workers that ran on other hosts")
+    public void testSuiteAcrossWorkers() throws Exception {
+        logSection(TEST_CLASS_NAME + " - Coordinator");
+
+        Path allureResults = Path.of(ExecutionConfig.ALLURE_RESULTS_DIR);
+        ShardResults results;
+        if (ExecutionConfig.SHARD_MERGE_DIRS.isBlank()) {
+            logStep(1, "Running {} across {} local workers",
+                    ExecutionConfig.SHARD_SUITE, ExecutionConfig.SHARD_WORKERS);
+            results = new ShardCoordinator(Path.of(ExecutionConfig.SHARD_SUITE), ExecutionConfig.SHARD_WORKERS,
+                    Path.of(ExecutionConfig.SHARD_DIR), ApiConfig.getBaseUrl()).run(allureResults);
+        } else {
+            logStep(1, "Merging worker results from {}", ExecutionConfig.SHARD_MERGE_DIRS);
+            List<Path> workerDirs = Arrays.stream(ExecutionConfig.SHARD_MERGE_DIRS.split(","))
+                    .map(String::trim)
+                    .filter(directory -> !directory.isEmpty())
+                    .map(Path::of)
+                    .toList();
+            results = ShardResultMerger.merge(workerDirs, allureResults);
+            logInfo("Merged shards:{}", results.format());
+        }
+
+        logStep(2, "Publishing merged latency histograms and test durations");
+        ShardResultMerger.publish(results);
+
+        logStep(3, "Verifying every shard passed");
+        Assert.assertTrue(results.getTotal() > 0, "Shards should run tests");
+        Assert.assertTrue(results.isSuccessful(), "Every shard should pass:" + results.format());
+
+        logSuccess("Sharded suite completed - {} tests across {} shards",
+                results.getTotal(), results.getWorkers().size());
+    }
+}
@@ -0,0 +1,120 @@
+package tests.stress;
+
+import base.BaseTest;
+import config.StressConfig;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import stress.AllocationMeter;
+import stress.JsonPayload;
+import stress.PayloadCaseResult;
+import stress.PayloadGenerator;
+import stress.PayloadStressRunner;
+import stress.StressReport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LargePayloadStressTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Large-Payload Stress";
+
+    private final PayloadStressRunner runner =
+            new PayloadStressRunner(StressConfig.REPETITIONS, Duration.ofMillis(StressConfig.TIMEOUT_MS));
+    private final List<PayloadCaseResult> results = new ArrayList<>();
+    private final long start = System.nanoTime();
+
+    @Test(priority = 1, description = "Books and authors with multi-megabyte text fields are created without errors")
+    public void testLargeFields() {
+        logSection(TEST_CLASS_NAME + " - Multi-Megabyte Fields");
+
+        List<JsonPayload> payloads = new ArrayList<>();
+        for (long size : parse(StressConfig.FIELD_SIZES)) {
+            payloads.add(PayloadGenerator.book(size, StressConfig.SEED));
+            payloads.add(PayloadGenerator.author(size, StressConfig.SEED));
+        }
+        logStep(1, "Streaming {} payloads, {} measured requests each", payloads.size(), StressConfig.REPETITIONS);
+        List<PayloadCaseResult> cases = run(payloads);
+
+        logStep(2, "Verifying every record was created from a streamed body");
+        for (PayloadCaseResult result : cases) {
+            Assert.assertEquals(result.getErrors(), 0, result.getName() + " failed: " + result.getFirstError());
+            Assert.assertEquals(result.getSuccesses(), result.getRequests(), result.getName() + " was rejected");
+        }
+        assertStreamed(cases);
+
+        logSuccess("Multi-megabyte field stress passed");
+    }
+
+    @Test(priority = 2, description = "Arrays of thousands of books and authors are read and rejected with 400")
+    public void testHighCardinalityArrays() {
+        logSection(TEST_CLASS_NAME + " - High-Cardinality Arrays");
+
+        List<JsonPayload> payloads = new ArrayList<>();
+        for (long count : parse(StressConfig.ARRAY_COUNTS)) {
+            payloads.add(PayloadGenerator.books((int) count, StressConfig.ARRAY_FIELD_SIZE, StressConfig.SEED));
+            payloads.add(PayloadGenerator.authors((int) count, StressConfig.ARRAY_FIELD_SIZE, StressConfig.SEED));
+        }
+        logStep(1, "Streaming {} array payloads, {} measured requests each", payloads.size(),
+                StressConfig.REPETITIONS);
+        List<PayloadCaseResult> cases = run(payloads);
+
+        // The collection endpoints take one record, so the API answers an array with 400 after reading it
+        logStep(2, "Verifying every array was streamed, read and rejected with 400");
+        for (PayloadCaseResult result : cases) {
+            Assert.assertEquals(result.getErrors(), 0, result.getName() + " failed: " + result.getFirstError());
+            Assert.assertEquals(result.getRejected(), result.getRequests(),
+                    result.getName() + " should be rejected with 400");
+        }
+        assertStreamed(cases);
+
+        logSuccess("High-cardinality array stress passed");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeReport() throws IOException {
+        StressReport report = new StressReport((System.nanoTime() - start) / 1e9, results);
+        report.writeJson(Path.of(StressConfig.REPORT_DIR, "stress-report.json"));
+        logInfo("Stress report:{}", report.format());
+        if (!AllocationMeter.isSupported()) {
+            logInfo("Per-thread allocation is not available in this JVM; allocation figures are zero");
+        }
+    }
+
+    private List<PayloadCaseResult> run(List<JsonPayload> payloads) {
+        List<PayloadCaseResult> cases = new ArrayList<>();
+        for (JsonPayload payload : payloads) {
+            PayloadCaseResult result = runner.run(payload);
+            logInfo("{}: {} ms mean, {} MB/s up, {} MB allocated per request", payload,
+                    String.format("%.1f", result.getMeanMs()), String.format("%.1f", result.getUploadMbPerSecond()),
+                    String.format("%.1f", result.getAllocatedBytesPerRequest() / 1e6));
+            cases.add(result);
+        }
+        results.addAll(cases);
+        return cases;
+    }
+
+    // A client buffering the bodies would hold several copies of each; streaming allocates about one each way
+    private static void assertStreamed(List<PayloadCaseResult> cases) {
+        if (!AllocationMeter.isSupported()) {
+            return;
+        }
+        for (PayloadCaseResult result : cases) {
+            Assert.assertTrue(result.getAllocatedPerPayloadByte() <= StressConfig.MAX_ALLOCATION_PER_BYTE,
+                    String.format("%s allocated %.2f bytes per payload byte, more than %.2f", result.getName(),
+                            result.getAllocatedPerPayloadByte(), StressConfig.MAX_ALLOCATION_PER_BYTE));
+        }
+    }
+
+    private static long[] parse(String sizes) {
+        return Arrays.stream(sizes.split(","))
+                .map(String::trim)
+                .filter(size -> !size.isEmpty())
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+}
@@ -0,0 +1,120 @@
+package tests.stress;
+
+import base.BaseTest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import config.ApiConfig;
+import models.Author;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import stress.AllocationMeter;
+import stress.JsonPayload;
+import stress.PayloadGenerator;
+import utils.ApiRequestHelper;
+import utils.JsonCodec;
+import utils.StreamedResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class PayloadGeneratorTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Stress Payload Tests";
+
+    @Test(priority = 1, description = "Generated payloads are valid Book and Author JSON of the declared size")
+    public void testGeneratedPayloadsParse() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Generated JSON");
+
+        logStep(1, "Generating a book with 100 KB text fields");
+        JsonPayload bookPayload = PayloadGenerator.book(100_000, 7);
+        byte[] bookJson = readAll(bookPayload);
+        Assert.assertEquals(bookJson.length, bookPayload.getLength(), "Declared length should match the bytes");
+        Assert.assertEquals(readAll(bookPayload), bookJson, "Every stream of a payload should be identical");
+        Book book = JsonCodec.mapper().readValue(bookJson, Book.class);
+        Assert.assertEquals(book.getDescription().length(), 100_000, "Description size");
+        Assert.assertEquals(book.getExcerpt().length(), 100_000, "Excerpt size");
+        Assert.assertNotEquals(book.getDescription(), book.getExcerpt(), "Fields should get their own text");
+
+        logStep(2, "Generating an array of 2000 authors");
+        JsonPayload authorsPayload = PayloadGenerator.authors(2000, 64, 7);
+        byte[] authorsJson = readAll(authorsPayload);
+        Assert.assertEquals(authorsJson.length, authorsPayload.getLength(), "Declared length should match the bytes");
+        List<Author> authors = JsonCodec.mapper().readValue(authorsJson, new TypeReference<List<Author>>() {
+        });
+        Set<String> firstNames = authors.stream().map(Author::getFirstName).collect(Collectors.toSet());
+        logInfo("{}: {} authors, {} distinct first names", authorsPayload, authors.size(), firstNames.size());
+        Assert.assertEquals(authors.size(), 2000, "Author count");
+        Assert.assertEquals(firstNames.size(), 2000, "Every author should be distinct");
+        Assert.assertTrue(authors.stream().allMatch(author -> author.getLastName().length() == 64),
+                "Every last name should be 64 characters");
+
+        logSuccess("Generated JSON test passed");
+    }
+
+    @Test(priority = 2, description = "Reading a 32 MB payload allocates almost nothing")
+    public void testGenerationDoesNotBuffer() throws IOException {
+        logSection(TEST_CLASS_NAME + " - Generation Without Buffering");
+
+        logStep(1, "Draining a book with two 16 MB fields through a 64 KB buffer");
+        JsonPayload payload = PayloadGenerator.book(16 << 20, 7);
+        byte[] buffer = new byte[64 * 1024];
+        long before = AllocationMeter.currentThreadAllocatedBytes();
+        long read = 0;
+        try (InputStream in = payload.open()) {
+            for (int count; (count = in.read(buffer)) >= 0; ) {
+                read += count;
+            }
+        }
+        long allocated = AllocationMeter.currentThreadAllocatedBytes() - before;
+        logInfo("{} read with {} bytes allocated", payload, allocated);
+
+        logStep(2, "Verifying the payload was generated, not buffered");
+        Assert.assertEquals(read, payload.getLength(), "Every byte should be read");
+        if (AllocationMeter.isSupported()) {
+            Assert.assertTrue(allocated < 1 << 20, "Generating " + read + " bytes allocated " + allocated);
+        }
+
+        logSuccess("Generation without buffering test passed");
+    }
+
+    @Test(priority = 3, description = "A streamed body is created by the API and a streamed array is rejected")
+    public void testStreamedPost() {
+        logSection(TEST_CLASS_NAME + " - Streamed POST");
+
+        logStep(1, "Streaming a book with 1 MB text fields");
+        String url = ApiConfig.getBooksEndpointURL();
+        JsonPayload book = PayloadGenerator.book(1 << 20, 11);
+        StreamedResponse created = ApiRequestHelper.sendStreamingRequest("POST", url, book.getLength(), book::open,
+                Duration.ofSeconds(30), 64);
+        logInfo("{} answered {} with {} bytes in {} ms", book, created.getStatusCode(), created.getResponseBytes(),
+                created.getDurationNanos() / 1_000_000);
+        Assert.assertEquals(created.getStatusCode(), ApiConfig.HTTP_201_CREATED, "The book should be created");
+        Assert.assertEquals(created.getRequestBytes(), book.getLength(), "The whole body should be sent");
+        Assert.assertTrue(created.getResponseBytes() > 2L << 20, "The created book should be echoed back");
+        Matcher id = Pattern.compile("^\\{\"id\":(\\d+)").matcher(created.getBodyPrefixAsString());
+        Assert.assertTrue(id.find(), "The body prefix should hold the new id: " + created.getBodyPrefixAsString());
+        ApiRequestHelper.deleteRequest(url + "/" + id.group(1));
+
+        logStep(2, "Streaming an array of 2000 books to the single-record endpoint");
+        JsonPayload books = PayloadGenerator.books(2000, 256, 11);
+        StreamedResponse rejected = ApiRequestHelper.sendStreamingRequest("POST", url, books.getLength(),
+                books::open, Duration.ofSeconds(30), 64);
+        logInfo("{} answered {}", books, rejected.getStatusCode());
+        Assert.assertEquals(rejected.getStatusCode(), ApiConfig.HTTP_400_BAD_REQUEST,
+                "An array is not a book and should be rejected, not cut off");
+
+        logSuccess("Streamed POST test passed");
+    }
+
+    private static byte[] readAll(JsonPayload payload) throws IOException {
+        try (InputStream in = payload.open()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package tests.workflow;
+
+import base.BaseTest;
+import config.ApiConfig;
+import models.Author;
+import models.Book;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.ApiRequestHelper;
+import workflow.StepResult;
+import workflow.Workflow;
+import workflow.WorkflowResult;
+
+import java.util.List;
+
+public class WorkflowTest extends BaseTest {
+
+    private static final String TEST_CLASS_NAME = "Workflow Tests";
+
+    @Test(priority = 1, description = "Author and book journey runs its independent branches concurrently")
+    public void testAuthorBookJourney() {
+        logSection(TEST_CLASS_NAME + " - Author And Book Journey");
+
+        logStep(1, "Declaring create author/book -> link -> verify -> delete -> verify gone");
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        String authorsUrl = ApiConfig.getAuthorsEndpointURL();
+        WorkflowResult result = Workflow.named("author-book-journey")
+                .step("createAuthor", context -> ApiRequestHelper.postRequestAsync(authorsUrl, Author.builder()
+                        .firstName("Workflow")
+                        .lastName("Author")
+                        .build()))
+                .step("createBook", context -> ApiRequestHelper.postRequestAsync(booksUrl, book("Workflow Book")))
+                .step("linkAuthor", List.of("createAuthor", "createBook"), context -> {
+                    Author author = context.as("createAuthor", Author.class);
+                    author.setIdBook(context.id("createBook"));
+                    return ApiRequestHelper.putRequestAsync(authorsUrl + "/" + author.getId(), author);
+                })
+                .step("verifyBookAuthors", List.of("linkAuthor"), context -> ApiRequestHelper.getRequestAsync(
+                        authorsUrl + "/authors/books/" + context.as("linkAuthor", Author.class).getIdBook()))
+                .step("verifyAuthor", List.of("linkAuthor"), context ->
+                        ApiRequestHelper.getRequestAsync(authorsUrl + "/" + context.id("linkAuthor")))
+                .step("deleteAuthor", List.of("createAuthor", "verifyBookAuthors", "verifyAuthor"), context ->
+                        ApiRequestHelper.deleteRequestAsync(authorsUrl + "/" + context.id("createAuthor")))
+                .step("deleteBook", List.of("createBook", "verifyBookAuthors"), context ->
+                        ApiRequestHelper.deleteRequestAsync(booksUrl + "/" + context.id("createBook")))
+                .step("verifyBookGone", List.of("createBook", "deleteBook"), ApiConfig.HTTP_404_NOT_FOUND, context ->
+                        ApiRequestHelper.getRequestAsync(booksUrl + "/" + context.id("createBook")))
+                .run();
+        logInfo("Journey:{}", result.format());
+
+        logStep(2, "Verifying every step passed and the link is visible");
+        Assert.assertTrue(result.isSuccessful(), "Every step should pass, failures: " + result.getFailures());
+        List<Author> bookAuthors = List.of(result.getStep("verifyBookAuthors").getResponse().as(Author[].class));
+        int authorId = result.getStep("createAuthor").getResponse().as(Author.class).getId();
+        Assert.assertTrue(bookAuthors.stream().anyMatch(author -> author.getId() == authorId),
+                "The linked author should be listed for the book: " + bookAuthors);
+
+        logStep(3, "Verifying each step started only after its dependencies finished");
+        for (StepResult step : result.getSteps()) {
+            for (String dependency : step.getDependencies()) {
+                Assert.assertTrue(step.getStartOffsetNanos() >= result.getStep(dependency).getEndOffsetNanos(),
+                        step.getName() + " started before " + dependency + " finished");
+            }
+        }
+        List<String> criticalPath = result.getCriticalPath();
+        Assert.assertTrue(List.of("deleteAuthor", "verifyBookGone").contains(criticalPath.get(criticalPath.size() - 1)),
+                "The critical path should end at a final step: " + criticalPath);
+        Assert.assertTrue(criticalPath.contains("linkAuthor"), "Linking is on every path to the end");
+        Assert.assertTrue(result.getCriticalPathNanos() <= result.getSerialNanos(),
+                "The critical path cannot be longer than the serial chain");
+
+        logSuccess("Author and book journey test passed");
+    }
+
+    @Test(priority = 2, description = "A failed step skips its dependents but not independent branches")
+    public void testFailureSkipsDependents() {
+        logSection(TEST_CLASS_NAME + " - Failure Propagation");
+
+        logStep(1, "Running a workflow whose first branch reads a missing book");
+        String booksUrl = ApiConfig.getBooksEndpointURL();
+        WorkflowResult result = Workflow.named("failing-branch")
+                .step("readMissing", context -> ApiRequestHelper.getRequestAsync(booksUrl + "/999999999"))
+                .step("updateMissing", List.of("readMissing"), context ->
+                        ApiRequestHelper.putRequestAsync(booksUrl + "/" + context.id("readMissing"), book("Never")))
+                .step("listBooks", context -> ApiRequestHelper.getRequestAsync(booksUrl))
+                .step("undeclaredRead", List.of("listBooks"), context ->
+                        ApiRequestHelper.getRequestAsync(booksUrl + "/" + context.id("readMissing")))
+                .run();
+        logInfo("Failing workflow:{}", result.format());
+
+        logStep(2, "Verifying the step statuses");
+        Assert.assertFalse(result.isSuccessful(), "The workflow should fail");
+        Assert.assertEquals(result.getStep("readMissing").getStatus(), StepResult.FAILED, "404 fails the step");
+        Assert.assertEquals(result.getStep("readMissing").getStatusCode(), ApiConfig.HTTP_404_NOT_FOUND,
+                "Status code is kept");
+        Assert.assertEquals(result.getStep("updateMissing").getStatus(), StepResult.SKIPPED,
+                "The dependent step should be skipped");
+        Assert.assertEquals(result.getStep("listBooks").getStatus(), StepResult.PASSED,
+                "The independent branch should still run");
+        StepResult undeclared = result.getStep("undeclaredRead");
+        Assert.assertEquals(undeclared.getStatus(), StepResult.FAILED, "Reading an undeclared step fails");
+        Assert.assertTrue(undeclared.getFailure().contains("without depending on it"), undeclared.getFailure());
+
+        logStep(3, "Verifying unknown dependencies are rejected when declared");
+        Assert.assertThrows(IllegalArgumentException.class, () -> Workflow.named("invalid")
+                .step("verify", List.of("create"), context -> ApiRequestHelper.getRequestAsync(booksUrl)));
+
+        logSuccess("Failure propagation test passed");
+    }
+
+    private static Book book(String title) {
+        return Book.builder()
+                .title(title)
+                .description("Created by a workflow")
+                .pageCount(200)
+                .excerpt("Workflow")
+                .publishDate("2024-02-08T00:00:00")
+                .build();
+    }
+}
@@ -1,75 +1,405 @@
 package utils;
 
+import config.ApiConfig;
+import config.FixtureConfig;
+import config.LoggingConfig;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import fixtures.FixtureRegistry;
+import metrics.LatencyRecorder;
+import metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import replay.Cassette;
+import replay.CassetteFilter;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 public class ApiRequestHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiRequestHelper.class);
 
+    private static final PooledHttpClientFactory HTTP_CLIENT_FACTORY = new PooledHttpClientFactory();
+
+    // Set in record and replay mode (-Dapi.cassette.mode); replayed requests never reach the network
+    private static final Cassette CASSETTE = openCassette(ApiConfig.CASSETTE_MODE);
+
+    private static final AsyncHttpTransport ASYNC_TRANSPORT = new AsyncHttpTransport(CASSETTE);
+
+    private static final ResponseCache RESPONSE_CACHE = ApiConfig.RESPONSE_CACHE_ENABLED
+            ? new ResponseCache(ApiConfig.RESPONSE_CACHE_TTL, ApiConfig.RESPONSE_CACHE_MAX_ENTRIES)
+            : null;
+
+    private static final AtomicLong loggedResponses = new AtomicLong();
+
+    // Retries, hedging and circuit breakers, all off unless configured (-Dapi.retry.*, -Dapi.hedge.*, -Dapi.breaker.*)
+    private static final RequestResilience RESILIENCE =
+            new RequestResilience(ResiliencePolicy.fromConfig(), LatencyRecorder.getInstance());
+
+    // Every request's latency is recorded per endpoint so tests can assert on percentiles, not single samples
+    private static final List<RequestListener> listeners =
+            new CopyOnWriteArrayList<>(List.of(LatencyRecorder.getInstance(), MetricsRegistry.getInstance(),
+                    FixtureRegistry.getInstance()));
+
+    // One client instance (and therefore one connection pool) for every request, with the configured timeouts
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(HTTP_CLIENT_FACTORY)
+                    .reuseHttpClientInstance()
+                    .setParam("http.connection.timeout", (int) ApiConfig.CONNECTION_TIMEOUT)
+                    .setParam("http.socket.timeout", (int) ApiConfig.REQUEST_TIMEOUT)
+                    .setParam("http.conn-manager.timeout", ApiConfig.CONNECTION_TIMEOUT))
+            // REST Assured's default factory builds and configures a new ObjectMapper for every response.as(...)
+            .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                    .jackson2ObjectMapperFactory((type, charset) -> JsonCodec.mapper()));
+
+    // Shared, read-only template. RestAssured.given() returns a new specification per call, so each
+    // request gets its own thread-confined copy and the helpers are safe to use from parallel tests.
+    private static final RequestSpecification BASE_SPEC = buildBaseSpec();
+
     public static RequestSpecification getRequestSpec() {
         return RestAssured
                 .given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
+                .spec(BASE_SPEC);
     }
 
     public static Response getRequest(String url) {
-        logger.info("Making GET request to: {}", url);
-        return getRequestSpec()
+        logRequest("Making GET request to: {}", url);
+        if (RESPONSE_CACHE != null) {
+            return RESPONSE_CACHE.get(url, etag -> getConditionalRequest(url, etag));
+        }
+        return execute("GET", url, null, () -> getRequestSpec()
                 .when()
-                .get(url);
+                .get(url));
+    }
+
+    /**
+     * GET whose body is left unread on the connection, for reading large collections with {@link JsonArrayStream}.
+     * The connection stays leased until that stream (or {@code response.asInputStream()}) is closed, and the
+     * recorded latency is the time to the response headers. With the response cache enabled the body is
+     * buffered once and served from the cache instead. The body is not read here, so streaming GETs are never
+     * retried or hedged.
+     */
+    public static Response getStreamingRequest(String url) {
+        if (RESPONSE_CACHE != null) {
+            return getRequest(url);
+        }
+        logRequest("Making streaming GET request to: {}", url);
+        notifyRequestStart("GET", url);
+        long startTime = System.nanoTime();
+        try {
+            Response response = getRequestSpec()
+                    .when()
+                    .get(url);
+            notifyListeners("GET", url, response.getStatusCode(), System.nanoTime() - startTime, 0, -1);
+            return response;
+        } catch (Exception e) {
+            notifyListeners("GET", url, RequestListener.TRANSPORT_ERROR, System.nanoTime() - startTime, 0, 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a request body too large to buffer, such as a generated multi-megabyte payload, reading it from
+     * {@code body} while it is written. The response body is read and discarded; only its size and first
+     * {@code prefixBytes} are returned. Streamed requests are not retried or hedged, since the body cannot be
+     * replayed, and cannot be recorded to a cassette.
+     */
+    public static StreamedResponse sendStreamingRequest(String method, String url, long contentLength,
+                                                        Supplier<InputStream> body, Duration timeout,
+                                                        int prefixBytes) {
+        if (contentLength <= 0) {
+            throw new IllegalArgumentException("contentLength must be positive: " + contentLength);
+        }
+        if (prefixBytes < 0) {
+            throw new IllegalArgumentException("prefixBytes must not be negative: " + prefixBytes);
+        }
+        logRequest("Making streaming {} request to: {}", method, url);
+        notifyRequestStart(method, url);
+        AtomicLong sent = new AtomicLong();
+        long startTime = System.nanoTime();
+        try {
+            StreamedResponse response = ASYNC_TRANSPORT.sendStreaming(method, url, body, contentLength, timeout,
+                    prefixBytes, sent);
+            notifyListeners(method, url, response.getStatusCode(), response.getDurationNanos(),
+                    response.getRequestBytes(), response.getResponseBytes());
+            return response;
+        } catch (RuntimeException e) {
+            notifyListeners(method, url, RequestListener.TRANSPORT_ERROR, System.nanoTime() - startTime,
+                    sent.get(), 0);
+            throw e;
+        } finally {
+            if (RESPONSE_CACHE != null && !"GET".equals(method)) {
+                RESPONSE_CACHE.invalidate(url);
+            }
+        }
+    }
+
+    /**
+     * GET with {@code If-None-Match: etag}, answered with 304 and no body when the resource is unchanged.
+     * Sent unconditionally when {@code etag} is {@code null}.
+     */
+    public static Response getConditionalRequest(String url, String etag) {
+        // The specification is built per attempt, since a hedged attempt runs concurrently with the first one
+        return execute("GET", url, null, () -> {
+            RequestSpecification spec = getRequestSpec();
+            if (etag != null) {
+                spec.header("If-None-Match", etag);
+            }
+            return spec
+                    .when()
+                    .get(url);
+        });
     }
 
     public static Response getRequestWithParam(String url, String pathParam, String paramValue) {
-        logger.info("Making GET request to: {} with param {}={}", url, pathParam, paramValue);
-        return getRequestSpec()
+        if (isRequestLoggingEnabled()) {
+            logger.info("Making GET request to: {} with param {}={}", url, pathParam, paramValue);
+        }
+        return execute("GET", url, null, () -> getRequestSpec()
                 .pathParam(pathParam, paramValue)
                 .when()
-                .get(url);
+                .get(url));
     }
 
     public static Response postRequest(String url, Object body) {
-        logger.info("Making POST request to: {} with body", url);
-        return getRequestSpec()
-                .body(body)
+        logRequest("Making POST request to: {} with body", url);
+        byte[] payload = RequestBodies.serialize(body);
+        return trackCreated(url, execute("POST", url, payload, () -> getRequestSpec()
+                .body(payload)
                 .when()
-                .post(url);
+                .post(url)));
     }
 
     public static Response putRequest(String url, Object body) {
-        logger.info("Making PUT request to: {} with body", url);
-        return getRequestSpec()
-                .body(body)
+        logRequest("Making PUT request to: {} with body", url);
+        byte[] payload = RequestBodies.serialize(body);
+        return execute("PUT", url, payload, () -> getRequestSpec()
+                .body(payload)
                 .when()
-                .put(url);
+                .put(url));
     }
 
     public static Response deleteRequest(String url) {
-        logger.info("Making DELETE request to: {}", url);
-        return getRequestSpec()
+        logRequest("Making DELETE request to: {}", url);
+        return execute("DELETE", url, null, () -> getRequestSpec()
                 .when()
-                .delete(url);
+                .delete(url));
     }
 
     public static Response patchRequest(String url, Object body) {
-        logger.info("Making PATCH request to: {} with body", url);
-        return getRequestSpec()
-                .body(body)
+        logRequest("Making PATCH request to: {} with body", url);
+        byte[] payload = RequestBodies.serialize(body);
+        return execute("PATCH", url, payload, () -> getRequestSpec()
+                .body(payload)
                 .when()
-                .patch(url);
+                .patch(url));
+    }
+
+    public static CompletableFuture<Response> getRequestAsync(String url) {
+        logRequest("Making async GET request to: {}", url);
+        return executeAsync("GET", url, null);
+    }
+
+    public static CompletableFuture<Response> postRequestAsync(String url, Object body) {
+        logRequest("Making async POST request to: {} with body", url);
+        return executeAsync("POST", url, body).thenApply(response -> trackCreated(url, response));
+    }
+
+    public static CompletableFuture<Response> putRequestAsync(String url, Object body) {
+        logRequest("Making async PUT request to: {} with body", url);
+        return executeAsync("PUT", url, body);
+    }
+
+    public static CompletableFuture<Response> deleteRequestAsync(String url) {
+        logRequest("Making async DELETE request to: {}", url);
+        return executeAsync("DELETE", url, null);
+    }
+
+    public static CompletableFuture<Response> patchRequestAsync(String url, Object body) {
+        logRequest("Making async PATCH request to: {} with body", url);
+        return executeAsync("PATCH", url, body);
+    }
+
+    public static void addRequestListener(RequestListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeRequestListener(RequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Makes the request with the configured retries, hedging and circuit breaker
+    private static Response execute(String method, String url, byte[] payload, Supplier<Response> call) {
+        return RESILIENCE.execute(method, url, () -> attempt(method, url, payload, call));
     }
 
+    // Times one attempt, reads the body so the keep-alive connection goes back to the pool even when the
+    // caller only inspects the status code, and notifies the registered listeners. Writes invalidate the
+    // cached GETs of the same resource. Exception is caught because REST Assured rethrows checked I/O
+    // exceptions undeclared.
+    private static Response attempt(String method, String url, byte[] payload, Supplier<Response> call) {
+        notifyRequestStart(method, url);
+        long startTime = System.nanoTime();
+        try {
+            Response response = call.get();
+            byte[] body = response.asByteArray();
+            notifyListeners(method, url, response.getStatusCode(), System.nanoTime() - startTime,
+                    RequestBodies.sizeOf(payload), body.length);
+            return response;
+        } catch (Exception e) {
+            notifyListeners(method, url, RequestListener.TRANSPORT_ERROR, System.nanoTime() - startTime,
+                    RequestBodies.sizeOf(payload), 0);
+            throw e;
+        } finally {
+            if (RESPONSE_CACHE != null && !"GET".equals(method)) {
+                RESPONSE_CACHE.invalidate(url);
+            }
+        }
+    }
+
+    // Async counterpart of execute(). Async GETs bypass the response cache.
+    private static CompletableFuture<Response> executeAsync(String method, String url, Object body) {
+        byte[] payload = RequestBodies.serialize(body);
+        return RESILIENCE.executeAsync(method, url, () -> attemptAsync(method, url, payload));
+    }
+
+    // The body is already buffered by the transport, so only timing, listeners and cache invalidation remain
+    private static CompletableFuture<Response> attemptAsync(String method, String url, byte[] payload) {
+        notifyRequestStart(method, url);
+        long startTime = System.nanoTime();
+        return ASYNC_TRANSPORT.send(method, url, payload).whenComplete((response, failure) -> {
+            long durationNanos = System.nanoTime() - startTime;
+            if (failure == null) {
+                notifyListeners(method, url, response.getStatusCode(), durationNanos, RequestBodies.sizeOf(payload),
+                        response.asByteArray().length);
+            } else {
+                notifyListeners(method, url, RequestListener.TRANSPORT_ERROR, durationNanos,
+                        RequestBodies.sizeOf(payload), 0);
+            }
+            if (RESPONSE_CACHE != null && !"GET".equals(method)) {
+                RESPONSE_CACHE.invalidate(url);
+            }
+        });
+    }
+
+    // Registers created records so whatever a test leaves behind is deleted at the end of the suite
+    private static Response trackCreated(String collectionUrl, Response response) {
+        if (FixtureConfig.CLEANUP) {
+            FixtureRegistry.getInstance().recordCreated(collectionUrl, response);
+        }
+        return response;
+    }
+
+    private static void notifyRequestStart(String method, String url) {
+        for (RequestListener listener : listeners) {
+            listener.onRequestStart(method, url);
+        }
+    }
+
+    private static void notifyListeners(String method, String url, int statusCode, long durationNanos,
+                                        long requestBytes, long responseBytes) {
+        for (RequestListener listener : listeners) {
+            listener.onResponse(method, url, statusCode, durationNanos);
+            listener.onBodySizes(method, url, requestBytes, responseBytes);
+        }
+    }
+
+    /**
+     * The cassette being recorded or replayed, or {@code null} unless {@code -Dapi.cassette.mode} is set.
+     */
+    public static Cassette getCassette() {
+        return CASSETTE;
+    }
+
+    /**
+     * The GET response cache, or {@code null} unless {@code -Dapi.cache.enabled=true}.
+     */
+    public static ResponseCache getResponseCache() {
+        return RESPONSE_CACHE;
+    }
+
+    public static RequestResilience getResilience() {
+        return RESILIENCE;
+    }
+
+    public static ConnectionPoolStats getConnectionPoolStats() {
+        return HTTP_CLIENT_FACTORY.getStats();
+    }
+
+    /**
+     * Logs the status and a sample of the body: only every {@code log.body.sampleEvery}-th call logs a body, cut to
+     * {@code log.body.maxBytes}, so logging a large collection never copies the whole payload into a String.
+     */
     public static void logResponse(Response response) {
+        if (!isRequestLoggingEnabled()) {
+            return;
+        }
         logger.info("Response Status Code: {}", response.getStatusCode());
-        logger.info("Response Body: {}", response.getBody().asString());
+        int sampleEvery = LoggingConfig.BODY_SAMPLE_EVERY;
+        if (sampleEvery <= 0 || loggedResponses.getAndIncrement() % sampleEvery != 0) {
+            return;
+        }
+        byte[] body = response.asByteArray();
+        if (body.length <= LoggingConfig.BODY_MAX_BYTES) {
+            logger.info("Response Body: {}", new String(body, StandardCharsets.UTF_8));
+        } else {
+            logger.info("Response Body (first {} of {} bytes): {}", LoggingConfig.BODY_MAX_BYTES, body.length,
+                    new String(body, 0, LoggingConfig.BODY_MAX_BYTES, StandardCharsets.UTF_8));
+        }
     }
 
     public static void prettyPrintResponse(Response response) {
         response.prettyPrint();
     }
-}
 
+    private static RequestSpecification buildBaseSpec() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(CONFIG)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Accept", "application/json");
+        if (CASSETTE != null) {
+            builder.addFilter(new CassetteFilter(CASSETTE));
+        }
+        return builder.build();
+    }
+
+    private static Cassette openCassette(String mode) {
+        return switch (mode) {
+            case "off" -> null;
+            case "record" -> Cassette.record(Path.of(ApiConfig.CASSETTE_DIR));
+            case "replay" -> Cassette.replay(Path.of(ApiConfig.CASSETTE_DIR));
+            default -> throw new IllegalArgumentException(
+                    "Unknown api.cassette.mode: " + mode + " (off, record or replay)");
+        };
+    }
+
+    private static boolean isRequestLoggingEnabled() {
+        return !LoggingConfig.QUIET && logger.isInfoEnabled();
+    }
+
+    private static void logRequest(String format, String url) {
+        if (isRequestLoggingEnabled()) {
+            logger.info(format, url);
+        }
+    }
+
+    private static void logRequest(String format, String method, String url) {
+        if (isRequestLoggingEnabled()) {
+            logger.info(format, method, url);
+        }
+    }
+}
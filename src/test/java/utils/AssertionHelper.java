@@ -1,10 +1,17 @@
 package utils;
 
+import baseline.EndpointComparison;
+import baseline.RegressionReport;
 import io.restassured.response.Response;
+import metrics.LatencyHistogram;
+import metrics.LatencyRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
 public class AssertionHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(AssertionHelper.class);
@@ -54,11 +61,62 @@ public class AssertionHelper {
         logger.info("✓ Header '{}' has value '{}'", headerName, expectedValue);
     }
 
+    /**
+     * @deprecated a single sample says little about latency; use
+     * {@link #assertLatencyPercentile(String, String, double, long, String)} instead.
+     */
+    @Deprecated
     public static void assertResponseTime(Response response, long maxTimeMs, String message) {
         long responseTime = response.getTime();
         Assert.assertTrue(responseTime < maxTimeMs,
             message + " - Expected < " + maxTimeMs + "ms but got " + responseTime + "ms");
         logger.info("✓ Response time {} ms is within limit of {} ms", responseTime, maxTimeMs);
     }
-}
 
+    /**
+     * Asserts that the given percentile of every request recorded so far for the method and endpoint
+     * (a full URL or a path such as {@code ApiConfig.BOOKS_ENDPOINT}) is below the limit.
+     */
+    public static void assertLatencyPercentile(String method, String endpoint, double percentile, long maxTimeMs,
+                                               String message) {
+        LatencyHistogram histogram = LatencyRecorder.getInstance().getHistogram(method, endpoint);
+        Assert.assertTrue(histogram.getTotalCount() > 0,
+            message + " - No requests recorded for " + method + " " + endpoint);
+        assertLatencyPercentile(histogram, percentile, maxTimeMs, message);
+    }
+
+    /**
+     * Asserts that the given percentile of the latencies in the histogram, e.g. those a test measured itself, is
+     * below the limit.
+     */
+    public static void assertLatencyPercentile(LatencyHistogram histogram, double percentile, long maxTimeMs,
+                                               String message) {
+        Assert.assertTrue(histogram.getTotalCount() > 0, message + " - No latencies recorded");
+        double latency = histogram.getValueAtPercentileMillis(percentile);
+        Assert.assertTrue(latency < maxTimeMs,
+            message + " - Expected p" + percentile + " < " + maxTimeMs + "ms but got " + latency + "ms");
+        logger.info("✓ p{} latency {} ms over {} requests is within limit of {} ms",
+            percentile, latency, histogram.getTotalCount(), maxTimeMs);
+    }
+
+    /**
+     * Asserts that no endpoint of the run is significantly slower than its stored baseline.
+     */
+    public static void assertNoLatencyRegression(RegressionReport report, String message) {
+        Assert.assertTrue(report.isPassed(), message + " - " + report.getRegressions().stream()
+            .map(EndpointComparison::describe)
+            .collect(Collectors.joining("; ")));
+        logger.info("✓ No latency regression against {} baseline runs of '{}'", report.getBaselineRuns(),
+            report.getBaselineName());
+    }
+
+    /**
+     * Status code check as a pipeline stage, e.g. {@code postRequestAsync(url, book).thenApply(expectStatusCode(201, "..."))}.
+     */
+    public static UnaryOperator<Response> expectStatusCode(int expectedStatusCode, String message) {
+        return response -> {
+            assertStatusCode(response, expectedStatusCode, message);
+            return response;
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package utils;
+
+import config.ApiConfig;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import replay.Cassette;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking transport behind the {@code *Async} methods of {@link ApiRequestHelper}.
+ *
+ * Requests go through one shared JDK {@link HttpClient}, whose selector thread multiplexes every in-flight
+ * exchange, so waiting on a response holds no thread. Responses are adapted to REST Assured {@link Response}s
+ * so the usual {@link AssertionHelper} checks, {@code jsonPath()} and {@code as()} work on them unchanged. In
+ * record and replay mode exchanges go through the same {@link Cassette} as the synchronous requests.
+ *
+ * The same client also streams request bodies too large to buffer, see {@link #sendStreaming}.
+ */
+final class AsyncHttpTransport {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(ApiConfig.CONNECTION_TIMEOUT))
+            .build();
+
+    private final Cassette cassette;
+
+    AsyncHttpTransport(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    CompletableFuture<Response> send(String method, String url, byte[] payload) {
+        if (cassette != null && !cassette.isRecording()) {
+            try {
+                return CompletableFuture.completedFuture(cassette.replay(method, url, payload));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(ApiConfig.REQUEST_TIMEOUT))
+                .header("Content-Type", ApiConfig.CONTENT_TYPE_JSON)
+                .header("Accept", ApiConfig.CONTENT_TYPE_JSON)
+                .method(method, payload == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+        CompletableFuture<Response> response = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(AsyncHttpTransport::toRestAssuredResponse);
+        return cassette == null
+                ? response
+                : response.thenApply(recorded -> cassette.record(method, url, payload, recorded));
+    }
+
+    /**
+     * Sends a body of {@code contentLength} bytes read from the stream as it is written to the socket, and reads
+     * the response body into one reused buffer, keeping only its first {@code prefixBytes}. Neither body is ever
+     * held in memory as a whole. Blocks until the response body has been read. {@code sent} counts the request
+     * bytes written so far, so a caller can still tell how much went out when the exchange fails.
+     */
+    StreamedResponse sendStreaming(String method, String url, Supplier<InputStream> body, long contentLength,
+                                   Duration timeout, int prefixBytes, AtomicLong sent) {
+        if (cassette != null) {
+            throw new IllegalStateException("Streamed request bodies cannot be recorded or replayed: " + url);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", ApiConfig.CONTENT_TYPE_JSON)
+                .header("Accept", ApiConfig.CONTENT_TYPE_JSON)
+                .method(method, HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> counting(body.get(), sent)), contentLength))
+                .build();
+        long startTime = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            byte[] prefix = new byte[prefixBytes];
+            int prefixLength = 0;
+            long received = 0;
+            try (InputStream in = response.body()) {
+                byte[] buffer = new byte[64 * 1024];
+                for (int read; (read = in.read(buffer)) >= 0; received += read) {
+                    int copied = Math.min(read, prefixBytes - prefixLength);
+                    System.arraycopy(buffer, 0, prefix, prefixLength, copied);
+                    prefixLength += copied;
+                }
+            }
+            return new StreamedResponse(response.statusCode(), sent.get(), received, System.nanoTime() - startTime,
+                    Arrays.copyOf(prefix, prefixLength));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Streamed " + method + " " + url + " failed after " + sent.get()
+                    + " request bytes", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while streaming " + method + " " + url, e);
+        }
+    }
+
+    // Counts the bytes the client actually read from the request body
+    private static InputStream counting(InputStream in, AtomicLong count) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    count.addAndGet(read);
+                }
+                return read;
+            }
+        };
+    }
+
+    private static Response toRestAssuredResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine("HTTP/1.1 " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+}
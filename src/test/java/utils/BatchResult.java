@@ -0,0 +1,55 @@
+package utils;
+
+import io.restassured.response.Response;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregated outcome of a fan-out issued by {@link ConcurrentRequestExecutor}, in input order.
+ */
+@Value
+public class BatchResult<T> {
+
+    List<RequestOutcome<T>> outcomes;
+    long elapsedNanos;
+
+    public int size() {
+        return outcomes.size();
+    }
+
+    public long getSuccessCount() {
+        return outcomes.stream().filter(RequestOutcome::isSuccessful).count();
+    }
+
+    public List<RequestOutcome<T>> getFailures() {
+        return outcomes.stream().filter(outcome -> !outcome.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public List<Response> getResponses() {
+        return outcomes.stream()
+                .map(RequestOutcome::getResponse)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Keyed by HTTP status; transport failures are counted under RequestListener.TRANSPORT_ERROR
+    public Map<Integer, Long> getStatusCounts() {
+        return outcomes.stream()
+                .collect(Collectors.groupingBy(RequestOutcome::getStatusCode, TreeMap::new, Collectors.counting()));
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : outcomes.size() / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests in %.1f ms (%.1f req/s), %d successful, status counts %s",
+                outcomes.size(), elapsedNanos / 1e6, getThroughput(), getSuccessCount(), getStatusCounts());
+    }
+}
@@ -0,0 +1,118 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker of one endpoint.
+ *
+ * Closed, it lets every request through. After {@code failureThreshold} failures in a row it opens and refuses
+ * requests for the open time, then goes half-open and lets a single trial request through: its success closes the
+ * circuit again and its failure reopens it. A threshold of 0 keeps the circuit closed.
+ *
+ * Every state change starts a new generation, and each permit carries the generation it was issued in. Only
+ * outcomes of the current generation count, so a request let through before the circuit opened cannot close it
+ * when it finally succeeds, and only the trial can end a half-open circuit.
+ */
+public class CircuitBreaker {
+
+    public static final String CLOSED = "closed";
+    public static final String OPEN = "open";
+    public static final String HALF_OPEN = "half-open";
+
+    /**
+     * Returned by {@link #tryAcquire()} when the request may not be sent.
+     */
+    public static final long REFUSED = -1;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private String state = CLOSED;
+    private long generation;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock source of {@link System#nanoTime()}-like readings the open time is measured with
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns a permit to send a request now, or {@link #REFUSED}. Every permit must be handed back to
+     * {@link #onSuccess(long)} or {@link #onFailure(long)}.
+     */
+    public synchronized long tryAcquire() {
+        switch (state) {
+            case OPEN -> {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return REFUSED;
+                }
+                moveTo(HALF_OPEN);
+                trialInFlight = true;
+                return generation;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    return REFUSED;
+                }
+                trialInFlight = true;
+                return generation;
+            }
+            default -> {
+                return generation;
+            }
+        }
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (!CLOSED.equals(state)) {
+            moveTo(CLOSED);
+        }
+    }
+
+    /**
+     * Records a failure and returns whether it opened the circuit.
+     */
+    public synchronized boolean onFailure(long permit) {
+        if (permit != generation) {
+            return false;
+        }
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (failureThreshold <= 0 || (CLOSED.equals(state) && consecutiveFailures < failureThreshold)) {
+            return false;
+        }
+        moveTo(OPEN);
+        openedAt = nanoClock.getAsLong();
+        return true;
+    }
+
+    public synchronized String getState() {
+        return state;
+    }
+
+    public synchronized boolean isClosed() {
+        return CLOSED.equals(state);
+    }
+
+    private void moveTo(String next) {
+        state = next;
+        generation++;
+    }
+}
@@ -0,0 +1,13 @@
+package utils;
+
+/**
+ * Thrown instead of sending a request while the circuit breaker of its endpoint is open.
+ */
+public class CircuitOpenException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String endpoint) {
+        super("Circuit breaker is open for " + endpoint);
+    }
+}
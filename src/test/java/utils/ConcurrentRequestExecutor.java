@@ -0,0 +1,179 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import config.ApiConfig;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fans requests made through {@link ApiRequestHelper} out on virtual threads, with a semaphore capping how many
+ * are in flight at once.
+ *
+ * One virtual thread is started per input, so thousands of requests cost little more than their sockets.
+ * {@link #fanOutAsync} and the helpers built on it send through the JDK HttpClient, whose virtual threads park
+ * while waiting, so only {@code maxConcurrency} limits them. {@link #fanOut} runs blocking REST Assured requests
+ * instead: Apache HttpClient blocks in {@code synchronized} code, which pins the carrier thread, so all blocking
+ * fan-outs together never run more requests than there are carriers. Otherwise requests pinned while waiting for
+ * a pooled connection could occupy every carrier and starve the ones holding the connections until the pool
+ * timeout. The scheduler's size can only be set at JVM start, with {@code -Djdk.virtualThreadScheduler.parallelism}
+ * (surefire passes {@code ${virtualThreadParallelism}}); without it the JDK uses one carrier per CPU.
+ */
+public class ConcurrentRequestExecutor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentRequestExecutor.class);
+
+    // The scheduler reads the property once, when the first virtual thread starts, so only a value given on the
+    // command line is sure to be in effect
+    private static final int CARRIERS = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+            Runtime.getRuntime().availableProcessors());
+
+    // Shared by every executor, so concurrent blocking fan-outs from parallel tests cannot pin more carriers than exist
+    private static final Semaphore carrierPermits = new Semaphore(CARRIERS);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final AtomicBoolean carrierCapReported = new AtomicBoolean();
+
+    public ConcurrentRequestExecutor() {
+        this(ApiConfig.MAX_CONCURRENT_REQUESTS);
+    }
+
+    public ConcurrentRequestExecutor(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Issues one blocking request per input concurrently and waits for all of them. Failures are captured per input
+     * rather than aborting the batch. At most one request per carrier thread runs at once, whatever the cap.
+     */
+    public <T> BatchResult<T> fanOut(Collection<T> inputs, Function<T, Response> request) {
+        if (maxConcurrency > CARRIERS && carrierCapReported.compareAndSet(false, true)) {
+            logger.warn("Blocking fan-outs pin a carrier per request, so only {} of the {} allowed requests run at "
+                    + "once; use fanOutAsync or raise -Djdk.virtualThreadScheduler.parallelism", CARRIERS,
+                    maxConcurrency);
+        }
+        return run(inputs, input -> execute(input, request, carrierPermits));
+    }
+
+    /**
+     * Like {@link #fanOut}, for requests sent through the non-blocking transport, e.g.
+     * {@link ApiRequestHelper#getRequestAsync}. They do not pin carriers, so up to {@code maxConcurrency} of them
+     * are in flight at once.
+     */
+    public <T> BatchResult<T> fanOutAsync(Collection<T> inputs, Function<T, CompletableFuture<Response>> request) {
+        return run(inputs, input -> execute(input, request.andThen(CompletableFuture::join), null));
+    }
+
+    /**
+     * Reads every ID from a collection endpoint such as {@code /Books}, then GETs {@code /Books/{id}} for all of them
+     * at once.
+     */
+    public BatchResult<Integer> getEachById(String collectionUrl) {
+        List<Integer> ids;
+        Response collection = ApiRequestHelper.getStreamingRequest(collectionUrl);
+        try (JsonArrayStream<JsonNode> records = JsonArrayStream.of(collection, JsonNode.class)) {
+            ids = records.stream().map(record -> record.get("id").asInt()).collect(Collectors.toList());
+        }
+        return fanOutAsync(ids, id -> ApiRequestHelper.getRequestAsync(collectionUrl + "/" + id));
+    }
+
+    /**
+     * POSTs every body to the collection URL concurrently.
+     */
+    public <T> BatchResult<T> postAll(String collectionUrl, Collection<T> bodies) {
+        return fanOutAsync(bodies, body -> ApiRequestHelper.postRequestAsync(collectionUrl, body));
+    }
+
+    /**
+     * DELETEs {@code collectionUrl/{id}} for every ID concurrently.
+     */
+    public BatchResult<Integer> deleteAll(String collectionUrl, Collection<Integer> ids) {
+        return fanOutAsync(ids, id -> ApiRequestHelper.deleteRequestAsync(collectionUrl + "/" + id));
+    }
+
+    private <T> BatchResult<T> run(Collection<T> inputs, Function<T, RequestOutcome<T>> task) {
+        long startTime = System.nanoTime();
+        List<Future<RequestOutcome<T>>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            futures.add(executor.submit(() -> task.apply(input)));
+        }
+
+        List<RequestOutcome<T>> outcomes = new ArrayList<>(futures.size());
+        for (Future<RequestOutcome<T>> future : futures) {
+            outcomes.add(await(future));
+        }
+        BatchResult<T> result = new BatchResult<>(outcomes, System.nanoTime() - startTime);
+        logger.info("Fan-out completed (max concurrency {}): {}", maxConcurrency, result);
+        return result;
+    }
+
+    // carriers is null for requests that do not pin their carrier thread
+    private <T> RequestOutcome<T> execute(T input, Function<T, Response> request, Semaphore carriers) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new RequestOutcome<>(input, null, e, 0);
+        }
+        if (carriers != null) {
+            try {
+                carriers.acquire();
+            } catch (InterruptedException e) {
+                permits.release();
+                Thread.currentThread().interrupt();
+                return new RequestOutcome<>(input, null, e, 0);
+            }
+        }
+        long startTime = System.nanoTime();
+        try {
+            Response response = request.apply(input);
+            return new RequestOutcome<>(input, response, null, System.nanoTime() - startTime);
+        } catch (CompletionException e) {
+            return new RequestOutcome<>(input, null, e.getCause(), System.nanoTime() - startTime);
+        } catch (Exception e) {
+            // REST Assured rethrows checked I/O exceptions (e.g. a pool timeout) undeclared
+            return new RequestOutcome<>(input, null, e, System.nanoTime() - startTime);
+        } finally {
+            if (carriers != null) {
+                carriers.release();
+            }
+            permits.release();
+        }
+    }
+
+    private static <T> RequestOutcome<T> await(Future<RequestOutcome<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for concurrent requests", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Concurrent request task failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
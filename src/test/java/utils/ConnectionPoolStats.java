@@ -0,0 +1,29 @@
+package utils;
+
+import lombok.Value;
+
+/**
+ * Point-in-time snapshot of the shared HTTP connection pool.
+ */
+@Value
+public class ConnectionPoolStats {
+
+    long requests;
+    long newConnections;
+    long reusedConnections;
+    int leased;
+    int available;
+    int pending;
+    int maxTotal;
+
+    public double getReuseRatio() {
+        return requests == 0 ? 0.0 : (double) reusedConnections / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, newConnections=%d, reusedConnections=%d (%.1f%%), leased=%d, available=%d, "
+                + "pending=%d, maxTotal=%d", requests, newConnections, reusedConnections, getReuseRatio() * 100,
+                leased, available, pending, maxTotal);
+    }
+}
@@ -0,0 +1,45 @@
+package utils;
+
+import java.net.URI;
+
+/**
+ * Normalizes request URLs into low-cardinality endpoint keys such as {@code GET /api/v1/Books/{id}},
+ * so statistics for individual resources aggregate per endpoint.
+ */
+public class EndpointKey {
+
+    public static String of(String method, String url) {
+        return method + " " + normalizePath(url);
+    }
+
+    public static String normalizePath(String url) {
+        String path;
+        try {
+            path = URI.create(url).getRawPath();
+        } catch (IllegalArgumentException e) {
+            path = url;
+        }
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/");
+        StringBuilder normalized = new StringBuilder(path.length());
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            normalized.append('/').append(isIdentifier(segment) ? "{id}" : segment);
+        }
+        return normalized.length() == 0 ? "/" : normalized.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        int start = segment.charAt(0) == '-' && segment.length() > 1 ? 1 : 0;
+        for (int i = start; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
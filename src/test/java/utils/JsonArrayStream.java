@@ -0,0 +1,157 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a top-level JSON array one element at a time with Jackson's {@link JsonParser}, so only the current
+ * element is ever held in memory regardless of the size of the payload.
+ *
+ * Single pass: the iterator, {@link #stream()} and the short-circuiting helpers all consume the same parser.
+ * Close it (try-with-resources) to release the underlying connection; any unread remainder is drained, not
+ * buffered.
+ */
+public class JsonArrayStream<T> implements Iterable<T>, Iterator<T>, AutoCloseable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private JsonToken nextToken;
+
+    private JsonArrayStream(InputStream body, Class<T> type) throws IOException {
+        this.reader = JsonCodec.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.parser = JsonCodec.mapper().getFactory().createParser(body);
+        JsonToken first = parser.nextToken();
+        if (first != null && first != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IllegalStateException("Expected a JSON array but found " + first);
+        }
+        this.nextToken = first == null ? null : parser.nextToken();
+    }
+
+    /**
+     * Streams the body of a response obtained from {@link ApiRequestHelper#getStreamingRequest(String)}.
+     */
+    public static <T> JsonArrayStream<T> of(Response response, Class<T> type) {
+        return of(response.asInputStream(), type);
+    }
+
+    public static <T> JsonArrayStream<T> of(InputStream body, Class<T> type) {
+        try {
+            return new JsonArrayStream<>(body, type);
+        } catch (IOException e) {
+            closeAfterFailure(body, e);
+            throw new UncheckedIOException("Could not open JSON array stream", e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(body, e);
+            throw e;
+        }
+    }
+
+    // Nobody else holds the body yet, and left open it would keep its pooled connection leased
+    private static void closeAfterFailure(InputStream body, Exception failure) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextToken != null && nextToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T element = reader.readValue(parser);
+            nextToken = parser.nextToken();
+            return element;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JSON array element", e);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this;
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    public Optional<T> findFirst() {
+        return hasNext() ? Optional.of(next()) : Optional.empty();
+    }
+
+    /**
+     * Reads at most {@code n} elements and leaves the rest unparsed.
+     */
+    public List<T> first(int n) {
+        List<T> elements = new ArrayList<>(Math.min(n, 64));
+        while (elements.size() < n && hasNext()) {
+            elements.add(next());
+        }
+        return elements;
+    }
+
+    /**
+     * Checks elements as they are read and stops at the first one that does not match.
+     */
+    public boolean allMatch(Predicate<? super T> predicate) {
+        while (hasNext()) {
+            if (!predicate.test(next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the remaining elements, skipping over their contents without binding them.
+     */
+    public long count() {
+        long count = 0;
+        try {
+            while (hasNext()) {
+                parser.skipChildren();
+                nextToken = parser.nextToken();
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JSON array element", e);
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close JSON array stream", e);
+        }
+    }
+}
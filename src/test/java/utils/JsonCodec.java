@@ -0,0 +1,142 @@
+package utils;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import config.ApiConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The one Jackson setup shared by request bodies, REST Assured's {@code response.as(...)} and the streaming
+ * readers.
+ *
+ * Writers and readers are built once per type, with their root serializers resolved up front, and are
+ * thread-safe. Bodies are written into pooled buffers, so the only allocation per request is the final byte array
+ * handed to the transport. When Jackson's Blackbird or Afterburner module is on the classpath (the
+ * {@code blackbird} Maven profile adds Blackbird) it is registered, as chosen by {@code api.json.module}, to replace
+ * reflective property access with generated code.
+ */
+public final class JsonCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonCodec.class);
+
+    private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final String AFTERBURNER = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private static final ObjectMapper MAPPER = createMapper(ApiConfig.JSON_MODULE);
+
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final BlockingQueue<PooledBuffer> BUFFERS =
+            new ArrayBlockingQueue<>(Math.max(1, ApiConfig.JSON_BUFFER_POOL_SIZE));
+
+    private JsonCodec() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    public static ObjectReader readerFor(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * Serialized JSON of the value, written through a pooled buffer.
+     */
+    public static byte[] toBytes(Object value) {
+        PooledBuffer buffer = BUFFERS.poll();
+        if (buffer == null) {
+            buffer = new PooledBuffer();
+        }
+        try {
+            writerFor(value.getClass()).writeValue(buffer, value);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize " + value.getClass().getSimpleName(), e);
+        } finally {
+            if (buffer.capacity() <= ApiConfig.JSON_BUFFER_MAX_POOLED_BYTES) {
+                buffer.reset();
+                BUFFERS.offer(buffer);
+            }
+        }
+    }
+
+    public static void writeTo(OutputStream out, Object value) throws IOException {
+        writerFor(value.getClass()).writeValue(out, value);
+    }
+
+    public static <T> T fromBytes(byte[] json, Class<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Ids of the registered Jackson modules, e.g. to check in a report which accelerator was active.
+     */
+    public static List<String> getRegisteredModules() {
+        return MAPPER.getRegisteredModuleIds().stream().map(String::valueOf).sorted().toList();
+    }
+
+    // Same modules REST Assured's default factory discovers, plus the requested accelerator if it can be loaded.
+    // Accelerators are skipped during discovery, since both declare themselves as services and "none" must mean none.
+    private static ObjectMapper createMapper(String module) {
+        ObjectMapper mapper = new ObjectMapper();
+        for (Module discovered : ObjectMapper.findModules()) {
+            String className = discovered.getClass().getName();
+            if (!BLACKBIRD.equals(className) && !AFTERBURNER.equals(className)) {
+                mapper.registerModule(discovered);
+            }
+        }
+        List<String> candidates = switch (module.toLowerCase()) {
+            case "none" -> List.of();
+            case "blackbird" -> List.of(BLACKBIRD);
+            case "afterburner" -> List.of(AFTERBURNER);
+            case "auto" -> List.of(BLACKBIRD, AFTERBURNER);
+            default -> throw new IllegalArgumentException("Unknown api.json.module: " + module);
+        };
+        for (String className : candidates) {
+            try {
+                mapper.registerModule((Module) Class.forName(className).getDeclaredConstructor().newInstance());
+                logger.debug("Registered Jackson module {}", className);
+                return mapper;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.debug("Jackson module {} is not available: {}", className, e.toString());
+            }
+        }
+        if (!"auto".equalsIgnoreCase(module) && !candidates.isEmpty()) {
+            logger.warn("Jackson module {} requested but not on the classpath; using reflection", module);
+        }
+        return mapper;
+    }
+
+    private static final class PooledBuffer extends ByteArrayOutputStream {
+
+        private PooledBuffer() {
+            super(1024);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package utils;
+
+import config.ApiConfig;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.AbstractHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds the single pooled, keep-alive HTTP client shared by every request made through {@link ApiRequestHelper}.
+ *
+ * REST Assured 5 drives Apache HttpClient 4 through {@link AbstractHttpClient}, which only accepts the
+ * legacy {@link PoolingClientConnectionManager}; hence the deprecated API below.
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder newConnections = new LongAdder();
+    private final PoolingClientConnectionManager connectionManager;
+
+    public PooledHttpClientFactory() {
+        connectionManager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault(),
+                ApiConfig.CONNECTION_TIME_TO_LIVE, TimeUnit.MILLISECONDS) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new CountingConnectionOperator(schemeRegistry);
+            }
+        };
+        connectionManager.setDefaultMaxPerRoute(ApiConfig.MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setMaxTotal(ApiConfig.MAX_CONNECTIONS_TOTAL);
+        startIdleConnectionEviction();
+    }
+
+    @Override
+    public AbstractHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.addRequestInterceptor((request, context) -> requests.increment());
+        // An empty entity is never read by REST Assured, so its connection would stay leased; dropping it
+        // lets HttpClient return the connection to the pool immediately
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentLength() == 0) {
+                response.setEntity(null);
+            }
+        });
+        client.setKeepAliveStrategy(PooledHttpClientFactory::keepAliveMillis);
+        return client;
+    }
+
+    public ConnectionPoolStats getStats() {
+        PoolStats pool = connectionManager.getTotalStats();
+        long requestCount = requests.sum();
+        long opened = newConnections.sum();
+        return new ConnectionPoolStats(requestCount, opened, Math.max(0, requestCount - opened),
+                pool.getLeased(), pool.getAvailable(), pool.getPending(), pool.getMax());
+    }
+
+    // The server's Keep-Alive timeout when it sends one, never longer than the configured idle timeout, so a
+    // connection the server has already closed is not reused. HttpClient treats 0 as "forever", hence at least 1 ms.
+    private static long keepAliveMillis(HttpResponse response, HttpContext context) {
+        long serverMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return serverMillis < 0
+                ? ApiConfig.IDLE_CONNECTION_TIMEOUT
+                : Math.max(1, Math.min(serverMillis, ApiConfig.IDLE_CONNECTION_TIMEOUT));
+    }
+
+    private void startIdleConnectionEviction() {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, ApiConfig.IDLE_CONNECTION_TIMEOUT / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(ApiConfig.IDLE_CONNECTION_TIMEOUT, TimeUnit.MILLISECONDS);
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private class CountingConnectionOperator extends DefaultClientConnectionOperator {
+
+        CountingConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            newConnections.increment();
+            super.openConnection(connection, target, local, context, params);
+        }
+    }
+}
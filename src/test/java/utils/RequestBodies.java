@@ -0,0 +1,33 @@
+package utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes request bodies once, up front, so the exact bytes on the wire are known to the metrics, the
+ * cassettes and both transports.
+ */
+final class RequestBodies {
+
+    private RequestBodies() {
+    }
+
+    /**
+     * JSON for objects, UTF-8 for strings (sent as-is), {@code null} for no body.
+     */
+    static byte[] serialize(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return JsonCodec.toBytes(body);
+    }
+
+    static long sizeOf(byte[] payload) {
+        return payload == null ? 0 : payload.length;
+    }
+}
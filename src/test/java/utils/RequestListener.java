@@ -0,0 +1,27 @@
+package utils;
+
+/**
+ * Callback invoked by {@link ApiRequestHelper} after every request completes. The default methods report the
+ * start of each request and the body sizes of each exchange, for listeners that need more than timings.
+ */
+@FunctionalInterface
+public interface RequestListener {
+
+    // Status code reported when the request failed before a response was received
+    int TRANSPORT_ERROR = -1;
+
+    void onResponse(String method, String url, int statusCode, long durationNanos);
+
+    /**
+     * Called before a request is sent; every call is followed by exactly one {@link #onResponse}.
+     */
+    default void onRequestStart(String method, String url) {
+    }
+
+    /**
+     * Request and response body sizes of a completed exchange, reported right after {@link #onResponse};
+     * {@code responseBytes} is -1 when the body was left unread.
+     */
+    default void onBodySizes(String method, String url, long requestBytes, long responseBytes) {
+    }
+}
@@ -0,0 +1,25 @@
+package utils;
+
+import io.restassured.response.Response;
+import lombok.Value;
+
+/**
+ * Result of one request issued by {@link ConcurrentRequestExecutor}: either a response or the failure that
+ * prevented one.
+ */
+@Value
+public class RequestOutcome<T> {
+
+    T input;
+    Response response;
+    Throwable failure;
+    long durationNanos;
+
+    public boolean isSuccessful() {
+        return failure == null && response != null && response.getStatusCode() < 400;
+    }
+
+    public int getStatusCode() {
+        return response == null ? RequestListener.TRANSPORT_ERROR : response.getStatusCode();
+    }
+}
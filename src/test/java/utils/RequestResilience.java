@@ -0,0 +1,344 @@
+package utils;
+
+import io.restassured.response.Response;
+import metrics.LatencyHistogram;
+import metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries, hedging and per-endpoint circuit breakers around the single attempts made by {@link ApiRequestHelper}.
+ *
+ * Idempotent requests that fail with a transport error, 429 or 5xx are retried after a jittered exponential
+ * backoff. A GET still unanswered after the configured percentile of its endpoint's recorded latency is sent again
+ * and the first usable response wins, within a budget so a slow host does not receive twice the load; the losing
+ * request is not abandoned, so it still completes and is recorded. An endpoint whose circuit is open fails fast with
+ * {@link CircuitOpenException} instead of waiting out the timeout. Every attempt goes through the request
+ * listeners as a request of its own, and the retries and hedges are also counted in {@link ResilienceStats}.
+ */
+public class RequestResilience {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestResilience.class);
+
+    // Hedged synchronous requests run here rather than on virtual threads: Apache HttpClient blocks in synchronized
+    // code, which would pin carriers needed by ConcurrentRequestExecutor
+    private static final ExecutorService HEDGE_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "request-hedge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ResiliencePolicy policy;
+    private final LatencyRecorder latencies;
+    private final LongSupplier nanoClock;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param latencies recorded latencies the hedging delay of each endpoint is taken from
+     */
+    public RequestResilience(ResiliencePolicy policy, LatencyRecorder latencies) {
+        this(policy, latencies, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock clock the circuit breakers measure their open time with
+     */
+    public RequestResilience(ResiliencePolicy policy, LatencyRecorder latencies, LongSupplier nanoClock) {
+        this.policy = policy;
+        this.latencies = latencies;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return policy.isEnabled();
+    }
+
+    public ResiliencePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Makes the request through {@code attempt}, which sends it once and reports it to the listeners, on the
+     * calling thread unless the request is hedged. Backoff sleeps on the calling thread.
+     */
+    public Response execute(String method, String url, Supplier<Response> attempt) {
+        if (!policy.isEnabled()) {
+            return attempt.get();
+        }
+        Endpoint endpoint = endpoint(method, url);
+        endpoint.requests.increment();
+        Response response = null;
+        RuntimeException failure = null;
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            long permit = endpoint.breaker.tryAcquire();
+            if (permit == CircuitBreaker.REFUSED) {
+                endpoint.rejected.increment();
+                if (attemptNumber == 1) {
+                    throw new CircuitOpenException(endpoint.key);
+                }
+                break;
+            }
+            try {
+                response = attemptOrHedge(endpoint, method, url, attempt);
+                failure = null;
+            } catch (RuntimeException e) {
+                response = null;
+                failure = e;
+            } catch (Error e) {
+                // Releases a half-open circuit's trial permit, which would otherwise stay taken for good
+                recordOutcome(endpoint, permit, RequestListener.TRANSPORT_ERROR);
+                throw e;
+            }
+            int statusCode = statusOf(response);
+            recordOutcome(endpoint, permit, statusCode);
+            if (!shouldRetry(method, statusCode, attemptNumber)) {
+                break;
+            }
+            long delay = backoff(endpoint, attemptNumber, statusCode);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return response;
+    }
+
+    /**
+     * Async counterpart of {@link #execute}: backoff delays are scheduled instead of slept, so no thread waits.
+     */
+    public CompletableFuture<Response> executeAsync(String method, String url,
+                                                    Supplier<CompletableFuture<Response>> attempt) {
+        if (!policy.isEnabled()) {
+            return attempt.get();
+        }
+        Endpoint endpoint = endpoint(method, url);
+        endpoint.requests.increment();
+        return attemptAsync(endpoint, method, url, attempt, 1, null);
+    }
+
+    public ResilienceStats getStats() {
+        return endpoints.values().stream()
+                .map(Endpoint::stats)
+                .reduce(new ResilienceStats(0, 0, 0, 0, 0, 0), ResilienceStats::plus);
+    }
+
+    /**
+     * Counters of a method and an endpoint given as a full URL or a path; all zero before its first request.
+     */
+    public ResilienceStats getStats(String method, String endpoint) {
+        Endpoint counters = endpoints.get(EndpointKey.of(method, endpoint));
+        return counters == null ? new ResilienceStats(0, 0, 0, 0, 0, 0) : counters.stats();
+    }
+
+    public Map<String, ResilienceStats> getEndpointStats() {
+        Map<String, ResilienceStats> stats = new TreeMap<>();
+        endpoints.forEach((key, endpoint) -> stats.put(key, endpoint.stats()));
+        return stats;
+    }
+
+    public String getCircuitState(String method, String endpoint) {
+        Endpoint counters = endpoints.get(EndpointKey.of(method, endpoint));
+        return counters == null ? CircuitBreaker.CLOSED : counters.breaker.getState();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private CompletableFuture<Response> attemptAsync(Endpoint endpoint, String method, String url,
+                                                     Supplier<CompletableFuture<Response>> attempt,
+                                                     int attemptNumber, CompletableFuture<Response> previous) {
+        long permit = endpoint.breaker.tryAcquire();
+        if (permit == CircuitBreaker.REFUSED) {
+            endpoint.rejected.increment();
+            return previous != null ? previous : CompletableFuture.failedFuture(new CircuitOpenException(endpoint.key));
+        }
+        CompletableFuture<Response> current;
+        try {
+            current = hedged(endpoint, hedgeDelayNanos(endpoint, method, url), attempt);
+        } catch (RuntimeException e) {
+            current = CompletableFuture.failedFuture(e);
+        } catch (Error e) {
+            recordOutcome(endpoint, permit, RequestListener.TRANSPORT_ERROR);
+            throw e;
+        }
+        CompletableFuture<Response> outcome = current;
+        return current.handle((response, failure) -> {
+            int statusCode = failure == null ? statusOf(response) : RequestListener.TRANSPORT_ERROR;
+            recordOutcome(endpoint, permit, statusCode);
+            if (!shouldRetry(method, statusCode, attemptNumber)) {
+                return outcome;
+            }
+            long delay = backoff(endpoint, attemptNumber, statusCode);
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delay,
+                            TimeUnit.MILLISECONDS))
+                    .thenCompose(ready -> attemptAsync(endpoint, method, url, attempt, attemptNumber + 1, outcome));
+        }).thenCompose(next -> next);
+    }
+
+    // Sends the attempt and, when the GET is eligible for hedging, a second one once the hedging delay passes
+    private Response attemptOrHedge(Endpoint endpoint, String method, String url, Supplier<Response> attempt) {
+        long delayNanos = hedgeDelayNanos(endpoint, method, url);
+        if (delayNanos < 0) {
+            return attempt.get();
+        }
+        try {
+            return hedged(endpoint, delayNanos, () -> CompletableFuture.supplyAsync(attempt, HEDGE_EXECUTOR)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private CompletableFuture<Response> hedged(Endpoint endpoint, long delayNanos,
+                                               Supplier<CompletableFuture<Response>> attempt) {
+        CompletableFuture<Response> primary = attempt.get();
+        if (delayNanos < 0) {
+            return primary;
+        }
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        primary.whenComplete((response, failure) -> {
+            if (decided.compareAndSet(false, true)) {
+                complete(result, response, failure);
+            }
+        });
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (decided.compareAndSet(false, true)) {
+                endpoint.hedges.increment();
+                logger.debug("Hedging {} after {} ms", endpoint.key, delayNanos / 1_000_000);
+                CompletableFuture<Response> hedge;
+                try {
+                    hedge = attempt.get();
+                } catch (Throwable e) {
+                    // Runs on the delay scheduler, where a throw would leave the result incomplete
+                    hedge = CompletableFuture.failedFuture(e);
+                }
+                firstUsable(endpoint, primary, hedge).whenComplete((response, failure) ->
+                        complete(result, response, failure));
+            }
+        });
+        return result;
+    }
+
+    // The first response that is neither a transport error nor a 5xx, else the primary's outcome
+    private static CompletableFuture<Response> firstUsable(Endpoint endpoint, CompletableFuture<Response> primary,
+                                                           CompletableFuture<Response> hedge) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        AtomicBoolean answered = new AtomicBoolean();
+        for (CompletableFuture<Response> candidate : List.of(primary, hedge)) {
+            candidate.whenComplete((response, failure) -> {
+                boolean usable = failure == null && !ResiliencePolicy.isFailure(statusOf(response));
+                // The win is counted before completing, which releases the caller
+                if (usable && answered.compareAndSet(false, true)) {
+                    if (candidate == hedge) {
+                        endpoint.hedgeWins.increment();
+                    }
+                    result.complete(response);
+                }
+                if (pending.decrementAndGet() == 0 && !result.isDone()) {
+                    primary.whenComplete((first, firstFailure) -> complete(result, first, firstFailure));
+                }
+            });
+        }
+        return result;
+    }
+
+    // Negative unless the request is a GET worth hedging now: hedging on, circuit closed, within budget, and enough
+    // samples for the percentile to mean something
+    private long hedgeDelayNanos(Endpoint endpoint, String method, String url) {
+        if (!policy.isHedging() || !"GET".equals(method) || !endpoint.breaker.isClosed()
+                || endpoint.hedges.sum() >= policy.getHedgeBudget() * endpoint.requests.sum()) {
+            return -1;
+        }
+        LatencyHistogram histogram = latencies.getHistogram(method, url);
+        if (histogram.getTotalCount() < policy.getHedgeMinSamples()) {
+            return -1;
+        }
+        double percentileMillis = histogram.getValueAtPercentileMillis(policy.getHedgePercentile());
+        return TimeUnit.MICROSECONDS.toNanos(Math.round(Math.max(policy.getHedgeMinDelayMillis(), percentileMillis)
+                * 1000));
+    }
+
+    private boolean shouldRetry(String method, int statusCode, int attemptNumber) {
+        return ResiliencePolicy.isRetryable(statusCode) && policy.canRetry(method)
+                && attemptNumber < policy.getMaxAttempts();
+    }
+
+    private long backoff(Endpoint endpoint, int attemptNumber, int statusCode) {
+        long delay = policy.backoffMillis(attemptNumber);
+        endpoint.retries.increment();
+        logger.debug("Retrying {} in {} ms after status {} (attempt {} of {})", endpoint.key, delay, statusCode,
+                attemptNumber + 1, policy.getMaxAttempts());
+        return delay;
+    }
+
+    private static void recordOutcome(Endpoint endpoint, long permit, int statusCode) {
+        if (!ResiliencePolicy.isFailure(statusCode)) {
+            endpoint.breaker.onSuccess(permit);
+        } else if (endpoint.breaker.onFailure(permit)) {
+            endpoint.circuitsOpened.increment();
+            logger.warn("Circuit breaker opened for {} after status {}", endpoint.key, statusCode);
+        }
+    }
+
+    private static int statusOf(Response response) {
+        return response == null ? RequestListener.TRANSPORT_ERROR : response.getStatusCode();
+    }
+
+    private static void complete(CompletableFuture<Response> result, Response response, Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+        } else {
+            result.complete(response);
+        }
+    }
+
+    private Endpoint endpoint(String method, String url) {
+        return endpoints.computeIfAbsent(EndpointKey.of(method, url), key ->
+                new Endpoint(key, new CircuitBreaker(policy.getBreakerFailures(), policy.getBreakerOpenMillis(),
+                        nanoClock)));
+    }
+
+    private static final class Endpoint {
+
+        private final String key;
+        private final CircuitBreaker breaker;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder circuitsOpened = new LongAdder();
+
+        private Endpoint(String key, CircuitBreaker breaker) {
+            this.key = key;
+            this.breaker = breaker;
+        }
+
+        ResilienceStats stats() {
+            return new ResilienceStats(requests.sum(), retries.sum(), hedges.sum(), hedgeWins.sum(), rejected.sum(),
+                    circuitsOpened.sum());
+        }
+    }
+}
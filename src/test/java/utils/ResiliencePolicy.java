@@ -0,0 +1,84 @@
+package utils;
+
+import config.ApiConfig;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry, hedging and circuit breaker settings of {@link RequestResilience}; the defaults disable all three.
+ */
+@Value
+@Builder
+public class ResiliencePolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "PUT", "DELETE", "HEAD", "OPTIONS");
+
+    // Attempts in total, so 1 never retries
+    @Builder.Default
+    int maxAttempts = 1;
+    @Builder.Default
+    long baseDelayMillis = 100;
+    @Builder.Default
+    long maxDelayMillis = 2000;
+    // Latency percentile of the endpoint after which a GET is hedged; 0 never hedges
+    double hedgePercentile;
+    @Builder.Default
+    int hedgeMinSamples = 50;
+    @Builder.Default
+    long hedgeMinDelayMillis = 10;
+    // Largest share of an endpoint's requests that may be hedged, so hedging cannot double the load of a slow host
+    @Builder.Default
+    double hedgeBudget = 0.1;
+    // Consecutive failures that open an endpoint's circuit; 0 never opens it
+    int breakerFailures;
+    @Builder.Default
+    long breakerOpenMillis = 5000;
+
+    public static ResiliencePolicy fromConfig() {
+        return ResiliencePolicy.builder()
+                .maxAttempts(ApiConfig.RETRY_MAX_ATTEMPTS)
+                .baseDelayMillis(ApiConfig.RETRY_BASE_DELAY)
+                .maxDelayMillis(ApiConfig.RETRY_MAX_DELAY)
+                .hedgePercentile(ApiConfig.HEDGE_PERCENTILE)
+                .hedgeMinSamples(ApiConfig.HEDGE_MIN_SAMPLES)
+                .hedgeMinDelayMillis(ApiConfig.HEDGE_MIN_DELAY)
+                .hedgeBudget(ApiConfig.HEDGE_BUDGET)
+                .breakerFailures(ApiConfig.BREAKER_FAILURES)
+                .breakerOpenMillis(ApiConfig.BREAKER_OPEN_TIME)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return maxAttempts > 1 || isHedging() || breakerFailures > 0;
+    }
+
+    public boolean isHedging() {
+        return hedgePercentile > 0;
+    }
+
+    public boolean canRetry(String method) {
+        return maxAttempts > 1 && IDEMPOTENT_METHODS.contains(method);
+    }
+
+    /**
+     * Delay before retry number {@code retry}, counting from 1: uniformly random up to
+     * {@code baseDelayMillis * 2^(retry - 1)}, capped at {@code maxDelayMillis}. The full jitter keeps requests that
+     * failed together from retrying together.
+     */
+    public long backoffMillis(int retry) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // Transport errors and server errors count against the circuit breaker; any other status is an answer
+    public static boolean isFailure(int statusCode) {
+        return statusCode == RequestListener.TRANSPORT_ERROR || statusCode >= 500;
+    }
+
+    public static boolean isRetryable(int statusCode) {
+        return isFailure(statusCode) || statusCode == 429;
+    }
+}
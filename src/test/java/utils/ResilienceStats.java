@@ -0,0 +1,31 @@
+package utils;
+
+import lombok.Value;
+
+/**
+ * Point-in-time counters of {@link RequestResilience}, for one endpoint or all of them.
+ *
+ * Every retry and hedge is a request of its own in the latency histograms and request metrics; these counters
+ * tell how many of those requests were extra.
+ */
+@Value
+public class ResilienceStats {
+
+    long requests;
+    long retries;
+    long hedges;
+    long hedgeWins;
+    long rejected;
+    long circuitsOpened;
+
+    public ResilienceStats plus(ResilienceStats other) {
+        return new ResilienceStats(requests + other.requests, retries + other.retries, hedges + other.hedges,
+                hedgeWins + other.hedgeWins, rejected + other.rejected, circuitsOpened + other.circuitsOpened);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, retries=%d, hedges=%d (%d won), rejectedByOpenCircuit=%d, "
+                + "circuitsOpened=%d", requests, retries, hedges, hedgeWins, rejected, circuitsOpened);
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Size-bounded LRU cache of successful GET responses, keyed by URL.
+ *
+ * Entries live for the configured TTL unless the response sets {@code Cache-Control: max-age}; {@code no-store}
+ * responses are never cached and {@code no-cache} ones are revalidated on every use. Stale entries carrying an
+ * {@code ETag} are revalidated with {@code If-None-Match}, so an unchanged resource costs a 304 instead of a
+ * full body. Any write to a resource drops every cached URL under its collection, e.g. a PUT to
+ * {@code /Books/5} evicts {@code /Books} and {@code /Books/5}. A write also bumps its collection's generation,
+ * so a GET that was in flight during the write does not cache the response it got from before the write.
+ */
+public class ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age\\s*=\\s*(\\d+)");
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+$");
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    // Invalidations per collection path, guarded by this
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ResponseCache(long ttlMillis, int maxEntries) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for the URL when it is fresh. Otherwise calls {@code fetch} with the ETag of the
+     * stale entry (or {@code null}), keeps the stale body on a 304 and caches a new 200.
+     */
+    public Response get(String url, Function<String, Response> fetch) {
+        Entry cached;
+        long generation;
+        synchronized (this) {
+            cached = entries.get(url);
+            generation = generationOf(url);
+        }
+        if (cached != null && cached.isFresh()) {
+            hits.increment();
+            logger.debug("Serving GET {} from cache", url);
+            return cached.response;
+        }
+
+        Response response = fetch.apply(cached == null ? null : cached.etag);
+        if (cached != null && response.getStatusCode() == 304) {
+            revalidations.increment();
+            cached.expiresAt = expiryOf(response);
+            return cached.response;
+        }
+        misses.increment();
+        String cacheControl = String.valueOf(response.getHeader("Cache-Control"));
+        if (response.getStatusCode() == 200 && !cacheControl.contains("no-store")) {
+            synchronized (this) {
+                if (generationOf(url) == generation) {
+                    entries.put(url, new Entry(response, response.getHeader("ETag"), expiryOf(response)));
+                } else {
+                    logger.debug("Not caching GET {}: its collection was written while it was in flight", url);
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Drops every cached URL under the collection of the written resource.
+     */
+    public synchronized void invalidate(String url) {
+        String collection = ID_SEGMENT.matcher(pathOf(url)).replaceFirst("");
+        generations.merge(collection, 1L, Long::sum);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String path = pathOf(keys.next());
+            if (path.equals(collection) || path.startsWith(collection + "/")) {
+                keys.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("entries=%d, hits=%d, misses=%d, revalidated=%d, invalidated=%d",
+                size(), hits.sum(), misses.sum(), revalidations.sum(), invalidations.sum());
+    }
+
+    // Sum of the invalidations of every collection the URL is under; only grows, so any write changes it
+    private long generationOf(String url) {
+        String path = pathOf(url);
+        long generation = 0;
+        for (Map.Entry<String, Long> collection : generations.entrySet()) {
+            if (path.equals(collection.getKey()) || path.startsWith(collection.getKey() + "/")) {
+                generation += collection.getValue();
+            }
+        }
+        return generation;
+    }
+
+    private long expiryOf(Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        long lifetime = ttlNanos;
+        if (cacheControl != null) {
+            Matcher maxAge = MAX_AGE.matcher(cacheControl);
+            if (cacheControl.contains("no-cache")) {
+                lifetime = 0;
+            } else if (maxAge.find()) {
+                lifetime = TimeUnit.SECONDS.toNanos(Long.parseLong(maxAge.group(1)));
+            }
+        }
+        return System.nanoTime() + lifetime;
+    }
+
+    private static String pathOf(String url) {
+        String path = URI.create(url).getPath();
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static final class Entry {
+
+        private final Response response;
+        private final String etag;
+        private volatile long expiresAt;
+
+        private Entry(Response response, String etag, long expiresAt) {
+            this.response = response;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
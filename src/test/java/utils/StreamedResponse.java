@@ -0,0 +1,23 @@
+package utils;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Outcome of {@link ApiRequestHelper#sendStreamingRequest}: the response body was read and discarded, so only
+ * its size and first bytes are kept.
+ */
+@Value
+public class StreamedResponse {
+
+    int statusCode;
+    long requestBytes;
+    long responseBytes;
+    long durationNanos;
+    byte[] bodyPrefix;
+
+    public String getBodyPrefixAsString() {
+        return new String(bodyPrefix, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package workflow;
+
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.Value;
+import utils.RequestListener;
+
+import java.util.List;
+
+/**
+ * Outcome and timing of one workflow step; offsets are relative to the start of the workflow.
+ */
+@Value
+@Builder
+public class StepResult {
+
+    public static final String PASSED = "passed";
+    public static final String FAILED = "failed";
+    public static final String SKIPPED = "skipped";
+
+    String name;
+    List<String> dependencies;
+    String status;
+    Response response;
+    String failure;
+    long startOffsetNanos;
+    long durationNanos;
+
+    public boolean isPassed() {
+        return PASSED.equals(status);
+    }
+
+    public int getStatusCode() {
+        return response == null ? RequestListener.TRANSPORT_ERROR : response.getStatusCode();
+    }
+
+    public long getEndOffsetNanos() {
+        return startOffsetNanos + durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s %-8s %8.1f ms %8.1f ms  %s%s", name, status, startOffsetNanos / 1e6,
+                durationNanos / 1e6, response == null ? "" : "HTTP " + response.getStatusCode(),
+                failure == null ? "" : " " + failure);
+    }
+}
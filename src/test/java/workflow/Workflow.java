@@ -0,0 +1,137 @@
+package workflow;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A user journey declared as requests with data dependencies, e.g. create an author and a book, link them, verify
+ * the link, then delete both.
+ *
+ * {@link #run()} starts every step as soon as the steps it depends on have succeeded, so independent branches run
+ * concurrently and each dependent request goes out the moment its inputs arrive; the journey takes as long as its
+ * critical path rather than the sum of its requests. Steps must use the {@code *Async} methods of
+ * {@code ApiRequestHelper}: they are started on the thread that completed their last dependency, which must not
+ * block. A failed step skips the steps that depend on it but not the independent branches. Dependencies must be
+ * declared before the steps that use them, which rules out cycles.
+ */
+public class Workflow {
+
+    private static final Logger logger = LoggerFactory.getLogger(Workflow.class);
+
+    private final String name;
+    private final Map<String, WorkflowStep> steps = new LinkedHashMap<>();
+
+    private Workflow(String name) {
+        this.name = name;
+    }
+
+    public static Workflow named(String name) {
+        return new Workflow(name);
+    }
+
+    public Workflow step(String step, Function<WorkflowContext, CompletableFuture<Response>> request) {
+        return step(step, List.of(), WorkflowStep.ANY_SUCCESS, request);
+    }
+
+    public Workflow step(String step, List<String> dependsOn,
+                         Function<WorkflowContext, CompletableFuture<Response>> request) {
+        return step(step, dependsOn, WorkflowStep.ANY_SUCCESS, request);
+    }
+
+    /**
+     * Adds a step that only succeeds with the expected status, such as a 404 after a delete.
+     */
+    public Workflow step(String step, List<String> dependsOn, int expectedStatus,
+                         Function<WorkflowContext, CompletableFuture<Response>> request) {
+        if (steps.containsKey(step)) {
+            throw new IllegalArgumentException("Duplicate step '" + step + "' in workflow " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step '" + step + "' depends on '" + dependency
+                        + "', which is not declared before it in workflow " + name);
+            }
+        }
+        steps.put(step, new WorkflowStep(step, List.copyOf(dependsOn), expectedStatus, request));
+        return this;
+    }
+
+    public WorkflowResult run() {
+        long startTime = System.nanoTime();
+        Map<String, CompletableFuture<StepResult>> results = new LinkedHashMap<>();
+        for (WorkflowStep step : steps.values()) {
+            List<CompletableFuture<StepResult>> dependencies = new ArrayList<>();
+            step.getDependencies().forEach(dependency -> dependencies.add(results.get(dependency)));
+            results.put(step.getName(), CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                    .thenCompose(ready -> execute(step, dependencies, startTime)));
+        }
+
+        List<StepResult> finished = new ArrayList<>();
+        results.values().forEach(result -> finished.add(result.join()));
+        WorkflowResult result = new WorkflowResult(name, List.copyOf(finished), System.nanoTime() - startTime);
+        logger.info("Workflow {}: {} steps {} in {} ms, critical path {} ms", name, finished.size(),
+                result.isSuccessful() ? "passed" : "failed", result.getElapsedNanos() / 1_000_000,
+                result.getCriticalPathNanos() / 1_000_000);
+        return result;
+    }
+
+    private static CompletableFuture<StepResult> execute(WorkflowStep step,
+                                                         List<CompletableFuture<StepResult>> dependencies,
+                                                         long workflowStart) {
+        Map<String, Response> responses = new HashMap<>();
+        for (CompletableFuture<StepResult> dependency : dependencies) {
+            StepResult result = dependency.join();
+            if (!result.isPassed()) {
+                return CompletableFuture.completedFuture(skipped(step, result.getName(), workflowStart));
+            }
+            responses.put(result.getName(), result.getResponse());
+        }
+
+        long startTime = System.nanoTime();
+        CompletableFuture<Response> request;
+        try {
+            request = step.getRequest().apply(new WorkflowContext(step.getName(), responses));
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        return request.handle((response, failure) -> {
+            StepResult.StepResultBuilder result = StepResult.builder()
+                    .name(step.getName())
+                    .dependencies(step.getDependencies())
+                    .response(response)
+                    .startOffsetNanos(startTime - workflowStart)
+                    .durationNanos(System.nanoTime() - startTime);
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                return result.status(StepResult.FAILED).failure(cause.toString()).build();
+            }
+            if (!step.isSuccess(response.getStatusCode())) {
+                return result.status(StepResult.FAILED)
+                        .failure(step.getExpectedStatus() == WorkflowStep.ANY_SUCCESS ? "unexpected status"
+                                : "expected HTTP " + step.getExpectedStatus())
+                        .build();
+            }
+            return result.status(StepResult.PASSED).build();
+        });
+    }
+
+    private static StepResult skipped(WorkflowStep step, String failedDependency, long workflowStart) {
+        return StepResult.builder()
+                .name(step.getName())
+                .dependencies(step.getDependencies())
+                .status(StepResult.SKIPPED)
+                .failure("'" + failedDependency + "' did not pass")
+                .startOffsetNanos(System.nanoTime() - workflowStart)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package workflow;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+
+/**
+ * Responses a step may build its request from. Only the step's declared dependencies are visible: reading any
+ * other step would race with it, so it fails instead of sometimes working.
+ */
+public class WorkflowContext {
+
+    private final String step;
+    private final Map<String, Response> responses;
+
+    WorkflowContext(String step, Map<String, Response> responses) {
+        this.step = step;
+        this.responses = responses;
+    }
+
+    public Response response(String dependency) {
+        Response response = responses.get(dependency);
+        if (response == null) {
+            throw new IllegalArgumentException("Step '" + step + "' reads '" + dependency
+                    + "' without depending on it");
+        }
+        return response;
+    }
+
+    /**
+     * The {@code id} of the record a dependency created or read.
+     */
+    public int id(String dependency) {
+        return response(dependency).jsonPath().getInt("id");
+    }
+
+    public <T> T as(String dependency, Class<T> type) {
+        return response(dependency).as(type);
+    }
+}
@@ -0,0 +1,89 @@
+package workflow;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Steps of a finished {@link Workflow} in declaration order, with the timings needed to tell how close the run
+ * came to its critical path.
+ */
+@Value
+public class WorkflowResult {
+
+    String name;
+    List<StepResult> steps;
+    long elapsedNanos;
+
+    public boolean isSuccessful() {
+        return steps.stream().allMatch(StepResult::isPassed);
+    }
+
+    public StepResult getStep(String step) {
+        return steps.stream()
+                .filter(result -> result.getName().equals(step))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No step '" + step + "' in workflow " + name));
+    }
+
+    public List<StepResult> getFailures() {
+        return steps.stream().filter(step -> !step.isPassed()).collect(Collectors.toList());
+    }
+
+    /**
+     * Time the steps would take one after another, as when the requests are chained by hand.
+     */
+    public long getSerialNanos() {
+        return steps.stream().mapToLong(StepResult::getDurationNanos).sum();
+    }
+
+    /**
+     * The chain of dependent steps with the longest total duration: no scheduling can finish the workflow faster.
+     */
+    public List<String> getCriticalPath() {
+        Map<String, StepResult> byName = new HashMap<>();
+        Map<String, Long> finish = new HashMap<>();
+        Map<String, String> slowestDependency = new HashMap<>();
+        String last = null;
+        for (StepResult step : steps) {
+            byName.put(step.getName(), step);
+            long ready = 0;
+            for (String dependency : step.getDependencies()) {
+                if (finish.get(dependency) > ready) {
+                    ready = finish.get(dependency);
+                    slowestDependency.put(step.getName(), dependency);
+                }
+            }
+            finish.put(step.getName(), ready + step.getDurationNanos());
+            if (last == null || finish.get(step.getName()) > finish.get(last)) {
+                last = step.getName();
+            }
+        }
+        List<String> path = new ArrayList<>();
+        for (String step = last; step != null; step = slowestDependency.get(step)) {
+            path.add(step);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    public long getCriticalPathNanos() {
+        return getCriticalPath().stream().mapToLong(step -> getStep(step).getDurationNanos()).sum();
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%nWorkflow %s: %s in %.1f ms (serial %.1f ms, critical path %.1f ms)%n",
+                name, isSuccessful() ? "passed" : "failed", elapsedNanos / 1e6, getSerialNanos() / 1e6,
+                getCriticalPathNanos() / 1e6));
+        report.append(String.format("%-24s %-8s %11s %11s%n", "step", "status", "start", "duration"));
+        steps.forEach(step -> report.append(step).append(System.lineSeparator()));
+        report.append("critical path: ").append(String.join(" -> ", getCriticalPath()));
+        return report.toString();
+    }
+}
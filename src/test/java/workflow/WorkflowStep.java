@@ -0,0 +1,27 @@
+package workflow;
+
+import io.restassured.response.Response;
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * One request of a {@link Workflow}, issued once every step it depends on has succeeded.
+ */
+@Value
+public class WorkflowStep {
+
+    // Expected status meaning any status below 400
+    public static final int ANY_SUCCESS = 0;
+
+    String name;
+    List<String> dependencies;
+    int expectedStatus;
+    Function<WorkflowContext, CompletableFuture<Response>> request;
+
+    public boolean isSuccess(int statusCode) {
+        return expectedStatus == ANY_SUCCESS ? statusCode >= 200 && statusCode < 400 : statusCode == expectedStatus;
+    }
+}